@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import java.io.OutputStream;
+
+/**
+ * An OutputStream sink that discards its content and counts the bytes written.
+ * Used to measure the stream marshal paths without the cost of a growable
+ * buffer.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public class CountingOutputStream extends OutputStream {
+
+  private long count;
+
+  @Override
+  public void write(int b) {
+    count++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    count += len;
+  }
+
+  /**
+   * Get the number of bytes written.
+   *
+   * @return the byte count
+   */
+  public long getCount() {
+    return count;
+  }
+
+}
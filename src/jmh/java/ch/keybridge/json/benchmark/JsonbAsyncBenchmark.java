@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.JsonbUtility;
+import ch.keybridge.json.Position;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Overhead of the asynchronous JsonbUtility API compared with direct calls on
+ * a small Position document. The {@code direct} executor runs the task on the
+ * calling thread and isolates the CompletableFuture cost; the
+ * {@code default} executor adds the thread hand-off (the common ForkJoinPool,
+ * or virtual threads on Java 21 and later).
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class JsonbAsyncBenchmark {
+
+  /**
+   * The executor used by the asynchronous methods.
+   */
+  @Param({"direct", "default"})
+  private String executor;
+
+  private JsonbUtility jsonbUtility;
+  private Position position;
+  private String json;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    JsonbUtility.Builder builder = JsonbUtility.builder().withFormatting(false);
+    if ("direct".equals(executor)) {
+      builder.withExecutor(Runnable::run);
+    }
+    jsonbUtility = builder.build();
+    position = Payloads.position(new Random(1));
+    json = jsonbUtility.marshal(position);
+  }
+
+  @Benchmark
+  public String marshal() {
+    return jsonbUtility.marshal(position);
+  }
+
+  @Benchmark
+  public String marshalAsync() {
+    return jsonbUtility.marshalAsync(position).join();
+  }
+
+  @Benchmark
+  public Position unmarshal() {
+    return jsonbUtility.unmarshal(json, Position.class);
+  }
+
+  @Benchmark
+  public Position unmarshalAsync() {
+    return jsonbUtility.unmarshalAsync(json, Position.class).join();
+  }
+
+}
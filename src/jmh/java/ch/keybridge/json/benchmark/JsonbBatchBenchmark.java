@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.JsonbBatchResult;
+import ch.keybridge.json.JsonbUtility;
+import ch.keybridge.json.Position;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Scaling of the JsonbUtility batch APIs across worker counts compared with a
+ * sequential loop over the single-item methods. Each operation converts a
+ * batch of small Position documents.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class JsonbBatchBenchmark {
+
+  /**
+   * The number of documents per batch.
+   */
+  @Param({"10000"})
+  private int batchSize;
+  /**
+   * The number of worker threads.
+   */
+  @Param({"1", "2", "4", "8"})
+  private int workers;
+
+  private JsonbUtility jsonbUtility;
+  private ForkJoinPool pool;
+  private List<Position> positions;
+  private List<String> json;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    jsonbUtility = JsonbUtility.builder().withFormatting(false).build();
+    pool = new ForkJoinPool(workers);
+    positions = Arrays.asList(Payloads.positionRecords(batchSize));
+    json = jsonbUtility.marshalAll(positions).getValues();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public List<Position> unmarshalLoop() {
+    List<Position> result = new ArrayList<>(json.size());
+    for (String document : json) {
+      result.add(jsonbUtility.unmarshal(document, Position.class));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public JsonbBatchResult<Position> unmarshalAll() {
+    return jsonbUtility.unmarshalAll(json, Position.class, pool);
+  }
+
+  @Benchmark
+  public List<String> marshalLoop() {
+    List<String> result = new ArrayList<>(positions.size());
+    for (Position position : positions) {
+      result.add(jsonbUtility.marshal(position));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public JsonbBatchResult<String> marshalAll() {
+    return jsonbUtility.marshalAll(positions, pool);
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.JsonbUtility;
+import ch.keybridge.json.Position;
+import ch.keybridge.json.adapter.ext.JsonbBase64CompressedAdapter;
+import ch.keybridge.json.adapter.ext.JsonbCompressor;
+import ch.keybridge.json.adapter.ext.JsonbDictionary;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.json.bind.adapter.JsonbAdapter;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Encode and decode speed of the compressed byte array adapter compared with
+ * the stream-based GZIP and MIME base64 implementation it replaces. The
+ * payload is a single Position record or a JSON array of them. The encoded length is
+ * printed at set-up.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class JsonbCompressionBenchmark {
+
+  /**
+   * The implementation: the legacy GZIP streams, the compressor, or the
+   * compressor with a 4 KB dictionary trained on single records.
+   */
+  @Param({"gzip-stream", "compressor", "dictionary"})
+  private String engine;
+  /**
+   * The number of Position records in the payload.
+   */
+  @Param({"1", "10", "1000"})
+  private int records;
+
+  private JsonbAdapter<byte[], String> adapter;
+  private byte[] bytes;
+  private String text;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    JsonbUtility jsonbUtility = new JsonbUtility();
+    switch (engine) {
+      case "gzip-stream":
+        adapter = new GzipStreamAdapter();
+        break;
+      case "dictionary":
+        /**
+         * Train on records other than the payload.
+         */
+        List<byte[]> samples = new ArrayList<>();
+        Position[] positions = Payloads.positionRecords(records + 500);
+        for (int i = records; i < positions.length; i++) {
+          samples.add(jsonbUtility.marshal(positions[i]).getBytes(StandardCharsets.UTF_8));
+        }
+        JsonbDictionary dictionary = JsonbDictionary.train(1, samples, 4096);
+        adapter = new JsonbBase64CompressedAdapter(JsonbCompressor.builder().withDictionary(dictionary).build());
+        break;
+      default:
+        adapter = new JsonbBase64CompressedAdapter();
+    }
+    Object payload = records == 1 ? Payloads.positionRecords(1)[0] : Payloads.positionRecords(records);
+    bytes = jsonbUtility.marshal(payload).getBytes(StandardCharsets.UTF_8);
+    text = adapter.adaptToJson(bytes);
+    System.out.println(engine + " " + bytes.length + " bytes: " + text.length() + " characters");
+  }
+
+  @Benchmark
+  public String encode() throws Exception {
+    return adapter.adaptToJson(bytes);
+  }
+
+  @Benchmark
+  public byte[] decode() throws Exception {
+    return adapter.adaptFromJson(text);
+  }
+
+  /**
+   * The GZIP stream and MIME base64 implementation of earlier versions.
+   */
+  private static class GzipStreamAdapter implements JsonbAdapter<byte[], String> {
+
+    @Override
+    public String adaptToJson(byte[] obj) throws Exception {
+      ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+      GZIPOutputStream gzipStream = new GZIPOutputStream(byteStream);
+      gzipStream.write(obj);
+      gzipStream.close();
+      return Base64.getMimeEncoder().encodeToString(byteStream.toByteArray());
+    }
+
+    @Override
+    public byte[] adaptFromJson(String obj) throws Exception {
+      GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(Base64.getMimeDecoder().decode(obj)));
+      ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
+      int numBytesRead;
+      byte[] tempBytes = new byte[6000];
+      while ((numBytesRead = gzipStream.read(tempBytes, 0, tempBytes.length)) != -1) {
+        byteOutputStream.write(tempBytes, 0, numBytesRead);
+      }
+      return byteOutputStream.toByteArray();
+    }
+  }
+
+}
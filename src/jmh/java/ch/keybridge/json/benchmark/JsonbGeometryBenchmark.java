@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.adapter.JsonbGeometryAdapter;
+import ch.keybridge.json.adapter.JsonbGeometryCompressedWkbAdapter;
+import ch.keybridge.json.adapter.JsonbGeometryPolylineAdapter;
+import ch.keybridge.json.adapter.JsonbGeometryTwkbAdapter;
+import ch.keybridge.json.adapter.JsonbGeometryWkbAdapter;
+import java.util.concurrent.TimeUnit;
+import javax.json.bind.adapter.JsonbAdapter;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.locationtech.jts.util.GeometricShapeFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Encode and decode speed of the Geometry adapters for circular polygons with
+ * full precision geographic coordinates. The encoded length of each format is
+ * printed at set-up.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class JsonbGeometryBenchmark {
+
+  /**
+   * The encoded format. "wkt-jts" is the JTS WKTReader and WKTWriter, for
+   * comparison with the WKT codec of the JsonbGeometryAdapter.
+   */
+  @Param({"wkt-jts", "wkt", "wkb", "wkb-compressed", "twkb", "polyline"})
+  private String format;
+  /**
+   * The number of polygon vertices.
+   */
+  @Param({"100", "10000"})
+  private int points;
+
+  private JsonbAdapter<Geometry, String> adapter;
+  private Geometry geometry;
+  private String text;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    switch (format) {
+      case "wkb":
+        adapter = new JsonbGeometryWkbAdapter();
+        break;
+      case "wkb-compressed":
+        adapter = new JsonbGeometryCompressedWkbAdapter();
+        break;
+      case "twkb":
+        adapter = new JsonbGeometryTwkbAdapter();
+        break;
+      case "polyline":
+        adapter = new JsonbGeometryPolylineAdapter();
+        break;
+      case "wkt-jts":
+        adapter = new JtsWktAdapter();
+        break;
+      default:
+        adapter = new JsonbGeometryAdapter();
+    }
+    GeometricShapeFactory shapeFactory = new GeometricShapeFactory(new GeometryFactory());
+    shapeFactory.setCentre(new Coordinate(-77.0364, 38.8951));
+    shapeFactory.setSize(0.25);
+    shapeFactory.setNumPoints(points);
+    geometry = shapeFactory.createCircle();
+    text = adapter.adaptToJson(geometry);
+    System.out.println(format + " " + points + " points: " + text.length() + " characters");
+  }
+
+  @Benchmark
+  public String encode() throws Exception {
+    return adapter.adaptToJson(geometry);
+  }
+
+  @Benchmark
+  public Geometry decode() throws Exception {
+    return adapter.adaptFromJson(text);
+  }
+
+  /**
+   * WKT with a new JTS reader and writer per call.
+   */
+  private static class JtsWktAdapter implements JsonbAdapter<Geometry, String> {
+
+    @Override
+    public String adaptToJson(Geometry obj) throws Exception {
+      return new WKTWriter(3).write(obj);
+    }
+
+    @Override
+    public Geometry adaptFromJson(String obj) throws Exception {
+      return new WKTReader().read(obj);
+    }
+  }
+
+}
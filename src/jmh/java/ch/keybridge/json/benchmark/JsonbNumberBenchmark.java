@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.JsonbUtility;
+import ch.keybridge.json.Position;
+import ch.keybridge.json.adapter.ext.JsonbDoubleArrayDeserializer;
+import ch.keybridge.json.adapter.ext.JsonbDoubleDeserializer;
+import ch.keybridge.json.adapter.ext.JsonbLongArrayDeserializer;
+import ch.keybridge.json.adapter.ext.JsonbLongDeserializer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Number-heavy unmarshalling with the default JSON-B number handling compared
+ * with the fast number deserializers. The payloads are an array of Position
+ * records (mostly Double fields) and a coordinate track of double[] and long[]
+ * arrays.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class JsonbNumberBenchmark {
+
+  /**
+   * The number parsing path: the JSON-B default or the fast deserializers.
+   */
+  @Param({"default", "fast"})
+  private String path;
+
+  private JsonbUtility jsonbUtility;
+  private String positionsJson;
+  private String trackJson;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    JsonbUtility.Builder builder = JsonbUtility.builder().withFormatting(false);
+    if ("fast".equals(path)) {
+      builder.withDeserializers(new JsonbDoubleDeserializer(), new JsonbLongDeserializer(),
+                                new JsonbDoubleArrayDeserializer(), new JsonbLongArrayDeserializer());
+    }
+    jsonbUtility = builder.build();
+    positionsJson = jsonbUtility.marshal(Payloads.positionRecords(100));
+    Random r = new Random(42L);
+    Track track = new Track();
+    track.coordinates = new double[2000];
+    track.times = new long[1000];
+    for (int i = 0; i < track.coordinates.length; i++) {
+      track.coordinates[i] = (r.nextDouble() - 0.5) * 360;
+    }
+    for (int i = 0; i < track.times.length; i++) {
+      track.times[i] = 1600000000000L + i * 1000L + r.nextInt(1000);
+    }
+    trackJson = jsonbUtility.marshal(track);
+  }
+
+  @Benchmark
+  public Position[] positions() {
+    return jsonbUtility.unmarshal(positionsJson, Position[].class);
+  }
+
+  @Benchmark
+  public Track track() {
+    return jsonbUtility.unmarshal(trackJson, Track.class);
+  }
+
+  /**
+   * A coordinate track: interleaved longitude and latitude values and their
+   * epoch millisecond times.
+   */
+  public static class Track {
+
+    public double[] coordinates;
+    public long[] times;
+  }
+
+}
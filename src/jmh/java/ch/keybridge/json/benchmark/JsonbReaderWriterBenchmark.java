@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.EventModel;
+import ch.keybridge.json.JsonbReader;
+import ch.keybridge.json.JsonbWriter;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput and latency of the {@code JsonbReader} and {@code JsonbWriter}
+ * String and stream paths using arrays of {@code EventModel} records from 1 KB
+ * to 100 MB.
+ * <p>
+ * The EventModel payload is dominated by ZonedDateTime values and complements
+ * the number-heavy Position payload used in {@code JsonbUtilityBenchmark}.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JsonbReaderWriterBenchmark {
+
+  /**
+   * The approximate serialized payload size in bytes.
+   */
+  @Param({"1024", "102400", "10485760", "104857600"})
+  private int payloadBytes;
+
+  private JsonbReader reader;
+  private JsonbWriter writer;
+  private EventModel[] events;
+  private String json;
+  private byte[] jsonBytes;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    reader = new JsonbReader();
+    writer = new JsonbWriter();
+    events = Payloads.events(payloadBytes);
+    json = writer.marshal(events);
+    jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String writeString() {
+    return writer.marshal(events);
+  }
+
+  @Benchmark
+  public long writeOutputStream() {
+    CountingOutputStream outputStream = new CountingOutputStream();
+    writer.marshal(events, outputStream);
+    return outputStream.getCount();
+  }
+
+  @Benchmark
+  public EventModel[] readString() {
+    return reader.unmarshal(json, EventModel[].class);
+  }
+
+  @Benchmark
+  public EventModel[] readInputStream() {
+    return reader.unmarshal(new ByteArrayInputStream(jsonBytes), EventModel[].class);
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.JsonbUtility;
+import ch.keybridge.json.Position;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput and latency of the {@code JsonbUtility} String and stream paths
+ * using arrays of {@code Position} records from 1 KB to 100 MB.
+ * <p>
+ * Run with the GC profiler (the 'jmh' profile default) to report allocation
+ * rate per operation alongside the timing.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JsonbUtilityBenchmark {
+
+  /**
+   * The approximate serialized payload size in bytes.
+   */
+  @Param({"1024", "102400", "10485760", "104857600"})
+  private int payloadBytes;
+
+  private JsonbUtility jsonbUtility;
+  private Position[] positions;
+  private String json;
+  private byte[] jsonBytes;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    jsonbUtility = new JsonbUtility().withFormatting(false);
+    positions = Payloads.positions(payloadBytes);
+    json = jsonbUtility.marshal(positions);
+    jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String marshalString() {
+    return jsonbUtility.marshal(positions);
+  }
+
+  @Benchmark
+  public long marshalOutputStream() {
+    CountingOutputStream outputStream = new CountingOutputStream();
+    jsonbUtility.marshal(positions, outputStream);
+    return outputStream.getCount();
+  }
+
+  @Benchmark
+  public Position[] unmarshalString() {
+    return jsonbUtility.unmarshal(json, Position[].class);
+  }
+
+  @Benchmark
+  public Position[] unmarshalInputStream() {
+    return jsonbUtility.unmarshal(new ByteArrayInputStream(jsonBytes), Position[].class);
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.benchmark;
+
+import ch.keybridge.json.EventModel;
+import ch.keybridge.json.JsonbWriter;
+import ch.keybridge.json.Position;
+import com.thedeanda.lorem.LoremIpsum;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Random;
+
+/**
+ * Synthetic benchmark payloads built from the test entity classes and the
+ * 'lorem' corpus. Payloads are sized by their serialized (compact JSON) length
+ * so that benchmarks can be compared across the 1 KB to 100 MB range.
+ * <p>
+ * A fixed random seed is used so that each benchmark fork sees the same
+ * content.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public class Payloads {
+
+  private static final LoremIpsum LOREM = new LoremIpsum(42L);
+
+  private Payloads() {
+  }
+
+  /**
+   * Build a random Position record.
+   *
+   * @param r the random source
+   * @return a fully populated Position
+   */
+  public static Position position(Random r) {
+    Position p = new Position();
+    p.setName(LOREM.getCity());
+    p.setLatitude(r.nextInt(90) * r.nextDouble());
+    p.setLongitude(r.nextInt(180) * r.nextDouble());
+    p.setElevation(Math.abs(r.nextInt(3000) * r.nextDouble()));
+    p.setHeading(r.nextInt(360) * 1.0);
+    p.setSpeed(r.nextInt(100) * 1.0);
+    p.setDatum(LOREM.getWords(1));
+    p.setDomTimeStamp(new Date(1600000000000L + r.nextInt(Integer.MAX_VALUE)));
+    p.setAccuracyVertical(r.nextInt(50) * r.nextDouble());
+    p.setSource(LOREM.getWords(1));
+    p.setHaat(r.nextInt(100) * r.nextDouble());
+    return p;
+  }
+
+  /**
+   * Build a random EventModel record.
+   *
+   * @param r the random source
+   * @return a fully populated EventModel
+   */
+  public static EventModel event(Random r) {
+    ZonedDateTime start = ZonedDateTime.parse("2020-07-15T10:15:30Z").plus(r.nextInt(100000), ChronoUnit.MINUTES);
+    return EventModel.getInstance(start,
+                                  start.plus(r.nextInt(48), ChronoUnit.HOURS),
+                                  "FREQ=DAILY;INTERVAL=1;COUNT=" + (1 + r.nextInt(9)) + ";BYDAY=1MO,-2SU");
+  }
+
+  /**
+   * Build an array of Position records whose compact JSON form is
+   * approximately the indicated size.
+   *
+   * @param bytes the target serialized size in bytes
+   * @return an array of Position records
+   */
+  public static Position[] positions(int bytes) {
+    Random r = new Random(42L);
+    Position[] positions = new Position[count(position(r), bytes)];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = position(r);
+    }
+    return positions;
+  }
+
+  /**
+   * Build an array of the indicated number of Position records.
+   *
+   * @param count the number of records
+   * @return an array of Position records
+   */
+  public static Position[] positionRecords(int count) {
+    Random r = new Random(42L);
+    Position[] positions = new Position[count];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = position(r);
+    }
+    return positions;
+  }
+
+  /**
+   * Build an array of EventModel records whose compact JSON form is
+   * approximately the indicated size.
+   *
+   * @param bytes the target serialized size in bytes
+   * @return an array of EventModel records
+   */
+  public static EventModel[] events(int bytes) {
+    Random r = new Random(42L);
+    EventModel[] events = new EventModel[count(event(r), bytes)];
+    for (int i = 0; i < events.length; i++) {
+      events[i] = event(r);
+    }
+    return events;
+  }
+
+  /**
+   * Estimate the number of records required to reach the target size.
+   *
+   * @param sample a sample record
+   * @param bytes  the target serialized size in bytes
+   * @return the record count, at least one
+   */
+  private static int count(Object sample, int bytes) {
+    int recordSize = new JsonbWriter().marshal(sample).getBytes(StandardCharsets.UTF_8).length + 1;
+    return Math.max(1, bytes / recordSize);
+  }
+
+}
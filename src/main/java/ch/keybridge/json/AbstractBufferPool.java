@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Common buffer pool statistics and sizing. Buffers are allocated in power of
+ * two lengths between {@link #MIN_LENGTH} and {@link #MAX_LENGTH} so that
+ * recycled buffers fit later requests of a similar size. Buffers larger than
+ * {@link #MAX_LENGTH} are allocated on demand and never retained.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+abstract class AbstractBufferPool implements JsonbBufferPool {
+
+  /**
+   * The minimum buffer length allocated by the pool.
+   */
+  static final int MIN_LENGTH = 256;
+  /**
+   * The maximum buffer length retained by the pool. 4M elements.
+   */
+  static final int MAX_LENGTH = 1 << 22;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Record a pool hit.
+   *
+   * @param <A>    the buffer type
+   * @param buffer the pooled buffer
+   * @return the pooled buffer
+   */
+  final <A> A hit(A buffer) {
+    hits.increment();
+    return buffer;
+  }
+
+  /**
+   * Record a pool miss and allocate a new char buffer.
+   *
+   * @param minLength the minimum buffer length
+   * @return a new buffer
+   */
+  final char[] allocateChars(int minLength) {
+    misses.increment();
+    return new char[allocationLength(minLength)];
+  }
+
+  /**
+   * Record a pool miss and allocate a new byte buffer.
+   *
+   * @param minLength the minimum buffer length
+   * @return a new buffer
+   */
+  final byte[] allocateBytes(int minLength) {
+    misses.increment();
+    return new byte[allocationLength(minLength)];
+  }
+
+  /**
+   * Get the length to allocate for a request: the next power of two, bounded
+   * below by {@link #MIN_LENGTH}. Requests beyond {@link #MAX_LENGTH} are
+   * allocated exactly.
+   *
+   * @param minLength the minimum buffer length
+   * @return the allocation length
+   */
+  static int allocationLength(int minLength) {
+    if (minLength <= MIN_LENGTH) {
+      return MIN_LENGTH;
+    }
+    if (minLength > MAX_LENGTH) {
+      return minLength;
+    }
+    return Integer.highestOneBit(minLength - 1) << 1;
+  }
+
+  /**
+   * Determine if a buffer of the indicated length may be retained.
+   *
+   * @param length the buffer length
+   * @return true if the buffer may be pooled
+   */
+  static boolean isRetained(int length) {
+    return length >= MIN_LENGTH && length <= MAX_LENGTH;
+  }
+
+  @Override
+  public final long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public final long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " hits [" + getHits() + "] misses [" + getMisses() + "]";
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes encoded output buffers to an asynchronous channel. Each write is
+ * issued from the completion handler of the previous one, so partial writes
+ * are resumed without blocking any thread. The buffers are released when the
+ * write completes or fails.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+abstract class AsyncChannelWrite<V extends Number> implements CompletionHandler<V, Void> {
+
+  /**
+   * The encoded output; flipped buffers.
+   */
+  final DirectBufferWriter output;
+  final ByteBuffer[] buffers;
+  final CompletableFuture<Long> future = new CompletableFuture<>();
+  /**
+   * The index of the first buffer with bytes remaining.
+   */
+  int index;
+  long count;
+
+  private AsyncChannelWrite(DirectBufferWriter output) {
+    this.output = output;
+    List<ByteBuffer> list = output.getBuffers();
+    this.buffers = list.toArray(new ByteBuffer[list.size()]);
+  }
+
+  /**
+   * Write the output to an asynchronous byte channel. Socket channels use
+   * gathering writes.
+   *
+   * @param channel the destination channel
+   * @param output  the closed output writer
+   * @return a future completing with the number of bytes written
+   */
+  static CompletableFuture<Long> write(AsynchronousByteChannel channel, DirectBufferWriter output) {
+    AsyncChannelWrite<?> write = channel instanceof AsynchronousSocketChannel
+                                 ? new GatheringWrite((AsynchronousSocketChannel) channel, output)
+                                 : new ByteChannelWrite(channel, output);
+    write.next();
+    return write.future;
+  }
+
+  /**
+   * Write the output to an asynchronous file channel.
+   *
+   * @param channel  the destination channel
+   * @param position the file position at which to write
+   * @param output   the closed output writer
+   * @return a future completing with the number of bytes written
+   */
+  static CompletableFuture<Long> write(AsynchronousFileChannel channel, long position, DirectBufferWriter output) {
+    FileWrite write = new FileWrite(channel, position, output);
+    write.next();
+    return write.future;
+  }
+
+  /**
+   * Issue the next write, or complete the future if every byte is written.
+   */
+  final void next() {
+    while (index < buffers.length && !buffers[index].hasRemaining()) {
+      index++;
+    }
+    if (index == buffers.length) {
+      output.release();
+      future.complete(count);
+      return;
+    }
+    try {
+      write();
+    } catch (RuntimeException ex) {
+      failed(ex, null);
+    }
+  }
+
+  /**
+   * Issue a write of the remaining bytes starting at the current index.
+   */
+  abstract void write();
+
+  @Override
+  public final void completed(V result, Void attachment) {
+    count += result.longValue();
+    next();
+  }
+
+  @Override
+  public final void failed(Throwable exc, Void attachment) {
+    output.release();
+    future.completeExceptionally(exc);
+  }
+
+  private static final class ByteChannelWrite extends AsyncChannelWrite<Integer> {
+
+    private final AsynchronousByteChannel channel;
+
+    ByteChannelWrite(AsynchronousByteChannel channel, DirectBufferWriter output) {
+      super(output);
+      this.channel = channel;
+    }
+
+    @Override
+    void write() {
+      channel.write(buffers[index], null, this);
+    }
+  }
+
+  private static final class GatheringWrite extends AsyncChannelWrite<Long> {
+
+    private final AsynchronousSocketChannel channel;
+
+    GatheringWrite(AsynchronousSocketChannel channel, DirectBufferWriter output) {
+      super(output);
+      this.channel = channel;
+    }
+
+    @Override
+    void write() {
+      int length = Math.min(buffers.length - index, DirectBufferWriter.GATHER);
+      channel.write(buffers, index, length, 0L, TimeUnit.MILLISECONDS, null, this);
+    }
+  }
+
+  private static final class FileWrite extends AsyncChannelWrite<Integer> {
+
+    private final AsynchronousFileChannel channel;
+    private final long position;
+
+    FileWrite(AsynchronousFileChannel channel, long position, DirectBufferWriter output) {
+      super(output);
+      this.channel = channel;
+      this.position = position;
+    }
+
+    @Override
+    void write() {
+      channel.write(buffers[index], position + count, null, this);
+    }
+  }
+
+}
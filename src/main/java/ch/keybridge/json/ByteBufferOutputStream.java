@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An OutputStream view of a ByteBuffer. Writes advance the buffer position.
+ * The buffer does not grow: a write beyond its limit throws
+ * {@code BufferOverflowException}.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class ByteBufferOutputStream extends OutputStream {
+
+  private final ByteBuffer buffer;
+
+  /**
+   * Construct a new stream writing at the buffer position.
+   *
+   * @param buffer the destination buffer
+   */
+  ByteBufferOutputStream(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public void write(int b) throws BufferOverflowException {
+    buffer.put((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws BufferOverflowException {
+    buffer.put(b, off, len);
+  }
+
+}
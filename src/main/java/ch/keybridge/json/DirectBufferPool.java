@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide pool of fixed-size direct ByteBuffers used for channel output.
+ * Direct buffers are costly to allocate and are released only by the garbage
+ * collector, so they are recycled rather than allocated per call. At most
+ * {@link #CAPACITY} buffers are retained; buffers recycled beyond that are
+ * dropped.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+final class DirectBufferPool {
+
+  /**
+   * The size of each buffer. 64 KB.
+   */
+  static final int BUFFER_SIZE = 64 * 1024;
+  /**
+   * The maximum number of retained buffers (4 MB).
+   */
+  static final int CAPACITY = 64;
+
+  private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger SIZE = new AtomicInteger();
+
+  private DirectBufferPool() {
+  }
+
+  /**
+   * Take a cleared direct buffer of {@link #BUFFER_SIZE} bytes.
+   *
+   * @return a direct buffer
+   */
+  static ByteBuffer take() {
+    ByteBuffer buffer = POOL.poll();
+    if (buffer == null) {
+      return ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+    SIZE.decrementAndGet();
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Return a buffer to the pool.
+   *
+   * @param buffer a buffer obtained from {@link #take()}
+   */
+  static void recycle(ByteBuffer buffer) {
+    if (SIZE.incrementAndGet() <= CAPACITY) {
+      POOL.offer(buffer);
+    } else {
+      SIZE.decrementAndGet();
+    }
+  }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A Writer that encodes chars straight into pooled direct ByteBuffers.
+ * <p>
+ * With a channel, up to {@link #GATHER} buffers are filled and then written
+ * with a single gathering write. Encoding does not continue until every byte
+ * has been accepted by the channel, so a slow channel applies backpressure to
+ * the producer. Without a channel, encoded output accumulates in buffers up to
+ * a maximum size and is handed to an asynchronous channel afterwards.
+ * <p>
+ * {@link #close()} completes the encoding (and, with a channel, writes the
+ * remaining bytes) but does not close the channel. {@link #release()} returns
+ * the buffers to the pool. Not thread safe.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class DirectBufferWriter extends Writer {
+
+  /**
+   * The number of buffers written per gathering write.
+   */
+  static final int GATHER = 4;
+
+  private final WritableByteChannel channel;
+  /**
+   * The maximum number of bytes accumulated without a channel.
+   */
+  private final long maxSize;
+  private final CharsetEncoder encoder;
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+  /**
+   * A high surrogate left over from the previous write, waiting for its low
+   * surrogate.
+   */
+  private final CharBuffer carry = CharBuffer.allocate(2);
+  private ByteBuffer current;
+  /**
+   * The index of the current buffer.
+   */
+  private int index;
+  private long count;
+  private boolean closed;
+  private boolean overflow;
+
+  /**
+   * Construct a writer draining to a blocking channel.
+   *
+   * @param channel the destination channel; null to accumulate the output
+   * @param charset the output encoding
+   */
+  DirectBufferWriter(WritableByteChannel channel, Charset charset) {
+    this(channel, charset, Long.MAX_VALUE);
+  }
+
+  /**
+   * Construct a writer accumulating its output.
+   *
+   * @param charset the output encoding
+   * @param maxSize the maximum number of bytes accumulated, rounded up to a
+   *                whole buffer
+   */
+  DirectBufferWriter(Charset charset, long maxSize) {
+    this(null, charset, maxSize);
+  }
+
+  private DirectBufferWriter(WritableByteChannel channel, Charset charset, long maxSize) {
+    this.channel = channel;
+    this.maxSize = maxSize;
+    this.encoder = charset.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.current = DirectBufferPool.take();
+    buffers.add(current);
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    write(new char[]{(char) c}, 0, 1);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    write(CharBuffer.wrap(cbuf, off, len));
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    write(CharBuffer.wrap(str, off, off + len));
+  }
+
+  /**
+   * Internal method to encode chars, carrying a trailing high surrogate over
+   * to the next write.
+   */
+  private void write(CharBuffer in) throws IOException {
+    if (carry.position() > 0 && in.hasRemaining()) {
+      carry.put(in.get());
+      carry.flip();
+      encode(carry, false);
+      carry.clear();
+    }
+    encode(in, false);
+    if (in.hasRemaining()) {
+      carry.put(in);
+    }
+  }
+
+  /**
+   * Internal method to encode chars into the buffers.
+   */
+  private void encode(CharBuffer in, boolean endOfInput) throws IOException {
+    for (;;) {
+      CoderResult result = encoder.encode(in, current, endOfInput);
+      if (result.isUnderflow()) {
+        return;
+      }
+      if (result.isOverflow()) {
+        nextBuffer();
+      } else {
+        result.throwException();
+      }
+    }
+  }
+
+  /**
+   * Internal method to move on to the next buffer, draining the filled
+   * buffers to the channel if the gather limit is reached.
+   *
+   * @throws IOException on channel write error, or if the accumulated output
+   *                     would exceed the maximum size
+   */
+  private void nextBuffer() throws IOException {
+    if (index + 1 < buffers.size()) {
+      index++;
+    } else if (channel != null && buffers.size() == GATHER) {
+      drain();
+      index = 0;
+    } else {
+      if (channel == null && (long) buffers.size() * DirectBufferPool.BUFFER_SIZE >= maxSize) {
+        overflow = true;
+        throw new IOException("Encoded output exceeds the maximum " + maxSize + " bytes");
+      }
+      buffers.add(DirectBufferPool.take());
+      index++;
+    }
+    current = buffers.get(index);
+  }
+
+  /**
+   * Internal method to write all buffered bytes to the channel and clear the
+   * buffers. Retries until the channel has accepted every byte; a channel in
+   * non-blocking mode that accepts nothing is polled with a short pause.
+   */
+  private void drain() throws IOException {
+    ByteBuffer[] sources = buffers.toArray(new ByteBuffer[buffers.size()]);
+    long remaining = 0;
+    for (ByteBuffer source : sources) {
+      source.flip();
+      remaining += source.remaining();
+    }
+    while (remaining > 0) {
+      long written;
+      if (channel instanceof GatheringByteChannel) {
+        written = ((GatheringByteChannel) channel).write(sources);
+      } else {
+        written = writeInOrder(sources);
+      }
+      if (written == 0) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+      }
+      remaining -= written;
+      count += written;
+    }
+    for (ByteBuffer source : sources) {
+      source.clear();
+    }
+  }
+
+  /**
+   * Internal method to write the buffers in order to a channel that does not
+   * gather. Stops at the first buffer the channel does not fully accept, so
+   * that a later buffer never overtakes the unwritten rest of an earlier one.
+   *
+   * @return the number of bytes written
+   */
+  private long writeInOrder(ByteBuffer[] sources) throws IOException {
+    long written = 0;
+    for (ByteBuffer source : sources) {
+      while (source.hasRemaining()) {
+        int n = channel.write(source);
+        if (n == 0) {
+          return written;
+        }
+        written += n;
+      }
+    }
+    return written;
+  }
+
+  /**
+   * Get the number of bytes encoded. With a channel this is the number of
+   * bytes written once the writer is closed.
+   *
+   * @return the byte count
+   */
+  long getCount() {
+    if (channel != null) {
+      return count;
+    }
+    long total = 0;
+    for (ByteBuffer buffer : buffers) {
+      total += closed ? buffer.remaining() : buffer.position();
+    }
+    return total;
+  }
+
+  /**
+   * Test if the accumulated output exceeded the maximum size.
+   *
+   * @return true if encoding failed on the size limit
+   */
+  boolean isOverflow() {
+    return overflow;
+  }
+
+  /**
+   * Get the encoded output. Only valid without a channel, after close. The
+   * buffers are flipped and ready to be written.
+   *
+   * @return the output buffers
+   */
+  List<ByteBuffer> getBuffers() {
+    return buffers;
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  /**
+   * Complete the encoding. With a channel, write the remaining bytes; the
+   * channel is not closed. Without a channel, flip the buffers for reading.
+   *
+   * @throws IOException on channel write error
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (carry.position() > 0) {
+      carry.flip();
+      encode(carry, true);
+      carry.clear();
+    } else {
+      encode(CharBuffer.allocate(0), true);
+    }
+    while (encoder.flush(current).isOverflow()) {
+      nextBuffer();
+    }
+    if (channel != null) {
+      drain();
+    } else {
+      buffers.forEach(ByteBuffer::flip);
+    }
+  }
+
+  /**
+   * Return the buffers to the pool. The writer and its buffers may not be
+   * used afterwards.
+   */
+  void release() {
+    buffers.forEach(DirectBufferPool::recycle);
+    buffers.clear();
+  }
+
+}
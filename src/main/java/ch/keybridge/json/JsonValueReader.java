@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import javax.json.bind.JsonbException;
+
+/**
+ * A Reader view of one JSON value at a time from an underlying character
+ * source.
+ * <p>
+ * The reader scans the characters it passes through (tracking nesting depth
+ * and string state) and reports end-of-input at the end of the current JSON
+ * value. Call {@link #next()} to advance to the following value. This lets the
+ * standard {@code Jsonb.fromJson(Reader, ...)} methods bind one value of a
+ * larger document without first copying it into a String.
+ * <p>
+ * Two layouts are supported: the elements of a single top-level JSON array, or
+ * a sequence of top-level JSON values separated by optional whitespace
+ * (concatenated JSON, which includes newline-delimited JSON).
+ * <p>
+ * {@link #close()} does nothing, since the JSON-B provider closes the reader
+ * after binding each value; use {@link #closeSource()} to close the underlying
+ * source.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class JsonValueReader extends Reader {
+
+  private final Reader source;
+  private final char[] buffer = new char[8192];
+  private int position;
+  private int limit;
+  /**
+   * True to read the elements of a top-level array, false to read a sequence
+   * of top-level values.
+   */
+  private final boolean arrayElements;
+  private boolean arrayOpened;
+  private boolean arrayClosed;
+  private long count;
+  /**
+   * Scanning state of the current value.
+   */
+  private boolean inValue;
+  private int depth;
+  private boolean inString;
+  private boolean escape;
+  private boolean scalar;
+
+  /**
+   * Construct a new value reader.
+   *
+   * @param source        the underlying character source
+   * @param arrayElements true to read the elements of a top-level array, false
+   *                      to read a sequence of top-level values
+   */
+  JsonValueReader(Reader source, boolean arrayElements) {
+    this.source = source;
+    this.arrayElements = arrayElements;
+  }
+
+  /**
+   * Advance to the next value. Any unread remainder of the current value is
+   * skipped.
+   *
+   * @return true if a value is available, false at the end of the array or
+   *         input
+   * @throws IOException    on read error
+   * @throws JsonbException if the input is not of the expected layout
+   */
+  boolean next() throws IOException {
+    if (inValue) {
+      skip(Long.MAX_VALUE);
+    }
+    if (arrayClosed) {
+      return false;
+    }
+    int c = peek();
+    if (arrayElements) {
+      if (!arrayOpened) {
+        if (c != '[') {
+          throw new JsonbException("Expected a JSON array but found " + describe(c));
+        }
+        position++;
+        arrayOpened = true;
+        c = peek();
+      } else if (c == ',') {
+        position++;
+        c = peek();
+        if (c == ']') {
+          throw new JsonbException("Expected a JSON array element after ',' but found ']'");
+        }
+      } else if (c != ']') {
+        throw new JsonbException("Expected ',' or ']' after array element " + count + " but found " + describe(c));
+      }
+      if (c == ']') {
+        position++;
+        arrayClosed = true;
+        return false;
+      }
+      if (c < 0) {
+        throw new JsonbException("Unexpected end of input in JSON array after element " + count);
+      }
+    } else if (c < 0) {
+      return false;
+    }
+    inValue = true;
+    depth = 0;
+    inString = false;
+    escape = false;
+    scalar = false;
+    count++;
+    return true;
+  }
+
+  /**
+   * Get the number of values returned by {@link #next()}.
+   *
+   * @return the value count
+   */
+  long getCount() {
+    return count;
+  }
+
+  /**
+   * {@inheritDoc} Reads characters of the current value only. Returns -1 at
+   * the end of the current value.
+   */
+  @Override
+  public int read(char[] cbuf, int off, int len) throws IOException {
+    if (!inValue) {
+      return -1;
+    }
+    int n = 0;
+    while (n < len && inValue) {
+      if (position == limit && !fill()) {
+        inValue = false;
+        break;
+      }
+      char c = buffer[position];
+      if (inString) {
+        if (escape) {
+          escape = false;
+        } else if (c == '\\') {
+          escape = true;
+        } else if (c == '"') {
+          inString = false;
+          inValue = depth > 0;
+        }
+      } else if (scalar) {
+        if (isDelimiter(c)) {
+          inValue = false;
+          break;
+        }
+      } else {
+        switch (c) {
+          case '{':
+          case '[':
+            depth++;
+            break;
+          case '}':
+          case ']':
+            if (depth == 0) {
+              inValue = false;
+              continue;
+            }
+            inValue = --depth > 0;
+            break;
+          case '"':
+            inString = true;
+            break;
+          default:
+            scalar = depth == 0 && !isWhitespace(c);
+        }
+      }
+      cbuf[off + n++] = c;
+      position++;
+    }
+    return n == 0 && !inValue && len > 0 ? -1 : n;
+  }
+
+  /**
+   * {@inheritDoc} Does nothing. Use {@link #closeSource()} to close the
+   * underlying source.
+   */
+  @Override
+  public void close() {
+  }
+
+  /**
+   * Close the underlying character source.
+   *
+   * @throws IOException on close error
+   */
+  void closeSource() throws IOException {
+    source.close();
+  }
+
+  /**
+   * Internal method to skip whitespace and peek at the next character.
+   *
+   * @return the next non-whitespace character, or -1 at end of input
+   */
+  private int peek() throws IOException {
+    while (true) {
+      if (position == limit && !fill()) {
+        return -1;
+      }
+      char c = buffer[position];
+      if (!isWhitespace(c)) {
+        return c;
+      }
+      position++;
+    }
+  }
+
+  /**
+   * Internal method to refill the buffer.
+   *
+   * @return false at end of input
+   */
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = source.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    position = 0;
+    limit = Math.max(read, 0);
+    return read > 0;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+  }
+
+  /**
+   * A character that terminates a top-level scalar value (number or literal).
+   */
+  private static boolean isDelimiter(char c) {
+    return isWhitespace(c) || c == ',' || c == ']' || c == '}' || c == '[' || c == '{' || c == '"';
+  }
+
+  private static String describe(int c) {
+    return c < 0 ? "end of input" : "'" + (char) c + "'";
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbException;
+
+/**
+ * Iterator over the elements of a top-level JSON array. Elements are bound one
+ * at a time as the iterator advances, so memory use is bounded by the size of
+ * the largest element rather than the size of the document.
+ * <p>
+ * Instances are created by {@code JsonbReader.openArray} or
+ * {@code JsonbReader.stream}. The same iterator also backs
+ * {@code JsonbReader.readValues}, where the input is a sequence of
+ * concatenated documents rather than an array. Close the iterator (or the stream) to close the
+ * underlying input. Instances are not thread-safe.
+ *
+ * @author Key Bridge
+ * @param <T> the array element type
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbArrayReader<T> implements Iterator<T>, Closeable {
+
+  private final Jsonb jsonb;
+  private final JsonValueReader reader;
+  private final Class<T> type;
+  /**
+   * The look-ahead state. Null if the next element has not been checked.
+   */
+  private Boolean hasNext;
+
+  /**
+   * Construct a new array reader.
+   *
+   * @param jsonb  the Jsonb instance used to bind each element
+   * @param reader the value reader positioned before the array
+   * @param type   the array element type
+   */
+  JsonbArrayReader(Jsonb jsonb, JsonValueReader reader, Class<T> type) {
+    this.jsonb = jsonb;
+    this.reader = reader;
+    this.type = type;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws JsonbException       if the input is not a JSON array
+   * @throws UncheckedIOException on read error
+   */
+  @Override
+  public boolean hasNext() {
+    if (hasNext == null) {
+      try {
+        hasNext = reader.next();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+    return hasNext;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws JsonbException if the element cannot be bound to the element type
+   */
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    hasNext = null;
+    return jsonb.fromJson(reader, type);
+  }
+
+  /**
+   * Get the array elements as a sequential, ordered Stream. Closing the stream
+   * closes this reader and the underlying input.
+   *
+   * @return a stream of array elements
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+      .onClose(() -> {
+        try {
+          close();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+  }
+
+  /**
+   * {@inheritDoc} Closes the underlying input.
+   */
+  @Override
+  public void close() throws IOException {
+    reader.closeSource();
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.*;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbException;
+
+/**
+ * Incremental writer of a single top-level JSON array. Elements are serialized
+ * one at a time as they are written, so memory use is bounded by the size of
+ * the largest element rather than the size of the array. Use this to stream
+ * database cursors, large exports and chunked HTTP responses.
+ * <p>
+ * All elements are written through one shared, buffered character writer.
+ * {@link #flush()} pushes buffered output to the underlying stream (e.g. to
+ * emit an HTTP chunk). {@link #close()} terminates the array and flushes, but
+ * does not close the underlying stream: the stream remains owned by the
+ * caller.
+ * <p>
+ * Instances are created by {@code JsonbWriter.openArray}. Instances are not
+ * thread-safe.
+ *
+ * @author Key Bridge
+ * @param <T> the array element type
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbArrayWriter<T> implements Flushable, Closeable {
+
+  /**
+   * The indentation of a formatted element, as written by the JSON-B provider.
+   */
+  private static final String INDENT = "    ";
+
+  private final Jsonb jsonb;
+  /**
+   * The shared buffered writer. Closing the writer (as the JSON-B provider
+   * does after each element) is ignored.
+   */
+  private final Writer writer;
+  private final boolean formatted;
+  private long count;
+  private boolean closed;
+  /**
+   * True once an element failed to write. The output may hold part of the
+   * element, so the array cannot be continued or terminated.
+   */
+  private boolean failed;
+
+  /**
+   * Construct a new array writer and write the array start.
+   *
+   * @param jsonb     the Jsonb instance used to serialize each element
+   * @param writer    the character output
+   * @param formatted true if the output is formatted
+   */
+  JsonbArrayWriter(Jsonb jsonb, Writer writer, boolean formatted) {
+    this.jsonb = jsonb;
+    this.writer = new FilterWriter(new BufferedWriter(writer)) {
+      @Override
+      public void close() {
+      }
+    };
+    this.formatted = formatted;
+    try {
+      this.writer.write('[');
+    } catch (IOException ex) {
+      throw new JsonbException("Array write error. " + ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Write one array element. If formatting is enabled the element is
+   * serialized in full, then indented one level.
+   * <p>
+   * If an element cannot be written the output may hold part of it: the
+   * writer is then failed and rejects further writes and {@link #close()}.
+   *
+   * @param element the element; may be null
+   * @return this writer
+   * @throws JsonbException if the element cannot be serialized, on write
+   *                        error, or if the writer is closed or failed
+   */
+  public JsonbArrayWriter<T> write(T element) {
+    if (failed) {
+      throw new JsonbException("Array writer failed; the array is incomplete");
+    }
+    if (closed) {
+      throw new JsonbException("Array writer is closed");
+    }
+    try {
+      if (count > 0) {
+        writer.write(',');
+      }
+      if (formatted) {
+        writer.write('\n');
+        writer.write(INDENT);
+        writer.write(element == null ? "null" : indent(jsonb.toJson(element)));
+      } else if (element == null) {
+        writer.write("null");
+      } else {
+        jsonb.toJson(element, writer);
+      }
+    } catch (IOException ex) {
+      failed = true;
+      throw new JsonbException("Array write error. " + ex.getMessage(), ex);
+    } catch (RuntimeException ex) {
+      failed = true;
+      throw ex;
+    }
+    count++;
+    return this;
+  }
+
+  /**
+   * Get the number of elements written.
+   *
+   * @return the element count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * {@inheritDoc} Flushes buffered output to the underlying stream.
+   */
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  /**
+   * {@inheritDoc} Writes the array end and flushes. The underlying stream is
+   * not closed.
+   *
+   * @throws IOException on write error, or if an element failed to write and
+   *                     the array is incomplete
+   */
+  @Override
+  public void close() throws IOException {
+    if (failed) {
+      throw new IOException("Array writer failed; the array is incomplete");
+    }
+    if (!closed) {
+      closed = true;
+      writer.write(formatted && count > 0 ? "\n]" : "]");
+      writer.flush();
+    }
+  }
+
+  /**
+   * Internal method to indent a formatted element one level. The JSON-B
+   * provider starts a formatted object or array with a line feed, which is
+   * removed. Line feeds only occur between tokens: a line feed inside a
+   * string value is escaped.
+   */
+  private static String indent(String json) {
+    return (json.startsWith("\n") ? json.substring(1) : json).replace("\n", "\n" + INDENT);
+  }
+
+}
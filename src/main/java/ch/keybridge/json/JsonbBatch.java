@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+import javax.json.bind.JsonbException;
+
+/**
+ * Parallel batch execution support for JsonbUtility.
+ * <p>
+ * The input list is split into contiguous chunks, several per worker so that
+ * uneven item sizes still balance, and each chunk is processed as one task on
+ * the executor. The number of workers is taken from the caller, else from the
+ * executor when it is a ForkJoinPool or ThreadPoolExecutor, else from the
+ * number of available processors. Results are written by input position so
+ * order is preserved without sorting. Each item is isolated: an exception is
+ * recorded against its position and processing continues.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class JsonbBatch {
+
+  /**
+   * The number of chunks created per worker, so that a worker that finishes
+   * early can pick up part of a slower worker's share.
+   */
+  private static final int CHUNKS_PER_WORKER = 4;
+  /**
+   * The minimum number of items per chunk. Smaller chunks are not worth the
+   * task hand-off.
+   */
+  private static final int MIN_CHUNK_SIZE = 32;
+
+  private JsonbBatch() {
+  }
+
+  /**
+   * Apply a function to each item of a list in parallel.
+   *
+   * @param <S>         the input type
+   * @param <R>         the result type
+   * @param items       the input items
+   * @param function    the function to apply to each item
+   * @param executor    the executor; use the common ForkJoinPool if null
+   * @param parallelism the number of workers to split the batch for; taken
+   *                    from the executor if zero or negative
+   * @return the batch result in input order
+   */
+  @SuppressWarnings("unchecked")
+  static <S, R> JsonbBatchResult<R> apply(List<S> items, Function<S, R> function, Executor executor, int parallelism) {
+    List<S> list = items instanceof RandomAccess ? items : new ArrayList<>(items);
+    int size = list.size();
+    R[] values = (R[]) new Object[size];
+    JsonbException[] errors = new JsonbException[size];
+    Executor target = executor == null ? ForkJoinPool.commonPool() : executor;
+    /**
+     * Bound the workers by the batch size so that an unbounded pool cannot
+     * overflow the chunk count.
+     */
+    int workers = Math.max(1, Math.min(size, parallelism > 0 ? parallelism : getParallelism(target)));
+    int chunkSize = workers == 1
+                    ? Math.max(1, size)
+                    : Math.max(MIN_CHUNK_SIZE, size / (workers * CHUNKS_PER_WORKER) + 1);
+    /**
+     * Only the default pool is bypassed for small batches. A caller-supplied
+     * executor always runs the work, since it may carry context, limits or
+     * accounting that the caller thread does not.
+     */
+    if (executor == null && (size <= chunkSize || workers == 1)) {
+      process(list, function, values, errors, 0, size);
+      return new JsonbBatchResult<>(values, errors);
+    }
+    List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    for (int from = 0; from < size; from += chunkSize) {
+      int start = from;
+      int end = Math.min(size, from + chunkSize);
+      tasks.add(CompletableFuture.runAsync(() -> process(list, function, values, errors, start, end), target));
+    }
+    CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()])).join();
+    return new JsonbBatchResult<>(values, errors);
+  }
+
+  /**
+   * Internal method to get the number of workers an executor provides.
+   */
+  private static int getParallelism(Executor executor) {
+    if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+    if (executor instanceof ThreadPoolExecutor) {
+      return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Internal method to process one chunk.
+   */
+  private static <S, R> void process(List<S> items, Function<S, R> function, R[] values, JsonbException[] errors, int from, int to) {
+    for (int i = from; i < to; i++) {
+      try {
+        values[i] = function.apply(items.get(i));
+      } catch (JsonbException ex) {
+        errors[i] = ex;
+      } catch (RuntimeException ex) {
+        errors[i] = new JsonbException(ex.getMessage(), ex);
+      }
+    }
+  }
+
+}
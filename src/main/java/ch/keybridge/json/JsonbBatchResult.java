@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.*;
+import javax.json.bind.JsonbException;
+
+/**
+ * The result of a batch marshal or unmarshal operation.
+ * <p>
+ * Items are processed independently: a failure of one item does not abort the
+ * batch. Results are held in input order, with a null value and a recorded
+ * error at the position of each failed item.
+ *
+ * @author Key Bridge
+ * @param <T> the result type
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbBatchResult<T> {
+
+  private final List<T> values;
+  private final SortedMap<Integer, JsonbException> errors;
+
+  /**
+   * Construct a new batch result.
+   *
+   * @param values the values in input order; null for failed items
+   * @param errors the errors in input order; null for successful items
+   */
+  JsonbBatchResult(T[] values, JsonbException[] errors) {
+    this.values = Collections.unmodifiableList(Arrays.asList(values));
+    SortedMap<Integer, JsonbException> errorMap = new TreeMap<>();
+    for (int i = 0; i < errors.length; i++) {
+      if (errors[i] != null) {
+        errorMap.put(i, errors[i]);
+      }
+    }
+    this.errors = Collections.unmodifiableSortedMap(errorMap);
+  }
+
+  /**
+   * Get the results in input order. The value of a failed item is null.
+   *
+   * @return an unmodifiable list of results
+   */
+  public List<T> getValues() {
+    return values;
+  }
+
+  /**
+   * Get the result at the indicated position.
+   *
+   * @param index the input position
+   * @return the result, or null if the item failed
+   */
+  public T get(int index) {
+    return values.get(index);
+  }
+
+  /**
+   * Get the errors keyed by input position.
+   *
+   * @return an unmodifiable, sorted map of errors. Empty if all items
+   *         succeeded.
+   */
+  public SortedMap<Integer, JsonbException> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Determine if every item succeeded.
+   *
+   * @return true if there are no errors
+   */
+  public boolean isSuccess() {
+    return errors.isEmpty();
+  }
+
+  /**
+   * Get the number of items in the batch.
+   *
+   * @return the batch size
+   */
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public String toString() {
+    return "JsonbBatchResult{" + "size=" + values.size() + ", errors=" + errors.size() + '}';
+  }
+
+}
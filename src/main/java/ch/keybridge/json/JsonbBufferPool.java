@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+/**
+ * A pool of reusable char and byte buffers.
+ * <p>
+ * When a buffer pool is configured, marshal and unmarshal operations borrow
+ * their working buffers from the pool instead of allocating fresh growable
+ * buffers on every call. This covers the output buffers used by
+ * {@code JsonbWriter} and the char buffers of the JSON-P parser and generator,
+ * which are supplied through the Glassfish {@code BufferPool} hook. At high
+ * message rates this removes most of the short-lived garbage produced by JSON
+ * processing.
+ * <p>
+ * Enable a pool with {@code withBufferPool} on a reader, writer or utility
+ * builder, or set the {@link #PROPERTY} configuration property. Two
+ * implementations are provided: {@link ThreadLocalBufferPool}, which keeps a
+ * few small buffers per platform thread with no contention, and
+ * {@link SharedBufferPool}, a pool of small buffers shared by all threads.
+ * <p>
+ * Implementations must be thread safe. A buffer handed out by
+ * {@code take...} belongs to the caller until it is recycled; a buffer must
+ * not be used after it has been recycled.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public interface JsonbBufferPool {
+
+  /**
+   * The JsonbConfig property name used to configure a buffer pool. The
+   * property value must be a JsonbBufferPool instance.
+   */
+  String PROPERTY = "ch.keybridge.json.bufferPool";
+
+  /**
+   * Take a char buffer of at least the indicated length.
+   *
+   * @param minLength the minimum buffer length
+   * @return a char buffer; pooled if available, otherwise newly allocated
+   */
+  char[] takeChars(int minLength);
+
+  /**
+   * Return a char buffer to the pool.
+   *
+   * @param buffer the buffer to recycle; ignored if null
+   */
+  void recycle(char[] buffer);
+
+  /**
+   * Take a byte buffer of at least the indicated length.
+   *
+   * @param minLength the minimum buffer length
+   * @return a byte buffer; pooled if available, otherwise newly allocated
+   */
+  byte[] takeBytes(int minLength);
+
+  /**
+   * Return a byte buffer to the pool.
+   *
+   * @param buffer the buffer to recycle; ignored if null
+   */
+  void recycle(byte[] buffer);
+
+  /**
+   * Get the number of take requests satisfied from the pool.
+   *
+   * @return the hit count
+   */
+  long getHits();
+
+  /**
+   * Get the number of take requests that required a new allocation.
+   *
+   * @return the miss count
+   */
+  long getMisses();
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+
+/**
+ * Process-wide cache of Jsonb instances keyed by the effective configuration.
+ * <p>
+ * Creating a Jsonb instance is expensive: the JSON-B provider (Yasson) builds
+ * and caches a reflective class model for every type it sees, and that work is
+ * lost when the instance is discarded. This cache hands out one shared,
+ * warmed-up Jsonb instance per distinct configuration so that readers, writers
+ * and utilities built with identical settings reuse the same engine.
+ * <p>
+ * Configurations are compared by an equality fingerprint of their properties
+ * (formatting, I-JSON, binary data strategy, visibility strategy, adapters,
+ * serializers, deserializers, etc.). Configuration components such as adapters
+ * and strategies that override {@code Object.equals} are compared by value.
+ * Stateless components (with no instance fields) are compared by class. All
+ * other components, including capturing lambdas and anonymous classes, are
+ * compared by identity; components that carry their own settings should
+ * therefore implement {@code equals} and {@code hashCode} to share an
+ * instance. A configured {@code JsonbBufferPool} is compared by identity.
+ * <p>
+ * The cache retains at most {@link #MAX_SIZE} configurations. The least
+ * recently used instance is dropped from the cache when the limit is reached
+ * but is not closed: readers, writers and utilities holding it continue to
+ * use it. Call {@link #clear()} when the application is shut down or
+ * undeployed to close all cached instances.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class JsonbCache {
+
+  private static final Logger LOG = Logger.getLogger(JsonbCache.class.getName());
+
+  /**
+   * The maximum number of distinct configurations retained in the cache.
+   */
+  public static final int MAX_SIZE = 32;
+
+  /**
+   * The cache of Jsonb instances in access order. Access is synchronized on the
+   * map; lookups only occur when a reader, writer or utility is configured,
+   * never on the marshal / unmarshal path.
+   */
+  private static final Map<Fingerprint, Jsonb> CACHE = new LinkedHashMap<Fingerprint, Jsonb>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Fingerprint, Jsonb> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  private JsonbCache() {
+  }
+
+  /**
+   * Get the shared Jsonb instance for the indicated configuration, creating it
+   * if necessary. The configuration is copied before the instance is created,
+   * so later changes to the provided configuration do not affect the cached
+   * instance.
+   *
+   * @param jsonbConfig the configuration
+   * @return the shared Jsonb instance for the configuration
+   */
+  public static Jsonb get(JsonbConfig jsonbConfig) {
+    Fingerprint fingerprint = new Fingerprint(jsonbConfig);
+    synchronized (CACHE) {
+      Jsonb jsonb = CACHE.get(fingerprint);
+      if (jsonb == null) {
+        jsonb = create(copy(jsonbConfig));
+        CACHE.put(fingerprint, jsonb);
+      }
+      return jsonb;
+    }
+  }
+
+  /**
+   * Remove the Jsonb instance for the indicated configuration. The instance is
+   * not closed: readers and writers still holding it continue to use it but it
+   * will no longer be shared.
+   *
+   * @param jsonbConfig the configuration
+   * @return true if an instance was removed
+   */
+  public static boolean evict(JsonbConfig jsonbConfig) {
+    synchronized (CACHE) {
+      return CACHE.remove(new Fingerprint(jsonbConfig)) != null;
+    }
+  }
+
+  /**
+   * Remove and close all cached Jsonb instances. Call this when the
+   * application is shut down or undeployed, once no reader, writer or utility
+   * is in use.
+   */
+  public static void clear() {
+    List<Jsonb> instances;
+    synchronized (CACHE) {
+      instances = new ArrayList<>(CACHE.values());
+      CACHE.clear();
+    }
+    instances.forEach(JsonbCache::close);
+  }
+
+  /**
+   * Get the number of cached Jsonb instances.
+   *
+   * @return the cache size
+   */
+  public static int size() {
+    synchronized (CACHE) {
+      return CACHE.size();
+    }
+  }
+
+  /**
+   * Create a copy of a configuration. JsonbConfig is mutable and the
+   * {@code with} methods modify the instance in place; copy a configuration
+   * before changing it if the original may be shared.
+   *
+   * @param jsonbConfig the configuration to copy
+   * @return a new configuration with the same properties
+   */
+  public static JsonbConfig copy(JsonbConfig jsonbConfig) {
+    JsonbConfig copy = new JsonbConfig();
+    jsonbConfig.getAsMap().forEach(copy::setProperty);
+    return copy;
+  }
+
+  /**
+   * Internal method to create a Jsonb instance. If the configuration includes
+   * a buffer pool the instance is built on a JSON-P provider drawing its
+   * parser and generator buffers from the pool.
+   *
+   * @param jsonbConfig the configuration
+   * @return a new Jsonb instance
+   */
+  private static Jsonb create(JsonbConfig jsonbConfig) {
+    Object bufferPool = jsonbConfig.getProperty(JsonbBufferPool.PROPERTY).orElse(null);
+    if (bufferPool instanceof JsonbBufferPool) {
+      return JsonbBuilder.newBuilder()
+        .withConfig(jsonbConfig)
+        .withProvider(new PooledJsonProvider((JsonbBufferPool) bufferPool))
+        .build();
+    }
+    return JsonbBuilder.create(jsonbConfig);
+  }
+
+  /**
+   * Internal method to close a Jsonb instance, logging any error.
+   *
+   * @param jsonb the instance to close; may be null
+   */
+  private static void close(Jsonb jsonb) {
+    if (jsonb == null) {
+      return;
+    }
+    try {
+      jsonb.close();
+    } catch (Exception exception) {
+      LOG.log(Level.WARNING, "Jsonb close error. {0}", exception.getMessage());
+    }
+  }
+
+  /**
+   * Equality fingerprint of a JsonbConfig. The configuration properties are
+   * copied into a sorted map with configuration components reduced to a
+   * comparable form.
+   */
+  private static final class Fingerprint {
+
+    private final Map<String, Object> properties = new TreeMap<>();
+    private final int hashCode;
+
+    Fingerprint(JsonbConfig jsonbConfig) {
+      jsonbConfig.getAsMap().forEach((name, value) -> properties.put(name, normalize(value)));
+      this.hashCode = properties.hashCode();
+    }
+
+    /**
+     * Reduce a configuration value to a comparable form. Arrays (adapters,
+     * serializers, deserializers) become lists. Objects that define value
+     * equality are used as is and stateless objects are represented by their
+     * class. Buffer pools and all other objects are compared by identity.
+     */
+    private static Object normalize(Object value) {
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof Object[]) {
+        List<Object> list = new ArrayList<>();
+        for (Object element : (Object[]) value) {
+          list.add(normalize(element));
+        }
+        return list;
+      }
+      if (value instanceof JsonbBufferPool || hasValueEquality(value.getClass())) {
+        return value;
+      }
+      return isStateless(value.getClass()) ? value.getClass() : new Identity(value);
+    }
+
+    private static boolean isStateless(Class<?> type) {
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    private static boolean hasValueEquality(Class<?> type) {
+      try {
+        return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+      } catch (NoSuchMethodException ex) {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Fingerprint
+        && hashCode == ((Fingerprint) obj).hashCode
+        && properties.equals(((Fingerprint) obj).properties);
+    }
+  }
+
+  /**
+   * Identity key of a configuration component that carries state but does not
+   * define value equality.
+   */
+  private static final class Identity {
+
+    private final Object value;
+
+    Identity(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Identity && value == ((Identity) obj).value;
+    }
+  }
+
+}
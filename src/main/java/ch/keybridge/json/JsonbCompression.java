@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.*;
+
+/**
+ * Whole-document compression of JSON streams.
+ * <p>
+ * Compressed output is flushed with SYNC_FLUSH: each {@code flush()} of the
+ * stream (e.g. of a {@code JsonbArrayWriter} writing to it) emits all data
+ * written so far as a complete compressed block, so a receiver can decode
+ * every chunk as it arrives. Closing the stream writes the trailer.
+ * <p>
+ * The reader detects compressed input by its magic bytes, so compressed and
+ * plain documents are read alike. A document bound as a whole is limited to
+ * {@link #DEFAULT_MAX_SIZE} decompressed bytes unless another limit is
+ * configured with the {@link #MAX_SIZE_PROPERTY} property; documents read
+ * element by element are not limited. Detection is disabled with the
+ * {@link #DETECT_PROPERTY} property.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public enum JsonbCompression {
+
+  /**
+   * No compression.
+   */
+  NONE,
+  /**
+   * GZIP (RFC 1952), as used by {@code .gz} files and
+   * {@code Content-Encoding: gzip}.
+   */
+  GZIP,
+  /**
+   * Deflate in the zlib format (RFC 1950), as used by
+   * {@code Content-Encoding: deflate}. The two byte zlib header identifies the
+   * stream on input; raw deflate data has no header and could not be
+   * detected.
+   */
+  DEFLATE;
+
+  /**
+   * The compressed stream buffer size. The JDK default of 512 bytes costs a
+   * native call per half kilobyte.
+   */
+  static final int BUFFER_SIZE = 32 * 1024;
+  /**
+   * The default maximum decompressed size of a document. 64 MB. Larger (or
+   * maliciously crafted) input is rejected.
+   */
+  public static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+  /**
+   * Configuration property holding the maximum decompressed size in bytes of
+   * a document bound as a whole, as a {@code Long}.
+   */
+  public static final String MAX_SIZE_PROPERTY = "ch.keybridge.json.maxDecompressedSize";
+  /**
+   * Configuration property holding whether compressed input is detected, as a
+   * {@code Boolean}. True by default; set false to accept plain JSON only.
+   */
+  public static final String DETECT_PROPERTY = "ch.keybridge.json.detectCompression";
+
+  /**
+   * Wrap an output stream to compress the data written to it. Closing the
+   * returned stream finishes the compressed data and closes the output
+   * stream.
+   *
+   * @param outputStream the compressed output
+   * @return the stream to write the document to; the output stream itself
+   *         for NONE
+   * @throws IOException if the compressed header cannot be written
+   */
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    switch (this) {
+      case GZIP:
+        return new GZIPOutputStream(outputStream, BUFFER_SIZE, true);
+      case DEFLATE:
+        return new ZlibOutputStream(outputStream);
+      default:
+        return outputStream;
+    }
+  }
+
+  /**
+   * Detect the compression of data from its first two bytes.
+   *
+   * @param first  the first byte
+   * @param second the second byte
+   * @return the compression; NONE if the data is not GZIP or zlib
+   */
+  public static JsonbCompression detect(int first, int second) {
+    first &= 0xFF;
+    second &= 0xFF;
+    if (first == 0x1f && second == 0x8b) {
+      return GZIP;
+    }
+    /**
+     * A zlib header with a 32 KB window, as written by every Deflater. The
+     * 'x' cannot start a JSON document.
+     */
+    if (first == 0x78 && (first << 8 | second) % 31 == 0) {
+      return DEFLATE;
+    }
+    return NONE;
+  }
+
+  /**
+   * Wrap an input stream to decompress GZIP or zlib data, detected by its
+   * magic bytes. Plain input is read as is. Detection takes place on the first
+   * read, so wrapping a socket or pipe does not block.
+   *
+   * The decompressed size is limited to {@link #DEFAULT_MAX_SIZE}.
+   *
+   * @param inputStream the input
+   * @return the decompressed input
+   */
+  public static InputStream decompress(InputStream inputStream) {
+    return decompress(inputStream, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Wrap an input stream to decompress GZIP or zlib data, detected by its
+   * magic bytes. Plain input is read as is and is not limited.
+   *
+   * @param inputStream the input
+   * @param maxSize     the maximum decompressed size in bytes. Reading past it
+   *                    throws an IOException. {@code Long.MAX_VALUE} for no
+   *                    limit.
+   * @return the decompressed input
+   */
+  public static InputStream decompress(InputStream inputStream, long maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Maximum decompressed size must be positive: " + maxSize);
+    }
+    return new DetectingInputStream(inputStream, maxSize);
+  }
+
+  /**
+   * Internal method to detect the compression of an input stream and wrap it
+   * accordingly. Reads (and pushes back) the first two bytes.
+   */
+  private static InputStream open(InputStream inputStream, long maxSize) throws IOException {
+    int first;
+    int second;
+    InputStream source = inputStream;
+    if (inputStream.markSupported()) {
+      inputStream.mark(2);
+      first = inputStream.read();
+      second = inputStream.read();
+      inputStream.reset();
+    } else {
+      PushbackInputStream pushback = new PushbackInputStream(inputStream, 2);
+      first = pushback.read();
+      second = first < 0 ? -1 : pushback.read();
+      if (second >= 0) {
+        pushback.unread(second);
+      }
+      if (first >= 0) {
+        pushback.unread(first);
+      }
+      source = pushback;
+    }
+    switch (first < 0 || second < 0 ? NONE : detect(first, second)) {
+      case GZIP:
+        return limit(new GZIPInputStream(source, BUFFER_SIZE), maxSize);
+      case DEFLATE:
+        return limit(new ZlibInputStream(source), maxSize);
+      default:
+        return source;
+    }
+  }
+
+  /**
+   * Internal method to limit the size of decompressed input.
+   */
+  private static InputStream limit(InputStream inputStream, long maxSize) {
+    return maxSize == Long.MAX_VALUE ? inputStream : new LimitedInputStream(inputStream, maxSize);
+  }
+
+  /**
+   * Input stream that detects the compression of its source on the first read.
+   */
+  private static final class DetectingInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private boolean detected;
+
+    DetectingInputStream(InputStream inputStream, long maxSize) {
+      super(inputStream);
+      this.maxSize = maxSize;
+    }
+
+    private InputStream source() throws IOException {
+      if (!detected) {
+        detected = true;
+        in = open(in, maxSize);
+      }
+      return in;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return source().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return source().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      return source().skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return detected ? in.available() : 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+  }
+
+  /**
+   * Input stream that fails once more than a maximum number of bytes is read.
+   */
+  private static final class LimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long count;
+
+    LimitedInputStream(InputStream inputStream, long maxSize) {
+      super(inputStream);
+      this.maxSize = maxSize;
+    }
+
+    private void count(long length) throws IOException {
+      count += length;
+      if (count > maxSize) {
+        throw new IOException("Decompressed document exceeds the maximum " + maxSize + " bytes");
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b >= 0) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int length = in.read(b, off, len);
+      if (length > 0) {
+        count(length);
+      }
+      return length;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long length = in.skip(n);
+      count(length);
+      return length;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+  }
+
+  /**
+   * zlib output with SYNC_FLUSH that releases its Deflater on close.
+   */
+  private static final class ZlibOutputStream extends DeflaterOutputStream {
+
+    ZlibOutputStream(OutputStream outputStream) {
+      super(outputStream, new Deflater(), BUFFER_SIZE, true);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        def.end();
+      }
+    }
+  }
+
+  /**
+   * zlib input that releases its Inflater on close.
+   */
+  private static final class ZlibInputStream extends InflaterInputStream {
+
+    ZlibInputStream(InputStream inputStream) {
+      super(inputStream, new Inflater(), BUFFER_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        inf.end();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.UnaryOperator;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbConfig;
+
+/**
+ * An immutable pair of a configuration and the shared Jsonb instance created
+ * from it. Readers and writers publish both together with a single volatile
+ * write, so a concurrent caller never sees a configuration with the Jsonb
+ * instance of another.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+final class JsonbEngine {
+
+  /**
+   * The configuration. Not modified after construction.
+   */
+  private final JsonbConfig jsonbConfig;
+  /**
+   * The shared instance provided by the {@code JsonbCache}.
+   */
+  private final Jsonb jsonb;
+
+  /**
+   * Construct an engine for a configuration. The configuration must not be
+   * modified afterwards.
+   *
+   * @param jsonbConfig the configuration
+   */
+  JsonbEngine(JsonbConfig jsonbConfig) {
+    this.jsonbConfig = jsonbConfig;
+    this.jsonb = JsonbCache.get(jsonbConfig);
+  }
+
+  /**
+   * Create an engine for a modified copy of this configuration.
+   *
+   * @param change the change applied to a copy of the configuration
+   * @return a new engine
+   */
+  JsonbEngine with(UnaryOperator<JsonbConfig> change) {
+    return new JsonbEngine(change.apply(JsonbCache.copy(jsonbConfig)));
+  }
+
+  /**
+   * Get the Jsonb instance.
+   *
+   * @return the shared Jsonb instance
+   */
+  Jsonb getJsonb() {
+    return jsonb;
+  }
+
+  /**
+   * Get a Jsonb instance with formatting disabled.
+   *
+   * @return this engine's Jsonb instance, or a compact equivalent if
+   *         formatting is configured
+   */
+  Jsonb getCompactJsonb() {
+    return isFormatted() ? JsonbCache.get(JsonbCache.copy(jsonbConfig).withFormatting(false)) : jsonb;
+  }
+
+  /**
+   * Get the configured buffer pool.
+   *
+   * @return the buffer pool, or null if pooling is not configured
+   */
+  JsonbBufferPool getBufferPool() {
+    Object bufferPool = jsonbConfig.getProperty(JsonbBufferPool.PROPERTY).orElse(null);
+    return bufferPool instanceof JsonbBufferPool ? (JsonbBufferPool) bufferPool : null;
+  }
+
+  /**
+   * Wrap an input stream to decompress a whole GZIP or zlib document with the
+   * configured size limit, unless compression detection is disabled.
+   *
+   * @param inputStream the input
+   * @return the decompressed input, or the input itself if detection is
+   *         disabled
+   */
+  InputStream decompress(InputStream inputStream) {
+    if (!isDetectCompression()) {
+      return inputStream;
+    }
+    long maxSize = jsonbConfig.getProperty(JsonbCompression.MAX_SIZE_PROPERTY)
+      .map(value -> ((Number) value).longValue())
+      .orElse(JsonbCompression.DEFAULT_MAX_SIZE);
+    return JsonbCompression.decompress(inputStream, maxSize);
+  }
+
+  /**
+   * Wrap an input stream read element by element to decompress GZIP or zlib
+   * input, unless compression detection is disabled. The size is not limited:
+   * only one element is held in memory at a time.
+   *
+   * @param inputStream the input
+   * @return the decompressed input, or the input itself if detection is
+   *         disabled
+   */
+  InputStream decompressStream(InputStream inputStream) {
+    return isDetectCompression() ? JsonbCompression.decompress(inputStream, Long.MAX_VALUE) : inputStream;
+  }
+
+  /**
+   * Determine if compressed input is detected. True by default.
+   *
+   * @return true if compressed input is decompressed
+   */
+  private boolean isDetectCompression() {
+    return jsonbConfig.getProperty(JsonbCompression.DETECT_PROPERTY).map(Boolean.TRUE::equals).orElse(true);
+  }
+
+  /**
+   * Get the configured encoding. UTF-8 by default.
+   *
+   * @return the charset
+   */
+  Charset getCharset() {
+    return jsonbConfig.getProperty(JsonbConfig.ENCODING)
+      .map(encoding -> Charset.forName(encoding.toString()))
+      .orElse(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Determine if formatting is configured.
+   *
+   * @return true if the output is formatted
+   */
+  boolean isFormatted() {
+    return jsonbConfig.getProperty(JsonbConfig.FORMATTING).map(Boolean.TRUE::equals).orElse(false);
+  }
+
+}
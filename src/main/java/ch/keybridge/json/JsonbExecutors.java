@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default executor for asynchronous marshal and unmarshal operations.
+ * <p>
+ * On Java 8 to 20 this is the common ForkJoinPool. The multi-release JAR
+ * contains a Java 21 version of this class that runs each operation on a
+ * virtual thread, which suits blocking I/O sources and sinks.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+final class JsonbExecutors {
+
+  private JsonbExecutors() {
+  }
+
+  /**
+   * Get the default executor for asynchronous operations.
+   *
+   * @return the common ForkJoinPool
+   */
+  static Executor defaultExecutor() {
+    return ForkJoinPool.commonPool();
+  }
+
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbException;
+
+/**
+ * Push-style incremental JSON parser for non-blocking I/O.
+ * <p>
+ * Feed the parser with byte chunks as they arrive (e.g. from a
+ * {@code SocketChannel} or a {@code CompletionHandler} of an
+ * {@code AsynchronousSocketChannel}) and poll for bound values. Chunks may
+ * split the input anywhere, including inside a string or a multi-byte
+ * character. The parser never blocks: when no complete value is available
+ * {@link #poll()} returns null, meaning more input is needed.
+ * <pre>
+ * buffer.flip();
+ * feedParser.feed(buffer);
+ * for (Event event = feedParser.poll(); event != null; event = feedParser.poll()) {
+ *   handle(event);
+ * }
+ * </pre>
+ * Two input forms are supported, selected when the parser is opened by
+ * {@code JsonbReader}:
+ * <ul>
+ * <li>a sequence of JSON documents, concatenated or newline-delimited
+ * (NDJSON), where each document is emitted as soon as it is complete;</li>
+ * <li>a single top-level JSON array, where each element is emitted as soon as
+ * it is complete.</li>
+ * </ul>
+ * Value boundaries are found by scanning the UTF-8 bytes for structure,
+ * string and escape state, so only the bytes of the value in progress are
+ * retained. Each value is bound as soon as it is complete, directly from
+ * those bytes. A single value may not exceed {@link #getMaxValueSize()}
+ * bytes, so a peer that never closes a value cannot exhaust memory. Input
+ * must be UTF-8 encoded. Instances are not thread-safe.
+ *
+ * @author Key Bridge
+ * @param <T> the value type
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class JsonbFeedParser<T> {
+
+  /**
+   * The default maximum size in bytes of a single value. 16 MB.
+   */
+  public static final int DEFAULT_MAX_VALUE_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * Array input phases.
+   */
+  private enum Phase {
+    /**
+     * Expecting '['.
+     */
+    BEFORE_ARRAY,
+    /**
+     * After '[': expecting the first element or ']'.
+     */
+    FIRST_ELEMENT,
+    /**
+     * After ',': expecting an element.
+     */
+    NEXT_ELEMENT,
+    /**
+     * After an element: expecting ',' or ']'.
+     */
+    AFTER_ELEMENT,
+    /**
+     * After ']': only whitespace may follow.
+     */
+    DONE
+  }
+
+  private final Jsonb jsonb;
+  private final Class<T> type;
+  private final boolean arrayElements;
+  private final Queue<T> values = new ArrayDeque<>();
+
+  /**
+   * The bytes of the value in progress.
+   */
+  private byte[] buffer = new byte[256];
+  private int length;
+  /**
+   * The maximum number of bytes retained for the value in progress.
+   */
+  private int maxValueSize = DEFAULT_MAX_VALUE_SIZE;
+  /**
+   * Indicator that a value is in progress.
+   */
+  private boolean inValue;
+  /**
+   * Structure depth of the value in progress.
+   */
+  private int depth;
+  private boolean inString;
+  private boolean escaped;
+  /**
+   * Indicator that the value in progress is a bare scalar (number, true,
+   * false, null), which ends at the next delimiter.
+   */
+  private boolean inScalar;
+  private Phase phase = Phase.BEFORE_ARRAY;
+  private boolean ended;
+  private long count;
+
+  /**
+   * Construct a new feed parser.
+   *
+   * @param jsonb         the Jsonb instance used to bind each value
+   * @param type          the value type
+   * @param arrayElements true to read the elements of a top-level array,
+   *                      false to read a sequence of documents
+   */
+  JsonbFeedParser(Jsonb jsonb, Class<T> type, boolean arrayElements) {
+    this.jsonb = jsonb;
+    this.type = type;
+    this.arrayElements = arrayElements;
+  }
+
+  /**
+   * Set the maximum size in bytes of a single value. A value that grows
+   * beyond this size while pending fails the parser with a JsonbException.
+   *
+   * @param maxValueSize the maximum value size in bytes; must be positive
+   * @return this parser
+   */
+  public JsonbFeedParser<T> withMaxValueSize(int maxValueSize) {
+    if (maxValueSize <= 0) {
+      throw new IllegalArgumentException("Maximum value size must be positive: " + maxValueSize);
+    }
+    this.maxValueSize = maxValueSize;
+    return this;
+  }
+
+  /**
+   * Get the maximum size in bytes of a single value.
+   *
+   * @return the maximum value size, {@link #DEFAULT_MAX_VALUE_SIZE} unless
+   *         set
+   */
+  public int getMaxValueSize() {
+    return maxValueSize;
+  }
+
+  /**
+   * Feed the remaining bytes of a buffer to the parser. The buffer position
+   * is advanced to its limit. Values completed by this input are bound and
+   * queued for {@link #poll()}.
+   *
+   * @param chunk the input bytes
+   * @return this parser
+   * @throws JsonbException if the input is malformed or a value cannot be
+   *                        bound. The parser may not be used afterwards.
+   */
+  public JsonbFeedParser<T> feed(ByteBuffer chunk) throws JsonbException {
+    if (ended) {
+      throw new JsonbException("Feed parser input has ended");
+    }
+    if (chunk.hasArray()) {
+      feed(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+      chunk.position(chunk.limit());
+    } else {
+      while (chunk.hasRemaining()) {
+        accept(chunk.get());
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Feed a range of bytes to the parser. Values completed by this input are
+   * bound and queued for {@link #poll()}.
+   *
+   * @param bytes  the input bytes
+   * @param offset the offset of the first byte
+   * @param len    the number of bytes
+   * @return this parser
+   * @throws JsonbException if the input is malformed or a value cannot be
+   *                        bound. The parser may not be used afterwards.
+   */
+  public JsonbFeedParser<T> feed(byte[] bytes, int offset, int len) throws JsonbException {
+    if (ended) {
+      throw new JsonbException("Feed parser input has ended");
+    }
+    for (int i = offset; i < offset + len; i++) {
+      accept(bytes[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Signal the end of input. A bare scalar document at the end of the input
+   * is completed; an incomplete value or an unterminated array is an error.
+   *
+   * @return this parser
+   * @throws JsonbException if the input ends inside a value or array
+   */
+  public JsonbFeedParser<T> end() throws JsonbException {
+    if (!ended) {
+      ended = true;
+      if (inScalar) {
+        complete();
+      }
+      if (inValue) {
+        throw new JsonbException("Unexpected end of input in JSON value after " + count + " values");
+      }
+      if (arrayElements && phase != Phase.DONE) {
+        throw new JsonbException("Unexpected end of input in JSON array after element " + count);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Get the next bound value.
+   *
+   * @return the next value, or null if no complete value is available (more
+   *         input is needed, or the input has ended)
+   */
+  public T poll() {
+    return values.poll();
+  }
+
+  /**
+   * Determine if a bound value is available.
+   *
+   * @return true if {@link #poll()} will return a value
+   */
+  public boolean hasNext() {
+    return !values.isEmpty();
+  }
+
+  /**
+   * Determine if the parser needs more input to produce a value: no bound
+   * value is queued and the input has not ended.
+   *
+   * @return true if more input is needed
+   */
+  public boolean isNeedingInput() {
+    return values.isEmpty() && !ended;
+  }
+
+  /**
+   * Determine if the input is complete: {@link #end()} has been called or, for
+   * array input, the closing bracket has been read.
+   *
+   * @return true if no further values will be produced beyond those queued
+   */
+  public boolean isComplete() {
+    return ended || (arrayElements && phase == Phase.DONE);
+  }
+
+  /**
+   * Get the number of values bound so far.
+   *
+   * @return the value count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Internal method to process one input byte.
+   */
+  private void accept(byte b) {
+    if (inValue) {
+      if (inScalar) {
+        if (!isDelimiter(b)) {
+          append(b);
+          return;
+        }
+        complete();
+        /**
+         * The delimiter belongs to the enclosing context.
+         */
+        between(b);
+        return;
+      }
+      append(b);
+      if (inString) {
+        if (escaped) {
+          escaped = false;
+        } else if (b == '\\') {
+          escaped = true;
+        } else if (b == '"') {
+          inString = false;
+          if (depth == 0) {
+            complete();
+          }
+        }
+      } else if (b == '"') {
+        inString = true;
+      } else if (b == '{' || b == '[') {
+        depth++;
+      } else if (b == '}' || b == ']') {
+        if (--depth == 0) {
+          complete();
+        }
+      }
+      return;
+    }
+    between(b);
+  }
+
+  /**
+   * Internal method to process a byte outside of a value.
+   */
+  private void between(byte b) {
+    if (isWhitespace(b)) {
+      return;
+    }
+    if (!arrayElements) {
+      start(b);
+      return;
+    }
+    switch (phase) {
+      case BEFORE_ARRAY:
+        if (b != '[') {
+          throw new JsonbException("Expected a JSON array but found " + describe(b));
+        }
+        phase = Phase.FIRST_ELEMENT;
+        break;
+      case FIRST_ELEMENT:
+        if (b == ']') {
+          phase = Phase.DONE;
+        } else {
+          start(b);
+        }
+        break;
+      case NEXT_ELEMENT:
+        if (b == ']') {
+          throw new JsonbException("Expected a JSON array element after ',' but found ']'");
+        }
+        start(b);
+        break;
+      case AFTER_ELEMENT:
+        if (b == ',') {
+          phase = Phase.NEXT_ELEMENT;
+        } else if (b == ']') {
+          phase = Phase.DONE;
+        } else {
+          throw new JsonbException("Expected ',' or ']' after array element " + count + " but found " + describe(b));
+        }
+        break;
+      default:
+        throw new JsonbException("Unexpected " + describe(b) + " after the end of the JSON array");
+    }
+  }
+
+  /**
+   * Internal method to start a value with its first byte.
+   */
+  private void start(byte b) {
+    if (b == ',' || b == ']' || b == '}' || b == ':') {
+      throw new JsonbException("Expected a JSON value but found " + describe(b));
+    }
+    inValue = true;
+    append(b);
+    if (b == '{' || b == '[') {
+      depth = 1;
+    } else if (b == '"') {
+      inString = true;
+    } else {
+      inScalar = true;
+    }
+  }
+
+  /**
+   * Internal method to bind the completed value and reset the value state.
+   */
+  private void complete() {
+    T value = jsonb.fromJson(new ByteArrayInputStream(buffer, 0, length), type);
+    values.add(value);
+    count++;
+    length = 0;
+    depth = 0;
+    inValue = false;
+    inString = false;
+    escaped = false;
+    inScalar = false;
+    if (arrayElements) {
+      phase = Phase.AFTER_ELEMENT;
+    }
+  }
+
+  /**
+   * Internal method to append a byte to the value in progress, failing once
+   * the value exceeds the maximum size.
+   */
+  private void append(byte b) {
+    if (length >= maxValueSize) {
+      throw new JsonbException("JSON value exceeds the maximum size of " + maxValueSize + " bytes after " + count + " values");
+    }
+    if (length == buffer.length) {
+      buffer = Arrays.copyOf(buffer, (int) Math.min(maxValueSize, buffer.length * 2L));
+    }
+    buffer[length++] = b;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+
+  /**
+   * Internal method to test if a byte ends a bare scalar.
+   */
+  private static boolean isDelimiter(byte b) {
+    return isWhitespace(b) || b == ',' || b == ']' || b == '}' || b == '[' || b == '{' || b == '"';
+  }
+
+  private static String describe(byte b) {
+    return "'" + (char) (b & 0xff) + "'";
+  }
+
+}
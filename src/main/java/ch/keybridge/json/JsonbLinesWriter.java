@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.*;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbException;
+
+/**
+ * Incremental writer of newline-delimited JSON (NDJSON, also known as JSON
+ * Lines). Each element is written as one compact JSON document followed by a
+ * line feed. The output is also valid concatenated JSON.
+ * <p>
+ * All documents are written through one shared, buffered character writer.
+ * {@link #flush()} pushes buffered output to the underlying stream.
+ * {@link #close()} flushes but does not close the underlying stream: the
+ * stream remains owned by the caller.
+ * <p>
+ * Instances are created by {@code JsonbWriter.openLines}. Instances are not
+ * thread-safe.
+ *
+ * @author Key Bridge
+ * @param <T> the document type
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbLinesWriter<T> implements Flushable, Closeable {
+
+  private final Jsonb jsonb;
+  /**
+   * The shared buffered writer. Closing the writer (as the JSON-B provider
+   * does after each document) is ignored.
+   */
+  private final Writer writer;
+  private long count;
+  private boolean closed;
+  /**
+   * True once a document failed to write. The output may hold part of the
+   * document, so no further document can be written on a new line.
+   */
+  private boolean failed;
+
+  /**
+   * Construct a new lines writer.
+   *
+   * @param jsonb  the Jsonb instance used to serialize each document. Must not
+   *               be configured for formatted output.
+   * @param writer the character output
+   */
+  JsonbLinesWriter(Jsonb jsonb, Writer writer) {
+    this.jsonb = jsonb;
+    this.writer = new FilterWriter(new BufferedWriter(writer)) {
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  /**
+   * Write one document followed by a line feed.
+   * <p>
+   * If a document cannot be written the output may hold part of it: the
+   * writer is then failed and rejects further writes and {@link #close()}.
+   *
+   * @param document the document
+   * @return this writer
+   * @throws JsonbException if the document cannot be serialized, on write
+   *                        error, or if the writer is closed or failed
+   */
+  public JsonbLinesWriter<T> write(T document) {
+    checkOpen();
+    try {
+      jsonb.toJson(document, writer);
+    } catch (RuntimeException ex) {
+      failed = true;
+      throw ex;
+    }
+    return writeLine("");
+  }
+
+  /**
+   * Write one pre-serialized, single-line JSON document followed by a line
+   * feed.
+   *
+   * @param json the serialized document
+   * @return this writer
+   */
+  JsonbLinesWriter<T> writeLine(String json) {
+    checkOpen();
+    try {
+      writer.write(json);
+      writer.write('\n');
+    } catch (IOException ex) {
+      failed = true;
+      throw new JsonbException("Line write error. " + ex.getMessage(), ex);
+    }
+    count++;
+    return this;
+  }
+
+  /**
+   * Internal method to reject writes to a failed or closed writer.
+   */
+  private void checkOpen() {
+    if (failed) {
+      throw new JsonbException("Lines writer failed; the last line is incomplete");
+    }
+    if (closed) {
+      throw new JsonbException("Lines writer is closed");
+    }
+  }
+
+  /**
+   * Get the number of documents written.
+   *
+   * @return the document count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * {@inheritDoc} Flushes buffered output to the underlying stream.
+   */
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  /**
+   * {@inheritDoc} Flushes buffered output. The underlying stream is not
+   * closed.
+   *
+   * @throws IOException on write error, or if a document failed to write and
+   *                     the last line is incomplete
+   */
+  @Override
+  public void close() throws IOException {
+    if (failed) {
+      throw new IOException("Lines writer failed; the last line is incomplete");
+    }
+    if (!closed) {
+      closed = true;
+      writer.flush();
+    }
+  }
+
+}
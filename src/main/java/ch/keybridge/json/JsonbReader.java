@@ -18,9 +18,22 @@
  */
 package ch.keybridge.json;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.json.bind.Jsonb;
-import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
 import javax.json.bind.JsonbException;
 import javax.json.bind.adapter.JsonbAdapter;
@@ -30,6 +43,18 @@ import javax.json.bind.serializer.JsonbDeserializer;
 /**
  * Common JsonB marshaling and un-marshaling utilities. These methods help to
  * serialize and un-serialize object representations to and from JSON.
+ * <p>
+ * Every InputStream, byte array, ByteBuffer and file method reads GZIP and
+ * zlib compressed documents transparently; see
+ * {@link #withCompressionDetection(boolean)}. Methods binding a whole document
+ * limit its decompressed size to {@link JsonbCompression#DEFAULT_MAX_SIZE}
+ * bytes; see {@link #withMaxDecompressedSize(long)}. The element-by-element
+ * readers ({@code openArray}, {@code stream}, {@code readValues} and
+ * {@code readLines}) hold one element in memory at a time and read
+ * compressed input of any size.
+ * <p>
+ * Instances are thread-safe. The {@code with} methods reconfigure the instance
+ * in place, publishing the new configuration and its Jsonb instance together.
  *
  * @author Key Bridge
  * @since v1.0.0 created 2020-07-15
@@ -38,13 +63,10 @@ import javax.json.bind.serializer.JsonbDeserializer;
 public class JsonbReader {
 
   /**
-   * The configuration setting for the Jsonb parser.
+   * The configuration and the shared Jsonb instance created from it. Replaced
+   * as a whole when the configuration changes.
    */
-  private JsonbConfig jsonbConfig;
-  /**
-   * Jsonb provides an abstraction over the JSON Binding framework operations.
-   */
-  private Jsonb jsonb;
+  private volatile JsonbEngine engine;
 
   /**
    * Default no-arg constructor. Sets up the configuration and serializers.
@@ -56,9 +78,8 @@ public class JsonbReader {
      * <p>
      * I-JSON (”Internet JSON”) is a restricted profile of JSON.
      */
-    jsonbConfig = new JsonbConfig()
-      .withBinaryDataStrategy(BinaryDataStrategy.BASE_64);
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+    this.engine = new JsonbEngine(new JsonbConfig()
+      .withBinaryDataStrategy(BinaryDataStrategy.BASE_64));
   }
 
   /**
@@ -67,8 +88,7 @@ public class JsonbReader {
    * @param jsonbConfig the custom configuratino
    */
   public JsonbReader(JsonbConfig jsonbConfig) {
-    this.jsonbConfig = jsonbConfig;
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+    this.engine = new JsonbEngine(JsonbCache.copy(jsonbConfig));
   }
 
   /**
@@ -79,9 +99,22 @@ public class JsonbReader {
    * @param deserializers Custom deserializers which affects deserialization.
    * @return This JsonbUtility instance.
    */
-  public final JsonbReader withDeserializers(final JsonbDeserializer... deserializers) {
-    this.jsonbConfig = jsonbConfig.withDeserializers(deserializers);
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+  public final synchronized JsonbReader withDeserializers(final JsonbDeserializer... deserializers) {
+    engine = engine.with(config -> config.withDeserializers(deserializers));
+    return this;
+  }
+
+  /**
+   * Property used to specify a buffer pool. When set, working buffers (the
+   * JSON-P parser and generator buffers) are borrowed from the pool
+   * instead of being allocated on every call. Configures value of
+   * {@code JsonbBufferPool.PROPERTY}.
+   *
+   * @param bufferPool the buffer pool; null to disable pooling
+   * @return This JsonbReader instance.
+   */
+  public final synchronized JsonbReader withBufferPool(final JsonbBufferPool bufferPool) {
+    engine = engine.with(config -> config.setProperty(JsonbBufferPool.PROPERTY, bufferPool));
     return this;
   }
 
@@ -94,9 +127,40 @@ public class JsonbReader {
    *                 deserialization.
    * @return This JsonbConfig instance.
    */
-  public final JsonbReader withAdapters(final JsonbAdapter... adapters) {
-    this.jsonbConfig = jsonbConfig.withAdapters(adapters);
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+  public final synchronized JsonbReader withAdapters(final JsonbAdapter... adapters) {
+    engine = engine.with(config -> config.withAdapters(adapters));
+    return this;
+  }
+
+  /**
+   * Property used to specify the maximum decompressed size of a GZIP or zlib
+   * compressed document bound as a whole by an {@code unmarshal} method.
+   * Reading past it fails the call. The element-by-element readers are not
+   * limited. Configures value of {@code JsonbCompression.MAX_SIZE_PROPERTY}.
+   *
+   * @param maxSize the maximum decompressed size in bytes; default
+   *                {@link JsonbCompression#DEFAULT_MAX_SIZE}
+   * @return This JsonbReader instance.
+   */
+  public final synchronized JsonbReader withMaxDecompressedSize(final long maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Maximum decompressed size must be positive: " + maxSize);
+    }
+    engine = engine.with(config -> config.setProperty(JsonbCompression.MAX_SIZE_PROPERTY, maxSize));
+    return this;
+  }
+
+  /**
+   * Property used to specify whether GZIP or zlib compressed input is detected
+   * and decompressed. Configures value of
+   * {@code JsonbCompression.DETECT_PROPERTY}.
+   *
+   * @param detect True (default) to decompress compressed input, false to
+   *               accept plain JSON only.
+   * @return This JsonbReader instance.
+   */
+  public final synchronized JsonbReader withCompressionDetection(final boolean detect) {
+    engine = engine.with(config -> config.setProperty(JsonbCompression.DETECT_PROPERTY, detect));
     return this;
   }
 
@@ -116,12 +180,13 @@ public class JsonbReader {
    * @throws NullPointerException If any of the parameters are null.
    */
   public final <T> T unmarshal(String json, Class<T> clazz) throws JsonbException, NullPointerException {
-    return jsonb.fromJson(json, clazz);
+    return engine.getJsonb().fromJson(json, clazz);
   }
 
   /**
    * Reads in a JSON data from the specified InputStream and return the
-   * resulting content tree.
+   * resulting content tree. GZIP and zlib compressed input is detected and
+   * decompressed.
    *
    * @param <T>         Type of the content tree's root object.
    * @param inputStream The stream is read as a JSON data. Upon a successful
@@ -130,6 +195,229 @@ public class JsonbReader {
    * @return The object instance
    */
   public final <T> T unmarshal(InputStream inputStream, Class<T> clazz) {
-    return jsonb.fromJson(inputStream, clazz);
+    return engine.getJsonb().fromJson(engine.decompress(inputStream), clazz);
   }
+
+  /**
+   * Reads in JSON data from a range of a byte array and return the resulting
+   * content tree. The bytes are parsed in place with no intermediate String.
+   * The encoding is detected automatically (UTF-8 is expected).
+   *
+   * @param <T>    Type of the content tree's root object.
+   * @param bytes  the JSON source content
+   * @param offset the offset of the first byte to read
+   * @param length the number of bytes to read
+   * @param clazz  Type of the content tree's root object.
+   * @return The object instance
+   * @throws JsonbException If any unexpected error(s) occur(s) during
+   *                        deserialization.
+   */
+  public final <T> T unmarshal(byte[] bytes, int offset, int length, Class<T> clazz) throws JsonbException {
+    return engine.getJsonb().fromJson(engine.decompress(new ByteArrayInputStream(bytes, offset, length)), clazz);
+  }
+
+  /**
+   * Reads in JSON data from the remaining bytes of a ByteBuffer and return the
+   * resulting content tree. The bytes are parsed in place with no intermediate
+   * String. Upon completion the buffer position is advanced to its limit.
+   *
+   * @param <T>    Type of the content tree's root object.
+   * @param buffer the JSON source content; heap or direct
+   * @param clazz  Type of the content tree's root object.
+   * @return The object instance
+   * @throws JsonbException If any unexpected error(s) occur(s) during
+   *                        deserialization.
+   */
+  public final <T> T unmarshal(ByteBuffer buffer, Class<T> clazz) throws JsonbException {
+    if (buffer.hasArray()) {
+      T value = unmarshal(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), clazz);
+      buffer.position(buffer.limit());
+      return value;
+    }
+    return engine.getJsonb().fromJson(engine.decompress(new ByteBufferInputStream(buffer)), clazz);
+  }
+
+  /**
+   * Reads in JSON data from a file and return the resulting content tree. The
+   * file is memory-mapped and parsed directly from the mapped pages, which
+   * avoids read system calls and heap buffer copies when loading large files.
+   * Files larger than 2 GB are mapped in consecutive regions.
+   *
+   * @param <T>   Type of the content tree's root object.
+   * @param path  the JSON file
+   * @param clazz Type of the content tree's root object.
+   * @return The object instance
+   * @throws IOException    if the file cannot be opened or mapped
+   * @throws JsonbException If any unexpected error(s) occur(s) during
+   *                        deserialization.
+   */
+  public final <T> T unmarshal(Path path, Class<T> clazz) throws IOException, JsonbException {
+    try (InputStream inputStream = engine.decompress(new MappedFileInputStream(path))) {
+      return engine.getJsonb().fromJson(inputStream, clazz);
+    }
+  }
+
+  /**
+   * Open a top-level JSON array for element-by-element reading. Elements are
+   * bound one at a time as the returned iterator advances so memory use is
+   * independent of the document size. The input is decoded with the
+   * configured encoding, UTF-8 by default.
+   *
+   * @param <T>         the array element type
+   * @param inputStream the JSON array source. The stream is closed when the
+   *                    returned reader is closed.
+   * @param clazz       the array element type
+   * @return an iterator over the array elements
+   */
+  public final <T> JsonbArrayReader<T> openArray(InputStream inputStream, Class<T> clazz) {
+    return openArray(new InputStreamReader(engine.decompressStream(inputStream), engine.getCharset()), clazz);
+  }
+
+  /**
+   * Open a top-level JSON array for element-by-element reading.
+   *
+   * @param <T>    the array element type
+   * @param reader the JSON array source. The reader is closed when the
+   *               returned reader is closed.
+   * @param clazz  the array element type
+   * @return an iterator over the array elements
+   */
+  public final <T> JsonbArrayReader<T> openArray(Reader reader, Class<T> clazz) {
+    return new JsonbArrayReader<>(engine.getJsonb(), new JsonValueReader(reader, true), clazz);
+  }
+
+  /**
+   * Read the elements of a top-level JSON array as a lazy Stream. Elements are
+   * bound one at a time as the stream is consumed. Use in a try-with-resources
+   * block: closing the stream closes the input stream. The input is decoded
+   * with the configured encoding, UTF-8 by default.
+   *
+   * @param <T>         the array element type
+   * @param inputStream the JSON array source
+   * @param clazz       the array element type
+   * @return a sequential, ordered stream of the array elements
+   */
+  public final <T> Stream<T> stream(InputStream inputStream, Class<T> clazz) {
+    return openArray(inputStream, clazz).stream();
+  }
+
+  /**
+   * Read the elements of a top-level JSON array in a file as a lazy Stream.
+   * The file is memory-mapped as in {@link #unmarshal(Path, Class)}. Use in a
+   * try-with-resources block: closing the stream closes the file.
+   *
+   * @param <T>   the array element type
+   * @param path  the JSON array file, in the configured encoding
+   * @param clazz the array element type
+   * @return a sequential, ordered stream of the array elements
+   * @throws IOException if the file cannot be opened
+   */
+  public final <T> Stream<T> stream(Path path, Class<T> clazz) throws IOException {
+    return stream(new MappedFileInputStream(path), clazz);
+  }
+
+  /**
+   * Read a sequence of concatenated JSON documents as a lazy Stream. Documents
+   * may be separated by whitespace (including line feeds) or simply follow
+   * one another, so this also reads newline-delimited JSON (NDJSON).
+   * Documents are bound one at a time as the stream is consumed, directly from
+   * the input without an intermediate String. Closing the stream closes the
+   * input stream. The input is decoded with the configured encoding, UTF-8 by
+   * default.
+   *
+   * @param <T>         the document type
+   * @param inputStream the JSON source
+   * @param clazz       the document type
+   * @return a sequential, ordered stream of documents
+   */
+  public final <T> Stream<T> readValues(InputStream inputStream, Class<T> clazz) {
+    Reader source = new InputStreamReader(engine.decompressStream(inputStream), engine.getCharset());
+    return new JsonbArrayReader<>(engine.getJsonb(), new JsonValueReader(source, false), clazz).stream();
+  }
+
+  /**
+   * Read a file of concatenated JSON documents or NDJSON as a lazy Stream.
+   * The file is memory-mapped as in {@link #unmarshal(Path, Class)}. Closing
+   * the stream closes the file.
+   *
+   * @param <T>   the document type
+   * @param path  the JSON file, in the configured encoding
+   * @param clazz the document type
+   * @return a sequential, ordered stream of documents
+   * @throws IOException if the file cannot be opened
+   */
+  public final <T> Stream<T> readValues(Path path, Class<T> clazz) throws IOException {
+    return readValues(new MappedFileInputStream(path), clazz);
+  }
+
+  /**
+   * Read newline-delimited JSON (NDJSON) as a lazy Stream, decoding lines in
+   * parallel on the indicated executor. Documents are returned in input
+   * order. At most {@code window} lines are read ahead of the consumer, which
+   * bounds memory use. Blank lines are ignored. Closing the stream closes the
+   * input stream.
+   *
+   * @param <T>         the document type
+   * @param inputStream the NDJSON source, in the configured encoding (UTF-8
+   *                    by default)
+   * @param clazz       the document type
+   * @param executor    the executor used to decode lines
+   * @param window      the maximum number of lines decoded ahead of the
+   *                    consumer
+   * @return a sequential, ordered stream of documents
+   */
+  public final <T> Stream<T> readLines(InputStream inputStream, Class<T> clazz, Executor executor, int window) {
+    BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(engine.decompressStream(inputStream), engine.getCharset()));
+    Iterator<String> lines = bufferedReader.lines().filter(line -> !isBlank(line)).iterator();
+    Jsonb jsonb = engine.getJsonb();
+    Iterator<T> documents = new OrderedExecution<>(lines, line -> jsonb.fromJson(line, clazz), executor, window);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED), false)
+      .onClose(() -> {
+        try {
+          bufferedReader.close();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+  }
+
+  /**
+   * Open a push-style parser for a sequence of JSON documents, concatenated
+   * or newline-delimited (NDJSON). Feed the parser with byte chunks as they
+   * arrive from a non-blocking channel and poll for each document as soon as
+   * it is complete.
+   *
+   * @param <T>   the document type
+   * @param clazz the document type
+   * @return a new feed parser; UTF-8 input
+   */
+  public final <T> JsonbFeedParser<T> openFeed(Class<T> clazz) {
+    return new JsonbFeedParser<>(engine.getJsonb(), clazz, false);
+  }
+
+  /**
+   * Open a push-style parser for the elements of a top-level JSON array. Feed
+   * the parser with byte chunks as they arrive from a non-blocking channel
+   * and poll for each element as soon as it is complete.
+   *
+   * @param <T>   the array element type
+   * @param clazz the array element type
+   * @return a new feed parser; UTF-8 input
+   */
+  public final <T> JsonbFeedParser<T> openArrayFeed(Class<T> clazz) {
+    return new JsonbFeedParser<>(engine.getJsonb(), clazz, true);
+  }
+
+  /**
+   * Internal method to test if a line contains only whitespace.
+   */
+  private static boolean isBlank(String line) {
+    for (int i = 0; i < line.length(); i++) {
+      if (!Character.isWhitespace(line.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
 }
@@ -18,8 +18,20 @@
  */
 package ch.keybridge.json;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import javax.json.bind.JsonbConfig;
 import javax.json.bind.JsonbException;
 import javax.json.bind.adapter.JsonbAdapter;
@@ -32,6 +44,14 @@ import javax.json.bind.serializer.JsonbSerializer;
  * serialize and un-serialize object representations to and from JSON.
  * <p>
  * Formatting is enabled by default.
+ * <p>
+ * Instances are thread-safe. Each {@code with} method reconfigures this
+ * instance in place: the reader and the writer each publish their new
+ * configuration and Jsonb engine together, so a concurrent operation uses
+ * either the previous or the new configuration. Use {@link #builder()} to
+ * configure an instance once before sharing it across threads: instances
+ * built by the builder are immutable and their {@code with} methods throw an
+ * IllegalStateException.
  *
  * @author Key Bridge
  * @since v1.0.0 created 2020-07-15
@@ -39,14 +59,29 @@ import javax.json.bind.serializer.JsonbSerializer;
  */
 public class JsonbUtility {
 
+  /**
+   * The default number of synthetic round trips run per class by
+   * {@link #warmUp(Class...)}.
+   */
+  public static final int WARM_UP_ITERATIONS = 20;
+
   /**
    * The JsonB reader instance.
    */
-  private JsonbReader reader;
+  private final JsonbReader reader;
   /**
    * The JsonB writer instance.
    */
-  private JsonbWriter writer;
+  private final JsonbWriter writer;
+  /**
+   * The executor for asynchronous operations. The common ForkJoinPool, or
+   * virtual threads on Java 21 and later.
+   */
+  private volatile Executor executor = JsonbExecutors.defaultExecutor();
+  /**
+   * True if this instance was built by a Builder and may not be reconfigured.
+   */
+  private final boolean immutable;
 
   /**
    * Default no-arg constructor. Sets up the reader and writer with a complete
@@ -57,31 +92,73 @@ public class JsonbUtility {
      * Configure and create the reader and writer instance using the same base
      * configuration.
      */
-    JsonbConfig jsonbConfig = new JsonbConfig()
-      .withFormatting(true)
+    this(defaultConfig(true), false);
+  }
+
+  /**
+   * Construct the reader and writer from a single configuration. Both share
+   * the same cached Jsonb instance.
+   *
+   * @param jsonbConfig the configuration
+   * @param immutable   true to reject later reconfiguration
+   */
+  private JsonbUtility(JsonbConfig jsonbConfig, boolean immutable) {
+    reader = new JsonbReader(jsonbConfig);
+    writer = new JsonbWriter(jsonbConfig);
+    this.immutable = immutable;
+  }
+
+  /**
+   * Get a new builder. The builder collects formatting, adapters, serializers
+   * and deserializers and creates the Jsonb engine exactly once when
+   * {@link Builder#build()} is called. The resulting JsonbUtility is
+   * immutable and may be shared freely across threads.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Internal method to build the base configuration.
+   *
+   * @param formatted if the serialized data is formatted
+   * @return the base configuration
+   */
+  private static JsonbConfig defaultConfig(boolean formatted) {
+    return new JsonbConfig()
+      .withFormatting(formatted)
       .withStrictIJSON(true)
       .withBinaryDataStrategy(BinaryDataStrategy.BASE_64)
       .withPropertyVisibilityStrategy(new JsonbPropertyVisibilityStrategy());
-    reader = new JsonbReader(jsonbConfig);
-    writer = new JsonbWriter(jsonbConfig);
+  }
+
+  /**
+   * Internal method to reject reconfiguration of an instance built by a
+   * Builder.
+   *
+   * @throws IllegalStateException if this instance is immutable
+   */
+  private void checkMutable() {
+    if (immutable) {
+      throw new IllegalStateException("A JsonbUtility built by a Builder cannot be reconfigured. Configure it with the Builder.");
+    }
   }
 
   /**
    * Property used to specify whether or not the serialized JSON data is
    * formatted with linefeeds and indentation. Configures value of FORMATTING
-   * property. Parameters:
+   * property. Adapters and serializers previously added are retained.
    *
    * @param formatted True (default) means serialized data is formatted, false
    *                  means no formatting.
    * @return This JsonbUtility instance.
+   * @throws IllegalStateException if this instance was built by a Builder
    */
-  public final JsonbUtility withFormatting(boolean formatted) {
-    JsonbConfig jsonbConfig = new JsonbConfig()
-      .withFormatting(formatted)
-      .withStrictIJSON(true)
-      .withBinaryDataStrategy(BinaryDataStrategy.BASE_64)
-      .withPropertyVisibilityStrategy(new JsonbPropertyVisibilityStrategy());
-    writer = new JsonbWriter(jsonbConfig);
+  public final synchronized JsonbUtility withFormatting(boolean formatted) {
+    checkMutable();
+    writer.withFormatting(formatted);
     return this;
   }
 
@@ -93,10 +170,12 @@ public class JsonbUtility {
    * @param adapters Custom mapping adapters which affects serialization and
    *                 deserialization.
    * @return This JsonbUtility instance.
+   * @throws IllegalStateException if this instance was built by a Builder
    */
-  public final JsonbUtility withAdapters(final JsonbAdapter... adapters) {
-    reader = reader.withAdapters(adapters);
-    writer = writer.withAdapters(adapters);
+  public final synchronized JsonbUtility withAdapters(final JsonbAdapter... adapters) {
+    checkMutable();
+    reader.withAdapters(adapters);
+    writer.withAdapters(adapters);
     return this;
   }
 
@@ -107,9 +186,11 @@ public class JsonbUtility {
    *
    * @param deserializers Custom deserializers which affects deserialization.
    * @return This JsonbUtility instance.
+   * @throws IllegalStateException if this instance was built by a Builder
    */
-  public final JsonbUtility withDeserializers(final JsonbDeserializer... deserializers) {
-    reader = reader.withDeserializers(deserializers);
+  public final synchronized JsonbUtility withDeserializers(final JsonbDeserializer... deserializers) {
+    checkMutable();
+    reader.withDeserializers(deserializers);
     return this;
   }
 
@@ -120,12 +201,70 @@ public class JsonbUtility {
    *
    * @param serializers Custom serializers which affects serialization.
    * @return This JsonbUtility instance.
+   * @throws IllegalStateException if this instance was built by a Builder
+   */
+  public final synchronized JsonbUtility withSerializers(final JsonbSerializer... serializers) {
+    checkMutable();
+    writer.withSerializers(serializers);
+    return this;
+  }
+
+  /**
+   * Set the executor used by the asynchronous marshal and unmarshal methods.
+   * The default is the common ForkJoinPool, or a virtual thread per task
+   * executor on Java 21 and later.
+   *
+   * @param executor the executor for asynchronous operations
+   * @return This JsonbUtility instance.
+   * @throws IllegalStateException if this instance was built by a Builder
    */
-  public final JsonbUtility withSerializers(final JsonbSerializer... serializers) {
-    writer = writer.withSerializers(serializers);
+  public final JsonbUtility withExecutor(final Executor executor) {
+    checkMutable();
+    this.executor = Objects.requireNonNull(executor, "Executor is required");
     return this;
   }
 
+  /**
+   * Warm up the JSON binding of the indicated classes. Call this at application
+   * start-up to move the cost of building each class binding model (and of the
+   * first adapter and serializer invocations) out of the request path.
+   * <p>
+   * Each class is instantiated with its public no-arg constructor, public
+   * properties are populated with sample values and
+   * {@value #WARM_UP_ITERATIONS} marshal / unmarshal round trips are run.
+   * Classes without a public no-arg constructor or that cannot be bound are
+   * logged and skipped.
+   *
+   * @param classes the entity classes to warm up
+   * @return the time taken to warm up each class, in the order provided
+   */
+  public final Map<Class<?>, Duration> warmUp(Class<?>... classes) {
+    return warmUp(WARM_UP_ITERATIONS, Arrays.asList(classes));
+  }
+
+  /**
+   * Warm up the JSON binding of the indicated classes.
+   *
+   * @param iterations the number of synthetic round trips per class
+   * @param classes    the entity classes to warm up
+   * @return the time taken to warm up each class, in the order provided
+   */
+  public final Map<Class<?>, Duration> warmUp(int iterations, Collection<Class<?>> classes) {
+    return JsonbWarmUp.warmUp(this, iterations, classes);
+  }
+
+  /**
+   * Warm up the JSON binding of all concrete classes in a package and its
+   * sub-packages. The package is scanned using the context class loader.
+   *
+   * @param packageName the package name, e.g. "com.example.model"
+   * @return the time taken to warm up each class, sorted by class name
+   * @throws IOException if the class path cannot be scanned
+   */
+  public final Map<Class<?>, Duration> warmUp(String packageName) throws IOException {
+    return JsonbWarmUp.warmUp(this, WARM_UP_ITERATIONS, JsonbWarmUp.scan(packageName));
+  }
+
   /**
    * Marshal an entity class into a JSON String representation.
    *
@@ -173,6 +312,258 @@ public class JsonbUtility {
     return reader.unmarshal(inputStream, clazz);
   }
 
+  /**
+   * Reads in JSON data from a range of a byte array and return the resulting
+   * content tree. The bytes are parsed in place with no intermediate String.
+   *
+   * @param <T>    Type of the content tree's root object.
+   * @param bytes  the JSON source content
+   * @param offset the offset of the first byte to read
+   * @param length the number of bytes to read
+   * @param clazz  Type of the content tree's root object.
+   * @return The object instance
+   * @throws JsonbException If any unexpected error(s) occur(s) during
+   *                        deserialization.
+   */
+  public final <T> T unmarshal(byte[] bytes, int offset, int length, Class<T> clazz) throws JsonbException {
+    return reader.unmarshal(bytes, offset, length, clazz);
+  }
+
+  /**
+   * Reads in JSON data from the remaining bytes of a ByteBuffer and return the
+   * resulting content tree. Upon completion the buffer position is advanced to
+   * its limit.
+   *
+   * @param <T>    Type of the content tree's root object.
+   * @param buffer the JSON source content; heap or direct
+   * @param clazz  Type of the content tree's root object.
+   * @return The object instance
+   * @throws JsonbException If any unexpected error(s) occur(s) during
+   *                        deserialization.
+   */
+  public final <T> T unmarshal(ByteBuffer buffer, Class<T> clazz) throws JsonbException {
+    return reader.unmarshal(buffer, clazz);
+  }
+
+  /**
+   * Marshal an entity class into a UTF-8 encoded JSON byte array with no
+   * intermediate String.
+   *
+   * @param <T>   the entity class type
+   * @param clazz the entity class to be written
+   * @return the entity class serialized into JSON form
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization.
+   */
+  public final <T> byte[] marshalToBytes(T clazz) throws JsonbException {
+    return writer.marshalToBytes(clazz);
+  }
+
+  /**
+   * Marshal an entity class into a ByteBuffer starting at its position. Upon
+   * completion the buffer position is advanced past the JSON output.
+   *
+   * @param <T>    the entity class type
+   * @param clazz  the entity class to be written
+   * @param buffer the destination buffer; heap or direct
+   * @return the number of bytes written
+   * @throws JsonbException           If any unexpected problem occurs during
+   *                                  the serialization.
+   * @throws BufferOverflowException if the buffer is too small
+   */
+  public final <T> int marshal(T clazz, ByteBuffer buffer) throws JsonbException, BufferOverflowException {
+    return writer.marshal(clazz, buffer);
+  }
+
+  /**
+   * Marshal an entity class to a channel through pooled direct buffers and
+   * gathering writes. Use a channel in blocking mode. The channel is not
+   * closed.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param channel the destination channel
+   * @return the number of bytes written
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization, including channel write errors.
+   */
+  public final <T> long marshal(T clazz, WritableByteChannel channel) throws JsonbException {
+    return writer.marshal(clazz, channel);
+  }
+
+  /**
+   * Marshal an entity class to an asynchronous channel such as an
+   * AsynchronousSocketChannel. The document is buffered off-heap before
+   * it is written, up to {@link JsonbWriter#MAX_BUFFERED_SIZE} bytes. The
+   * channel is not closed.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param channel the destination channel
+   * @return a future completing with the number of bytes written
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization, or if the document exceeds the
+   *                        buffer limit.
+   */
+  public final <T> CompletableFuture<Long> marshal(T clazz, AsynchronousByteChannel channel) throws JsonbException {
+    return writer.marshal(clazz, channel);
+  }
+
+  /**
+   * Marshal an entity class to an asynchronous file channel at the indicated
+   * file position. The document is buffered off-heap before
+   * it is written, up to {@link JsonbWriter#MAX_BUFFERED_SIZE} bytes. The
+   * channel is not closed.
+   *
+   * @param <T>      the entity class type
+   * @param clazz    the entity class to be written
+   * @param channel  the destination channel
+   * @param position the file position at which to write
+   * @return a future completing with the number of bytes written
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization, or if the document exceeds the
+   *                        buffer limit.
+   */
+  public final <T> CompletableFuture<Long> marshal(T clazz, AsynchronousFileChannel channel, long position) throws JsonbException {
+    return writer.marshal(clazz, channel, position);
+  }
+
+  /**
+   * Reads in JSON data from a memory-mapped file and return the resulting
+   * content tree.
+   *
+   * @param <T>   Type of the content tree's root object.
+   * @param path  the JSON file
+   * @param clazz Type of the content tree's root object.
+   * @return The object instance
+   * @throws IOException    if the file cannot be opened or mapped
+   * @throws JsonbException If any unexpected error(s) occur(s) during
+   *                        deserialization.
+   */
+  public final <T> T unmarshal(Path path, Class<T> clazz) throws IOException, JsonbException {
+    return reader.unmarshal(path, clazz);
+  }
+
+  /**
+   * Read the elements of a top-level JSON array as a lazy Stream. Elements are
+   * bound one at a time as the stream is consumed. Closing the stream closes
+   * the input stream. The input is decoded with the configured encoding,
+   * UTF-8 by default.
+   *
+   * @param <T>         the array element type
+   * @param inputStream the JSON array source
+   * @param clazz       the array element type
+   * @return a sequential, ordered stream of the array elements
+   */
+  public final <T> Stream<T> stream(InputStream inputStream, Class<T> clazz) {
+    return reader.stream(inputStream, clazz);
+  }
+
+  /**
+   * Read the elements of a top-level JSON array in a memory-mapped file as a
+   * lazy Stream. Closing the stream closes the file.
+   *
+   * @param <T>   the array element type
+   * @param path  the JSON array file, in the configured encoding
+   * @param clazz the array element type
+   * @return a sequential, ordered stream of the array elements
+   * @throws IOException if the file cannot be opened
+   */
+  public final <T> Stream<T> stream(Path path, Class<T> clazz) throws IOException {
+    return reader.stream(path, clazz);
+  }
+
+  /**
+   * Unmarshal a batch of JSON documents in parallel on the common ForkJoinPool.
+   * Results are returned in input order. Each document is processed
+   * independently: a document that cannot be parsed is recorded as an error
+   * at its position and does not abort the batch.
+   *
+   * @param <T>   the class type that is returned
+   * @param json  the JSON documents
+   * @param clazz the class type that is parsed
+   * @return the batch result
+   */
+  public final <T> JsonbBatchResult<T> unmarshalAll(List<String> json, Class<T> clazz) {
+    return unmarshalAll(json, clazz, null);
+  }
+
+  /**
+   * Unmarshal a batch of JSON documents in parallel on the indicated executor.
+   * Results are returned in input order and errors are isolated per document.
+   *
+   * @param <T>      the class type that is returned
+   * @param json     the JSON documents
+   * @param clazz    the class type that is parsed
+   * @param executor the executor; the common ForkJoinPool if null
+   * @return the batch result
+   */
+  public final <T> JsonbBatchResult<T> unmarshalAll(List<String> json, Class<T> clazz, Executor executor) {
+    return unmarshalAll(json, clazz, executor, 0);
+  }
+
+  /**
+   * Unmarshal a batch of JSON documents in parallel on the indicated executor,
+   * split for the indicated number of workers. Results are returned in input
+   * order and errors are isolated per document.
+   *
+   * @param <T>         the class type that is returned
+   * @param json        the JSON documents
+   * @param clazz       the class type that is parsed
+   * @param executor    the executor; the common ForkJoinPool if null
+   * @param parallelism the number of workers the executor provides; taken
+   *                    from the executor if zero
+   * @return the batch result
+   */
+  public final <T> JsonbBatchResult<T> unmarshalAll(List<String> json, Class<T> clazz, Executor executor, int parallelism) {
+    JsonbReader batchReader = reader;
+    return JsonbBatch.apply(json, document -> batchReader.unmarshal(document, clazz), executor, parallelism);
+  }
+
+  /**
+   * Marshal a batch of entities in parallel on the common ForkJoinPool.
+   * Results are returned in input order. Each entity is processed
+   * independently: an entity that cannot be serialized is recorded as an
+   * error at its position and does not abort the batch.
+   *
+   * @param <T>      the entity class type
+   * @param entities the entities
+   * @return the batch result of JSON documents
+   */
+  public final <T> JsonbBatchResult<String> marshalAll(List<T> entities) {
+    return marshalAll(entities, null);
+  }
+
+  /**
+   * Marshal a batch of entities in parallel on the indicated executor. Results
+   * are returned in input order and errors are isolated per entity.
+   *
+   * @param <T>      the entity class type
+   * @param entities the entities
+   * @param executor the executor; the common ForkJoinPool if null
+   * @return the batch result of JSON documents
+   */
+  public final <T> JsonbBatchResult<String> marshalAll(List<T> entities, Executor executor) {
+    return marshalAll(entities, executor, 0);
+  }
+
+  /**
+   * Marshal a batch of entities in parallel on the indicated executor, split
+   * for the indicated number of workers. Results are returned in input order
+   * and errors are isolated per entity.
+   *
+   * @param <T>         the entity class type
+   * @param entities    the entities
+   * @param executor    the executor; the common ForkJoinPool if null
+   * @param parallelism the number of workers the executor provides; taken
+   *                    from the executor if zero
+   * @return the batch result of JSON documents
+   */
+  public final <T> JsonbBatchResult<String> marshalAll(List<T> entities, Executor executor, int parallelism) {
+    JsonbWriter batchWriter = writer;
+    return JsonbBatch.apply(entities, batchWriter::marshal, executor, parallelism);
+  }
+
   /**
    * Writes the Java object tree with root object object to a String instance as
    * JSON.
@@ -187,4 +578,232 @@ public class JsonbUtility {
     writer.marshal(clazz, outputStream);
   }
 
+  /**
+   * Write an entity class as a compressed JSON document to an output stream.
+   * The reader detects and decompresses the document automatically.
+   *
+   * @param <T>          the entity class type
+   * @param clazz        the entity class to be written
+   * @param outputStream the compressed output. Upon a successful completion,
+   *                     the stream will be closed by this method.
+   * @param compression  the compression format
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization.
+   */
+  public final <T> void marshal(T clazz, OutputStream outputStream, JsonbCompression compression) throws JsonbException {
+    writer.marshal(clazz, outputStream, compression);
+  }
+
+  /**
+   * Marshal an entity class into a JSON String representation asynchronously
+   * on the configured executor.
+   *
+   * @param <T>   the entity class type
+   * @param clazz the entity class to be written
+   * @return a future completing with the entity serialized into JSON form, or
+   *         exceptionally with a JsonbException
+   */
+  public final <T> CompletableFuture<String> marshalAsync(T clazz) {
+    return CompletableFuture.supplyAsync(() -> writer.marshal(clazz), executor);
+  }
+
+  /**
+   * Write an entity class as JSON to an output stream asynchronously on the
+   * configured executor. Upon a successful completion the stream is closed.
+   *
+   * @param <T>          the entity class type
+   * @param clazz        the entity class to be written
+   * @param outputStream the output stream
+   * @return a future completing when the entity has been written, or
+   *         exceptionally with a JsonbException
+   */
+  public final <T> CompletableFuture<Void> marshalAsync(T clazz, OutputStream outputStream) {
+    return CompletableFuture.runAsync(() -> writer.marshal(clazz, outputStream), executor);
+  }
+
+  /**
+   * Read in JSON data asynchronously on the configured executor.
+   *
+   * @param <T>   Type of the content tree's root object.
+   * @param json  the JSON source content
+   * @param clazz Type of the content tree's root object.
+   * @return a future completing with the object instance, or exceptionally
+   *         with the JsonbException or JSON parsing exception
+   */
+  public final <T> CompletableFuture<T> unmarshalAsync(String json, Class<T> clazz) {
+    return CompletableFuture.supplyAsync(() -> reader.unmarshal(json, clazz), executor);
+  }
+
+  /**
+   * Read in JSON data from an input stream asynchronously on the configured
+   * executor. Blocking reads on the stream occupy the executor thread, not the
+   * caller.
+   *
+   * @param <T>         Type of the content tree's root object.
+   * @param inputStream the JSON source
+   * @param clazz       Type of the content tree's root object.
+   * @return a future completing with the object instance, or exceptionally
+   *         with the JsonbException or JSON parsing exception
+   */
+  public final <T> CompletableFuture<T> unmarshalAsync(InputStream inputStream, Class<T> clazz) {
+    return CompletableFuture.supplyAsync(() -> reader.unmarshal(inputStream, clazz), executor);
+  }
+
+  /**
+   * Builder for JsonbUtility instances. Settings are collected and applied to a
+   * single configuration, so the Jsonb engine is created (or fetched from the
+   * {@code JsonbCache}) once, no matter how many settings are added. The
+   * builder itself is not thread-safe; the JsonbUtility it builds is.
+   */
+  public static final class Builder {
+
+    private boolean formatted = true;
+    private final List<JsonbAdapter> adapters = new ArrayList<>();
+    private final List<JsonbSerializer> serializers = new ArrayList<>();
+    private final List<JsonbDeserializer> deserializers = new ArrayList<>();
+    private JsonbBufferPool bufferPool;
+    private Executor executor;
+    private long maxDecompressedSize = JsonbCompression.DEFAULT_MAX_SIZE;
+    private boolean compressionDetection = true;
+
+    private Builder() {
+    }
+
+    /**
+     * Specify whether or not the serialized JSON data is formatted with
+     * linefeeds and indentation.
+     *
+     * @param formatted True (default) means serialized data is formatted, false
+     *                  means no formatting.
+     * @return this builder
+     */
+    public Builder withFormatting(boolean formatted) {
+      this.formatted = formatted;
+      return this;
+    }
+
+    /**
+     * Add custom mapping adapters. Calling withAdapters more than once merges
+     * the adapters with previous values.
+     *
+     * @param adapters Custom mapping adapters which affects serialization and
+     *                 deserialization.
+     * @return this builder
+     */
+    public Builder withAdapters(final JsonbAdapter... adapters) {
+      this.adapters.addAll(Arrays.asList(adapters));
+      return this;
+    }
+
+    /**
+     * Add custom serializers. Calling withSerializers more than once merges
+     * the serializers with previous values.
+     *
+     * @param serializers Custom serializers which affects serialization.
+     * @return this builder
+     */
+    public Builder withSerializers(final JsonbSerializer... serializers) {
+      this.serializers.addAll(Arrays.asList(serializers));
+      return this;
+    }
+
+    /**
+     * Add custom deserializers. Calling withDeserializers more than once
+     * merges the deserializers with previous values.
+     *
+     * @param deserializers Custom deserializers which affects deserialization.
+     * @return this builder
+     */
+    public Builder withDeserializers(final JsonbDeserializer... deserializers) {
+      this.deserializers.addAll(Arrays.asList(deserializers));
+      return this;
+    }
+
+    /**
+     * Set a buffer pool supplying the JSON-P parser and generator buffers and
+     * the marshal output buffers. Pooling is disabled by default.
+     *
+     * @param bufferPool the buffer pool
+     * @return this builder
+     */
+    public Builder withBufferPool(final JsonbBufferPool bufferPool) {
+      this.bufferPool = bufferPool;
+      return this;
+    }
+
+    /**
+     * Set the executor used by the asynchronous marshal and unmarshal methods.
+     *
+     * @param executor the executor for asynchronous operations
+     * @return this builder
+     */
+    public Builder withExecutor(final Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Set the maximum decompressed size of a GZIP or zlib compressed document
+     * bound as a whole. The element-by-element readers are not limited.
+     *
+     * @param maxSize the maximum decompressed size in bytes; default
+     *                {@link JsonbCompression#DEFAULT_MAX_SIZE}
+     * @return this builder
+     */
+    public Builder withMaxDecompressedSize(final long maxSize) {
+      if (maxSize <= 0) {
+        throw new IllegalArgumentException("Maximum decompressed size must be positive: " + maxSize);
+      }
+      this.maxDecompressedSize = maxSize;
+      return this;
+    }
+
+    /**
+     * Specify whether GZIP or zlib compressed input is detected and
+     * decompressed.
+     *
+     * @param detect True (default) to decompress compressed input, false to
+     *               accept plain JSON only.
+     * @return this builder
+     */
+    public Builder withCompressionDetection(final boolean detect) {
+      this.compressionDetection = detect;
+      return this;
+    }
+
+    /**
+     * Build the JsonbUtility. The reader and writer share one Jsonb instance.
+     * The JsonbUtility is immutable: its {@code with} methods throw an
+     * IllegalStateException.
+     *
+     * @return a new JsonbUtility instance
+     */
+    public JsonbUtility build() {
+      JsonbConfig jsonbConfig = defaultConfig(formatted);
+      if (!adapters.isEmpty()) {
+        jsonbConfig.withAdapters(adapters.toArray(new JsonbAdapter[adapters.size()]));
+      }
+      if (!serializers.isEmpty()) {
+        jsonbConfig.withSerializers(serializers.toArray(new JsonbSerializer[serializers.size()]));
+      }
+      if (!deserializers.isEmpty()) {
+        jsonbConfig.withDeserializers(deserializers.toArray(new JsonbDeserializer[deserializers.size()]));
+      }
+      if (bufferPool != null) {
+        jsonbConfig.setProperty(JsonbBufferPool.PROPERTY, bufferPool);
+      }
+      if (maxDecompressedSize != JsonbCompression.DEFAULT_MAX_SIZE) {
+        jsonbConfig.setProperty(JsonbCompression.MAX_SIZE_PROPERTY, maxDecompressedSize);
+      }
+      if (!compressionDetection) {
+        jsonbConfig.setProperty(JsonbCompression.DETECT_PROPERTY, false);
+      }
+      JsonbUtility jsonbUtility = new JsonbUtility(jsonbConfig, true);
+      if (executor != null) {
+        jsonbUtility.executor = executor;
+      }
+      return jsonbUtility;
+    }
+  }
+
 }
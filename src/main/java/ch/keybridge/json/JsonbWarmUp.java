@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.time.*;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Start-up warm-up support for JsonbUtility.
+ * <p>
+ * The first marshal and unmarshal of each class pays for the reflective class
+ * model built by the JSON-B provider (including the property visibility
+ * strategy annotation scans). Warm-up performs that work eagerly and then runs
+ * a number of synthetic round trips so the binding, adapter and serializer
+ * code paths are exercised before live traffic arrives.
+ * <p>
+ * Synthetic instances are created with the public no-arg constructor of a
+ * public class. Simple properties (strings, numbers, booleans, dates, enums)
+ * are populated with sample values through public setters and fields, and
+ * properties of other such classes with nested synthetic instances. Other
+ * properties are left null. Only public members are used, so warm-up works
+ * under strong encapsulation. Classes without a public no-arg constructor are
+ * skipped.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class JsonbWarmUp {
+
+  private static final Logger LOG = Logger.getLogger(JsonbWarmUp.class.getName());
+
+  private JsonbWarmUp() {
+  }
+
+  /**
+   * Warm up the indicated classes.
+   *
+   * @param jsonbUtility the utility to warm up
+   * @param iterations   the number of synthetic round trips per class
+   * @param classes      the classes to warm up
+   * @return the time taken for each class, in the order provided. Classes that
+   *         could not be bound are logged and not included.
+   */
+  static Map<Class<?>, Duration> warmUp(JsonbUtility jsonbUtility, int iterations, Collection<Class<?>> classes) {
+    Map<Class<?>, Duration> report = new LinkedHashMap<>();
+    for (Class<?> clazz : classes) {
+      if (!isInstantiable(clazz)) {
+        LOG.log(Level.FINE, "Jsonb warm-up skipped {0}. No public no-arg constructor.", clazz.getName());
+        continue;
+      }
+      long start = System.nanoTime();
+      try {
+        roundTrip(jsonbUtility, iterations, clazz);
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        report.put(clazz, duration);
+        LOG.log(Level.FINE, "Jsonb warm-up {0} {1} ms", new Object[]{clazz.getName(), duration.toMillis()});
+      } catch (Exception exception) {
+        LOG.log(Level.WARNING, "Jsonb warm-up error {0}. {1}", new Object[]{clazz.getName(), exception.getMessage()});
+      }
+    }
+    return report;
+  }
+
+  /**
+   * Internal method to build the binding model and run the round trips.
+   */
+  private static <T> void roundTrip(JsonbUtility jsonbUtility, int iterations, Class<T> clazz) throws Exception {
+    T instance = synthesize(clazz);
+    /**
+     * The first round trip builds the serialization and deserialization class
+     * models. Subsequent round trips exercise the adapters and serializers.
+     */
+    for (int i = 0; i < Math.max(1, iterations); i++) {
+      jsonbUtility.unmarshal(jsonbUtility.marshal(instance), clazz);
+    }
+  }
+
+  /**
+   * Create a synthetic instance of the class using its public no-arg
+   * constructor and populate its public properties with sample values.
+   *
+   * @param <T>   the class type
+   * @param clazz the class; public with a public no-arg constructor
+   * @return a new synthetic instance
+   * @throws ReflectiveOperationException if the class cannot be instantiated
+   */
+  static <T> T synthesize(Class<T> clazz) throws ReflectiveOperationException {
+    return synthesize(clazz, new HashSet<>());
+  }
+
+  /**
+   * Internal method to create a synthetic instance. Nested instances are only
+   * created for types not already being synthesized, which stops the recursion
+   * on self-referencing models.
+   *
+   * @param visiting the types being synthesized on the current path
+   */
+  private static <T> T synthesize(Class<T> clazz, Set<Class<?>> visiting) throws ReflectiveOperationException {
+    visiting.add(clazz);
+    T instance = clazz.getConstructor().newInstance();
+    for (Method method : clazz.getMethods()) {
+      if (method.getName().startsWith("set")
+        && method.getParameterCount() == 1
+        && !Modifier.isStatic(method.getModifiers())
+        && method.getDeclaringClass() != Object.class) {
+        Object value = value(method.getParameterTypes()[0], visiting);
+        if (value != null) {
+          method.invoke(instance, value);
+        }
+      }
+    }
+    for (Field field : clazz.getFields()) {
+      if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+        Object value = value(field.getType(), visiting);
+        if (value != null) {
+          field.set(instance, value);
+        }
+      }
+    }
+    visiting.remove(clazz);
+    return instance;
+  }
+
+  /**
+   * Get a sample value for a property type: a simple value, a nested synthetic
+   * instance, or null.
+   */
+  private static Object value(Class<?> type, Set<Class<?>> visiting) throws ReflectiveOperationException {
+    Object value = sample(type);
+    if (value == null && isInstantiable(type) && isBindable(type) && !visiting.contains(type)) {
+      return synthesize(type, visiting);
+    }
+    return value;
+  }
+
+  /**
+   * Get a sample value for a simple type.
+   *
+   * @param type the field type
+   * @return a sample value, or null if the type is not a simple type
+   */
+  private static Object sample(Class<?> type) {
+    if (type == String.class) {
+      return "warm-up";
+    } else if (type == Double.class || type == double.class) {
+      return 1.5d;
+    } else if (type == Float.class || type == float.class) {
+      return 1.5f;
+    } else if (type == Long.class || type == long.class) {
+      return 1L;
+    } else if (type == Integer.class || type == int.class) {
+      return 1;
+    } else if (type == Short.class || type == short.class) {
+      return (short) 1;
+    } else if (type == Byte.class || type == byte.class) {
+      return (byte) 1;
+    } else if (type == Boolean.class || type == boolean.class) {
+      return Boolean.TRUE;
+    } else if (type == BigDecimal.class) {
+      return BigDecimal.ONE;
+    } else if (type == BigInteger.class) {
+      return BigInteger.ONE;
+    } else if (type == Date.class) {
+      return new Date();
+    } else if (type == Instant.class) {
+      return Instant.now();
+    } else if (type == ZonedDateTime.class) {
+      return ZonedDateTime.now(ZoneOffset.UTC);
+    } else if (type == OffsetDateTime.class) {
+      return OffsetDateTime.now(ZoneOffset.UTC);
+    } else if (type == LocalDateTime.class) {
+      return LocalDateTime.now();
+    } else if (type == LocalDate.class) {
+      return LocalDate.now();
+    } else if (type == Duration.class) {
+      return Duration.ofSeconds(1);
+    } else if (type.isEnum() && type.getEnumConstants().length > 0) {
+      return type.getEnumConstants()[0];
+    }
+    return null;
+  }
+
+  /**
+   * Find the concrete classes in a package (and its sub-packages) visible to
+   * the context class loader. Directory and JAR class path entries are
+   * supported. Abstract classes, interfaces, enums, anonymous and non-static
+   * inner classes and classes without a public no-arg constructor are skipped.
+   *
+   * @param packageName the package name, e.g. "com.example.model"
+   * @return the classes found, sorted by name
+   * @throws IOException if the class path cannot be read
+   */
+  static List<Class<?>> scan(String packageName) throws IOException {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = JsonbWarmUp.class.getClassLoader();
+    }
+    String path = packageName.replace('.', '/');
+    SortedSet<String> classNames = new TreeSet<>();
+    for (URL url : Collections.list(classLoader.getResources(path))) {
+      if ("file".equals(url.getProtocol())) {
+        scanDirectory(new File(URLDecoder.decode(url.getFile(), "UTF-8")), packageName, classNames);
+      } else if ("jar".equals(url.getProtocol())) {
+        JarFile jarFile = ((JarURLConnection) url.openConnection()).getJarFile();
+        for (JarEntry entry : Collections.list(jarFile.entries())) {
+          String name = entry.getName();
+          if (name.startsWith(path + "/") && name.endsWith(".class")) {
+            classNames.add(name.substring(0, name.length() - 6).replace('/', '.'));
+          }
+        }
+      }
+    }
+    List<Class<?>> classes = new ArrayList<>();
+    for (String className : classNames) {
+      try {
+        Class<?> clazz = Class.forName(className, false, classLoader);
+        if (isBindable(clazz) && isInstantiable(clazz)) {
+          classes.add(clazz);
+        }
+      } catch (ClassNotFoundException | LinkageError error) {
+        LOG.log(Level.FINE, "Jsonb warm-up skipped {0}. {1}", new Object[]{className, error.getMessage()});
+      }
+    }
+    return classes;
+  }
+
+  private static void scanDirectory(File directory, String packageName, Set<String> classNames) {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (file.isDirectory()) {
+        scanDirectory(file, packageName + "." + file.getName(), classNames);
+      } else if (file.getName().endsWith(".class")) {
+        classNames.add(packageName + "." + file.getName().substring(0, file.getName().length() - 6));
+      }
+    }
+  }
+
+  /**
+   * Test if a class is public and has a public no-arg constructor.
+   */
+  private static boolean isInstantiable(Class<?> clazz) {
+    if (!Modifier.isPublic(clazz.getModifiers()) || clazz.isPrimitive() || clazz.isArray()) {
+      return false;
+    }
+    try {
+      clazz.getConstructor();
+      return true;
+    } catch (NoSuchMethodException ex) {
+      return false;
+    }
+  }
+
+  private static boolean isBindable(Class<?> clazz) {
+    int modifiers = clazz.getModifiers();
+    return !clazz.isInterface()
+      && !clazz.isEnum()
+      && !clazz.isAnnotation()
+      && !clazz.isAnonymousClass()
+      && !clazz.isLocalClass()
+      && !clazz.isSynthetic()
+      && !Modifier.isAbstract(modifiers)
+      && (!clazz.isMemberClass() || Modifier.isStatic(modifiers));
+  }
+
+}
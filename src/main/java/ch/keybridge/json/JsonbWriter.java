@@ -18,9 +18,22 @@
  */
 package ch.keybridge.json;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collector;
+import javax.json.JsonException;
 import javax.json.bind.Jsonb;
-import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
 import javax.json.bind.JsonbException;
 import javax.json.bind.adapter.JsonbAdapter;
@@ -32,6 +45,9 @@ import javax.json.bind.serializer.JsonbSerializer;
  * serialize and un-serialize object representations to and from JSON.
  * <p>
  * Formatting is disabled by default.
+ * <p>
+ * Instances are thread-safe. The {@code with} methods reconfigure the instance
+ * in place, publishing the new configuration and its Jsonb instance together.
  *
  * @author Key Bridge
  * @since v1.0.0 created 2020-07-15
@@ -40,13 +56,20 @@ import javax.json.bind.serializer.JsonbSerializer;
 public class JsonbWriter {
 
   /**
-   * The configuration setting for the Jsonb parser.
+   * The maximum size of a document written to an asynchronous channel, which
+   * is buffered off-heap before it is written. 16 MB.
    */
-  private JsonbConfig jsonbConfig;
+  public static final int MAX_BUFFERED_SIZE = 16 * 1024 * 1024;
+
   /**
-   * Jsonb provides an abstraction over the JSON Binding framework operations.
+   * The configuration and the shared Jsonb instance created from it. Replaced
+   * as a whole when the configuration changes.
    */
-  private Jsonb jsonb;
+  private volatile JsonbEngine engine;
+  /**
+   * Per-class output size history used to size pooled output buffers.
+   */
+  private final OutputSizeHistory outputSizes = new OutputSizeHistory();
 
   /**
    * Default no-arg constructor. Sets up the configuration and serializers.
@@ -58,12 +81,11 @@ public class JsonbWriter {
      * <p>
      * I-JSON (”Internet JSON”) is a restricted profile of JSON.
      */
-    jsonbConfig = new JsonbConfig()
+    this.engine = new JsonbEngine(new JsonbConfig()
       .withFormatting(false)
       .withStrictIJSON(true)
       .withBinaryDataStrategy(BinaryDataStrategy.BASE_64)
-      .withPropertyVisibilityStrategy(new JsonbPropertyVisibilityStrategy());
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+      .withPropertyVisibilityStrategy(new JsonbPropertyVisibilityStrategy()));
   }
 
   /**
@@ -75,13 +97,8 @@ public class JsonbWriter {
    *                  means no formatting.
    * @return This JsonbUtility instance.
    */
-  public final JsonbWriter withFormatting(boolean formatted) {
-    jsonbConfig = new JsonbConfig()
-      .withFormatting(formatted)
-      .withStrictIJSON(true)
-      .withBinaryDataStrategy(BinaryDataStrategy.BASE_64)
-      .withPropertyVisibilityStrategy(new JsonbPropertyVisibilityStrategy());
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+  public final synchronized JsonbWriter withFormatting(boolean formatted) {
+    engine = engine.with(config -> config.withFormatting(formatted));
     return this;
   }
 
@@ -91,8 +108,7 @@ public class JsonbWriter {
    * @param jsonbConfig the JsonB configuration
    */
   public JsonbWriter(JsonbConfig jsonbConfig) {
-    this.jsonbConfig = jsonbConfig;
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+    this.engine = new JsonbEngine(JsonbCache.copy(jsonbConfig));
   }
 
   /**
@@ -103,9 +119,22 @@ public class JsonbWriter {
    * @param serializers Custom serializers which affects serialization.
    * @return This JsonbUtility instance.
    */
-  public final JsonbWriter withSerializers(final JsonbSerializer... serializers) {
-    this.jsonbConfig = jsonbConfig.withSerializers(serializers);
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+  public final synchronized JsonbWriter withSerializers(final JsonbSerializer... serializers) {
+    engine = engine.with(config -> config.withSerializers(serializers));
+    return this;
+  }
+
+  /**
+   * Property used to specify a buffer pool. When set, working buffers (the
+   * JSON-P parser and generator buffers and the marshal output buffer) are borrowed from the pool
+   * instead of being allocated on every call. Configures value of
+   * {@code JsonbBufferPool.PROPERTY}.
+   *
+   * @param bufferPool the buffer pool; null to disable pooling
+   * @return This JsonbWriter instance.
+   */
+  public final synchronized JsonbWriter withBufferPool(final JsonbBufferPool bufferPool) {
+    engine = engine.with(config -> config.setProperty(JsonbBufferPool.PROPERTY, bufferPool));
     return this;
   }
 
@@ -118,9 +147,8 @@ public class JsonbWriter {
    *                 deserialization.
    * @return This JsonbConfig instance.
    */
-  public final JsonbWriter withAdapters(final JsonbAdapter... adapters) {
-    this.jsonbConfig = jsonbConfig.withAdapters(adapters);
-    this.jsonb = JsonbBuilder.create(jsonbConfig);
+  public final synchronized JsonbWriter withAdapters(final JsonbAdapter... adapters) {
+    engine = engine.with(config -> config.withAdapters(adapters));
     return this;
   }
 
@@ -135,7 +163,19 @@ public class JsonbWriter {
    * @throws NullPointerException If any of the parameters are null.
    */
   public final <T> String marshal(T clazz) throws JsonbException, NullPointerException {
-    return jsonb.toJson(clazz);
+    JsonbEngine engine = this.engine;
+    JsonbBufferPool bufferPool = engine.getBufferPool();
+    if (bufferPool == null || clazz == null) {
+      return engine.getJsonb().toJson(clazz);
+    }
+    PooledWriter writer = new PooledWriter(bufferPool, outputSizes.estimate(clazz.getClass()));
+    try {
+      engine.getJsonb().toJson(clazz, writer);
+      outputSizes.record(clazz.getClass(), writer.size());
+      return writer.toString();
+    } finally {
+      writer.release();
+    }
   }
 
   /**
@@ -149,7 +189,276 @@ public class JsonbWriter {
    *                     will be closed by this method.
    */
   public final <T> void marshal(T clazz, OutputStream outputStream) {
-    jsonb.toJson(clazz, outputStream);
+    engine.getJsonb().toJson(clazz, outputStream);
+  }
+
+  /**
+   * Write an entity class as a compressed JSON document to an output stream.
+   * The reader detects and decompresses the document automatically.
+   *
+   * @param <T>          the entity class type
+   * @param clazz        the entity class to be written
+   * @param outputStream the compressed output. Upon a successful completion,
+   *                     the stream will be closed by this method.
+   * @param compression  the compression format
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization.
+   */
+  public final <T> void marshal(T clazz, OutputStream outputStream, JsonbCompression compression) throws JsonbException {
+    /**
+     * Closing the stream finishes the compressed data. It may already be closed
+     * by the serializer.
+     */
+    try (OutputStream compressed = compression.compress(outputStream)) {
+      engine.getJsonb().toJson(clazz, compressed);
+    } catch (IOException ex) {
+      throw new JsonbException("Failed to write compressed output. " + ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Marshal an entity class into an encoded JSON byte array. The entity is
+   * encoded directly to bytes (UTF-8 unless another encoding is configured)
+   * with no intermediate String.
+   *
+   * @param <T>   the entity class type
+   * @param clazz the entity class to be written
+   * @return the entity class serialized into JSON form
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization.
+   */
+  public final <T> byte[] marshalToBytes(T clazz) throws JsonbException {
+    JsonbEngine engine = this.engine;
+    JsonbBufferPool bufferPool = engine.getBufferPool();
+    if (bufferPool != null && clazz != null) {
+      PooledOutputStream outputStream = new PooledOutputStream(bufferPool, outputSizes.estimate(clazz.getClass()));
+      try {
+        engine.getJsonb().toJson(clazz, outputStream);
+        outputSizes.record(clazz.getClass(), outputStream.size());
+        return outputStream.toByteArray();
+      } finally {
+        outputStream.release();
+      }
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256);
+    engine.getJsonb().toJson(clazz, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Marshal an entity class into a ByteBuffer. The entity is encoded directly
+   * into the buffer starting at its position (UTF-8 unless another encoding
+   * is configured). Upon completion the buffer position is advanced past the
+   * JSON output.
+   *
+   * @param <T>    the entity class type
+   * @param clazz  the entity class to be written
+   * @param buffer the destination buffer; heap or direct
+   * @return the number of bytes written
+   * @throws JsonbException           If any unexpected problem occurs during
+   *                                  the serialization.
+   * @throws BufferOverflowException if the buffer is too small. The buffer
+   *                                  content is then undefined.
+   */
+  public final <T> int marshal(T clazz, ByteBuffer buffer) throws JsonbException, BufferOverflowException {
+    int start = buffer.position();
+    engine.getJsonb().toJson(clazz, new ByteBufferOutputStream(buffer));
+    return buffer.position() - start;
+  }
+
+  /**
+   * Marshal an entity class to a channel. The JSON is encoded straight into
+   * pooled direct buffers, which are written with gathering writes; a slow
+   * channel holds back the encoding until it has accepted the buffered bytes.
+   * Use a channel in blocking mode. The channel is not closed.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param channel the destination channel, e.g. a FileChannel or a blocking
+   *                SocketChannel
+   * @return the number of bytes written
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization, including channel write errors.
+   */
+  public final <T> long marshal(T clazz, WritableByteChannel channel) throws JsonbException {
+    JsonbEngine engine = this.engine;
+    DirectBufferWriter writer = new DirectBufferWriter(channel, engine.getCharset());
+    try {
+      engine.getJsonb().toJson(clazz, writer);
+      return writer.getCount();
+    } catch (JsonException ex) {
+      /**
+       * The JSON-P generator reports channel write errors as JsonException.
+       */
+      throw new JsonbException("Channel write error. " + ex.getMessage(), ex);
+    } catch (RuntimeException ex) {
+      if (!(ex instanceof JsonbException) && ex.getCause() instanceof IOException) {
+        throw new JsonbException("Channel write error. " + ex.getCause().getMessage(), ex);
+      }
+      throw ex;
+    } finally {
+      writer.release();
+    }
+  }
+
+  /**
+   * Marshal an entity class to an asynchronous channel such as an
+   * AsynchronousSocketChannel. The JSON is encoded on the calling thread into
+   * pooled direct buffers, then written asynchronously; socket channels use
+   * gathering writes. The channel is not closed.
+   * <p>
+   * The complete document is buffered off-heap before the first write, up to
+   * {@link #MAX_BUFFERED_SIZE} bytes. Write larger documents with
+   * {@link #marshal(Object, WritableByteChannel)}, which streams with
+   * backpressure.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param channel the destination channel
+   * @return a future completing with the number of bytes written, or
+   *         exceptionally with the channel write error
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization, or if the document exceeds
+   *                        {@link #MAX_BUFFERED_SIZE} bytes.
+   */
+  public final <T> CompletableFuture<Long> marshal(T clazz, AsynchronousByteChannel channel) throws JsonbException {
+    return AsyncChannelWrite.write(channel, encode(clazz, MAX_BUFFERED_SIZE));
+  }
+
+  /**
+   * Marshal an entity class to an asynchronous file channel at the indicated
+   * file position. The JSON is encoded on the calling thread into pooled
+   * direct buffers, then written asynchronously. The channel is not closed.
+   * <p>
+   * The complete document is buffered off-heap before the first write, up to
+   * {@link #MAX_BUFFERED_SIZE} bytes. Write larger documents to a FileChannel
+   * with {@link #marshal(Object, WritableByteChannel)}.
+   *
+   * @param <T>      the entity class type
+   * @param clazz    the entity class to be written
+   * @param channel  the destination channel
+   * @param position the file position at which to write
+   * @return a future completing with the number of bytes written, or
+   *         exceptionally with the channel write error
+   * @throws JsonbException If any unexpected problem occurs during the
+   *                        serialization, or if the document exceeds
+   *                        {@link #MAX_BUFFERED_SIZE} bytes.
+   */
+  public final <T> CompletableFuture<Long> marshal(T clazz, AsynchronousFileChannel channel, long position) throws JsonbException {
+    return AsyncChannelWrite.write(channel, position, encode(clazz, MAX_BUFFERED_SIZE));
+  }
+
+  /**
+   * Internal method to encode an entity into pooled direct buffers.
+   *
+   * @param clazz   the entity
+   * @param maxSize the maximum encoded size
+   * @return the closed writer holding the encoded output
+   * @throws JsonbException if the encoded size exceeds the maximum
+   */
+  DirectBufferWriter encode(Object clazz, long maxSize) throws JsonbException {
+    JsonbEngine engine = this.engine;
+    DirectBufferWriter writer = new DirectBufferWriter(engine.getCharset(), maxSize);
+    try {
+      engine.getJsonb().toJson(clazz, writer);
+      return writer;
+    } catch (RuntimeException ex) {
+      writer.release();
+      if (writer.isOverflow()) {
+        throw new JsonbException("JSON output exceeds the asynchronous buffer limit of " + maxSize + " bytes", ex);
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Open a top-level JSON array for incremental writing. Elements are
+   * serialized one at a time as they are written to the returned writer.
+   * Closing the returned writer terminates the array but does not close the
+   * output stream.
+   *
+   * @param <T>          the array element type
+   * @param outputStream the JSON output. The stream is not closed by this
+   *                     method or by the returned writer.
+   * @return an incremental array writer
+   */
+  public final <T> JsonbArrayWriter<T> openArray(OutputStream outputStream) {
+    JsonbEngine engine = this.engine;
+    return new JsonbArrayWriter<>(engine.getJsonb(), new OutputStreamWriter(outputStream, engine.getCharset()), engine.isFormatted());
+  }
+
+  /**
+   * Get a Collector that writes stream elements into a top-level JSON array as
+   * they are produced. The array is terminated when the stream completes and
+   * the number of elements written is returned. The output stream is not
+   * closed.
+   * <p>
+   * Use with sequential streams only: elements are written in encounter order
+   * through a single writer.
+   *
+   * @param <T>          the stream element type
+   * @param outputStream the JSON output
+   * @return a Collector returning the number of elements written
+   */
+  public final <T> Collector<T, ?, Long> toArray(OutputStream outputStream) {
+    return Collector.<T, JsonbArrayWriter<T>, Long>of(
+      () -> openArray(outputStream),
+      JsonbArrayWriter::write,
+      (a, b) -> {
+        throw new IllegalStateException("JSON array Collector does not support parallel streams");
+      },
+      arrayWriter -> {
+        try {
+          arrayWriter.close();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+        return arrayWriter.getCount();
+      });
+  }
+
+  /**
+   * Open a newline-delimited JSON (NDJSON) output. Each document is written in
+   * compact form on its own line, regardless of the formatting configuration.
+   * NDJSON is written in the configured encoding, UTF-8 by default. Closing
+   * the returned writer flushes but does not close the output stream.
+   *
+   * @param <T>          the document type
+   * @param outputStream the NDJSON output. The stream is not closed by this
+   *                     method or by the returned writer.
+   * @return an incremental NDJSON writer
+   */
+  public final <T> JsonbLinesWriter<T> openLines(OutputStream outputStream) {
+    return new JsonbLinesWriter<>(engine.getCompactJsonb(), new OutputStreamWriter(outputStream, engine.getCharset()));
+  }
+
+  /**
+   * Write documents as newline-delimited JSON (NDJSON), serializing them in
+   * parallel on the indicated executor. Documents are written in source
+   * order. At most {@code window} documents are serialized ahead of the
+   * writer, which bounds memory use. The output stream is flushed but not
+   * closed.
+   *
+   * @param <T>          the document type
+   * @param documents    the documents to write; read on the calling thread
+   * @param outputStream the NDJSON output
+   * @param executor     the executor used to serialize documents
+   * @param window       the maximum number of documents serialized ahead of
+   *                     the writer
+   * @return the number of documents written
+   * @throws JsonbException if a document cannot be serialized or on write
+   *                        error
+   */
+  public final <T> long writeLines(Iterator<T> documents, OutputStream outputStream, Executor executor, int window) {
+    Jsonb compact = engine.getCompactJsonb();
+    JsonbLinesWriter<T> linesWriter = openLines(outputStream);
+    new OrderedExecution<>(documents, compact::toJson, executor, window).forEachRemaining(linesWriter::writeLine);
+    try {
+      linesWriter.close();
+    } catch (IOException ex) {
+      throw new JsonbException("Line write error. " + ex.getMessage(), ex);
+    }
+    return linesWriter.getCount();
   }
 
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An InputStream over a memory-mapped file. The file is mapped read-only in
+ * regions of at most {@link #REGION_SIZE} bytes, so files larger than 2 GB
+ * (the limit of a single MappedByteBuffer) are read as a sequence of
+ * mappings. Each region is mapped when the previous one is exhausted. Reads
+ * copy directly from the page cache without read system calls or an
+ * intermediate heap buffer.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class MappedFileInputStream extends InputStream {
+
+  /**
+   * The maximum size of each mapped region. 1 GB.
+   */
+  static final long REGION_SIZE = 1L << 30;
+
+  private final FileChannel channel;
+  private final long size;
+  private final long regionSize;
+  /**
+   * The file offset of the next region to map.
+   */
+  private long offset;
+  private MappedByteBuffer region;
+
+  /**
+   * Open and map the indicated file.
+   *
+   * @param path the file path
+   * @throws IOException if the file cannot be opened
+   */
+  MappedFileInputStream(Path path) throws IOException {
+    this(path, REGION_SIZE);
+  }
+
+  /**
+   * Open and map the indicated file using the indicated region size.
+   *
+   * @param path       the file path
+   * @param regionSize the maximum size of each mapped region
+   * @throws IOException if the file cannot be opened
+   */
+  MappedFileInputStream(Path path, long regionSize) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.regionSize = regionSize;
+  }
+
+  /**
+   * Internal method to ensure the current region has bytes remaining, mapping
+   * the next region if needed.
+   *
+   * @return false if the end of the file has been reached
+   */
+  private boolean ensureRegion() throws IOException {
+    while (region == null || !region.hasRemaining()) {
+      if (offset >= size) {
+        return false;
+      }
+      long length = Math.min(regionSize, size - offset);
+      region = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+      offset += length;
+    }
+    return true;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return ensureRegion() ? region.get() & 0xff : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureRegion()) {
+      return -1;
+    }
+    int n = Math.min(len, region.remaining());
+    region.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && ensureRegion()) {
+      int step = (int) Math.min(n - skipped, region.remaining());
+      region.position(region.position() + step);
+      skipped += step;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    long remaining = size - offset + (region == null ? 0 : region.remaining());
+    return (int) Math.min(Integer.MAX_VALUE, remaining);
+  }
+
+  /**
+   * Close the file channel. Mapped regions are released by the garbage
+   * collector.
+   */
+  @Override
+  public void close() throws IOException {
+    region = null;
+    channel.close();
+  }
+
+}
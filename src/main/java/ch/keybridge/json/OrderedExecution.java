@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * An Iterator that applies a function to each element of a source iterator on
+ * an Executor while preserving the source order.
+ * <p>
+ * At most {@code window} tasks are in flight at any time: the iterator reads
+ * ahead of the consumer by that many elements, which bounds memory use while
+ * keeping the executor busy. Exceptions raised by the function are rethrown
+ * unwrapped when the corresponding element is reached.
+ *
+ * @author Key Bridge
+ * @param <S> the source element type
+ * @param <R> the result type
+ * @since v1.2.0 created 2026-10-16
+ */
+class OrderedExecution<S, R> implements Iterator<R> {
+
+  private final Iterator<S> source;
+  private final Function<S, R> function;
+  private final Executor executor;
+  private final int window;
+  private final Deque<CompletableFuture<R>> pending;
+
+  /**
+   * Construct a new ordered execution.
+   *
+   * @param source   the source elements; read on the consuming thread
+   * @param function the function to apply on the executor
+   * @param executor the executor
+   * @param window   the maximum number of tasks in flight; at least one
+   */
+  OrderedExecution(Iterator<S> source, Function<S, R> function, Executor executor, int window) {
+    this.source = source;
+    this.function = function;
+    this.executor = executor;
+    this.window = Math.max(1, window);
+    this.pending = new ArrayDeque<>(this.window);
+  }
+
+  @Override
+  public boolean hasNext() {
+    fill();
+    return !pending.isEmpty();
+  }
+
+  @Override
+  public R next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return pending.removeFirst().join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    } finally {
+      fill();
+    }
+  }
+
+  /**
+   * Internal method to submit tasks until the window is full.
+   */
+  private void fill() {
+    while (pending.size() < window && source.hasNext()) {
+      S element = source.next();
+      pending.addLast(CompletableFuture.supplyAsync(() -> function.apply(element), executor));
+    }
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-class history of serialized output sizes, used to size output buffers
+ * so they rarely need to grow.
+ * <p>
+ * The history keeps a decaying maximum per class: a larger output replaces
+ * the estimate immediately while smaller outputs reduce it by one eighth per
+ * call. The estimate therefore tracks the largest recent output without
+ * staying inflated by a single outlier.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class OutputSizeHistory {
+
+  /**
+   * The estimate for a class with no history.
+   */
+  static final int DEFAULT_SIZE = 256;
+
+  private final ConcurrentMap<Class<?>, Integer> sizes = new ConcurrentHashMap<>();
+
+  /**
+   * Get the expected output size for a class, including some headroom.
+   *
+   * @param type the serialized class
+   * @return the expected output size
+   */
+  int estimate(Class<?> type) {
+    Integer size = sizes.get(type);
+    return size == null ? DEFAULT_SIZE : size + (size >> 3);
+  }
+
+  /**
+   * Record an output size.
+   *
+   * @param type the serialized class
+   * @param size the output size
+   */
+  void record(Class<?> type, int size) {
+    sizes.merge(type, size, (previous, latest) -> Math.max(latest, previous - (previous >> 3)));
+  }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.json.*;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import org.glassfish.json.api.BufferPool;
+
+/**
+ * A JSON-P provider that supplies the parser and generator char buffers from
+ * a JsonbBufferPool. All operations delegate to the default (Glassfish)
+ * provider, configured through its {@code BufferPool} hook.
+ * <p>
+ * Parsers are wrapped in a {@code RecyclingJsonParser} so their buffers are
+ * returned to the pool when the document has been read. To keep the JSON-B
+ * contract that input sources are not closed by unmarshal, parser sources are
+ * shielded from the close that recycles the buffer.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class PooledJsonProvider extends JsonProvider {
+
+  /**
+   * The char buffer length requested for parsers and generators; the same as
+   * the Glassfish default.
+   */
+  static final int BUFFER_LENGTH = 4096;
+
+  private final JsonProvider delegate;
+  private final BufferPool bufferPool;
+  private final JsonParserFactory parserFactory;
+  private final JsonGeneratorFactory generatorFactory;
+
+  /**
+   * Construct a new provider.
+   *
+   * @param pool the buffer pool
+   */
+  PooledJsonProvider(JsonbBufferPool pool) {
+    this.delegate = JsonProvider.provider();
+    this.bufferPool = new BufferPool() {
+      @Override
+      public char[] take() {
+        return pool.takeChars(BUFFER_LENGTH);
+      }
+
+      @Override
+      public void recycle(char[] buffer) {
+        pool.recycle(buffer);
+      }
+    };
+    this.parserFactory = createParserFactory(null);
+    this.generatorFactory = delegate.createGeneratorFactory(withBufferPool(null));
+  }
+
+  /**
+   * Internal method to add the buffer pool to a JSON-P configuration.
+   */
+  private Map<String, Object> withBufferPool(Map<String, ?> config) {
+    Map<String, Object> map = config == null ? new HashMap<>() : new HashMap<>(config);
+    map.put(BufferPool.class.getName(), bufferPool);
+    return map;
+  }
+
+  @Override
+  public JsonParser createParser(Reader reader) {
+    return parserFactory.createParser(reader);
+  }
+
+  @Override
+  public JsonParser createParser(InputStream in) {
+    return parserFactory.createParser(in);
+  }
+
+  @Override
+  public JsonParserFactory createParserFactory(Map<String, ?> config) {
+    return new PooledParserFactory(delegate.createParserFactory(withBufferPool(config)));
+  }
+
+  @Override
+  public JsonGenerator createGenerator(Writer writer) {
+    return generatorFactory.createGenerator(writer);
+  }
+
+  @Override
+  public JsonGenerator createGenerator(OutputStream out) {
+    return generatorFactory.createGenerator(out);
+  }
+
+  @Override
+  public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
+    return delegate.createGeneratorFactory(withBufferPool(config));
+  }
+
+  @Override
+  public JsonReader createReader(Reader reader) {
+    return delegate.createReaderFactory(withBufferPool(null)).createReader(reader);
+  }
+
+  @Override
+  public JsonReader createReader(InputStream in) {
+    return delegate.createReaderFactory(withBufferPool(null)).createReader(in);
+  }
+
+  @Override
+  public JsonWriter createWriter(Writer writer) {
+    return delegate.createWriterFactory(withBufferPool(null)).createWriter(writer);
+  }
+
+  @Override
+  public JsonWriter createWriter(OutputStream out) {
+    return delegate.createWriterFactory(withBufferPool(null)).createWriter(out);
+  }
+
+  @Override
+  public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
+    return delegate.createWriterFactory(withBufferPool(config));
+  }
+
+  @Override
+  public JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+    return delegate.createReaderFactory(withBufferPool(config));
+  }
+
+  @Override
+  public JsonObjectBuilder createObjectBuilder() {
+    return delegate.createObjectBuilder();
+  }
+
+  @Override
+  public JsonObjectBuilder createObjectBuilder(JsonObject object) {
+    return delegate.createObjectBuilder(object);
+  }
+
+  @Override
+  public JsonObjectBuilder createObjectBuilder(Map<String, Object> map) {
+    return delegate.createObjectBuilder(map);
+  }
+
+  @Override
+  public JsonArrayBuilder createArrayBuilder() {
+    return delegate.createArrayBuilder();
+  }
+
+  @Override
+  public JsonArrayBuilder createArrayBuilder(JsonArray array) {
+    return delegate.createArrayBuilder(array);
+  }
+
+  @Override
+  public JsonArrayBuilder createArrayBuilder(Collection<?> collection) {
+    return delegate.createArrayBuilder(collection);
+  }
+
+  @Override
+  public JsonPointer createPointer(String jsonPointer) {
+    return delegate.createPointer(jsonPointer);
+  }
+
+  @Override
+  public JsonPatchBuilder createPatchBuilder() {
+    return delegate.createPatchBuilder();
+  }
+
+  @Override
+  public JsonPatchBuilder createPatchBuilder(JsonArray array) {
+    return delegate.createPatchBuilder(array);
+  }
+
+  @Override
+  public JsonPatch createPatch(JsonArray array) {
+    return delegate.createPatch(array);
+  }
+
+  @Override
+  public JsonPatch createDiff(JsonStructure source, JsonStructure target) {
+    return delegate.createDiff(source, target);
+  }
+
+  @Override
+  public JsonMergePatch createMergePatch(JsonValue patch) {
+    return delegate.createMergePatch(patch);
+  }
+
+  @Override
+  public JsonMergePatch createMergeDiff(JsonValue source, JsonValue target) {
+    return delegate.createMergeDiff(source, target);
+  }
+
+  @Override
+  public JsonBuilderFactory createBuilderFactory(Map<String, ?> config) {
+    return delegate.createBuilderFactory(config);
+  }
+
+  @Override
+  public JsonString createValue(String value) {
+    return delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(int value) {
+    return delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(long value) {
+    return delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(double value) {
+    return delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(BigDecimal value) {
+    return delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(BigInteger value) {
+    return delegate.createValue(value);
+  }
+
+  /**
+   * A parser factory producing recycling parsers over sources that are not
+   * closed by the parser.
+   */
+  private static final class PooledParserFactory implements JsonParserFactory {
+
+    private final JsonParserFactory delegate;
+
+    PooledParserFactory(JsonParserFactory delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public JsonParser createParser(Reader reader) {
+      return new RecyclingJsonParser(delegate.createParser(new FilterReader(reader) {
+        @Override
+        public void close() {
+        }
+      }));
+    }
+
+    @Override
+    public JsonParser createParser(InputStream in) {
+      return new RecyclingJsonParser(delegate.createParser(shield(in)));
+    }
+
+    @Override
+    public JsonParser createParser(InputStream in, Charset charset) {
+      return new RecyclingJsonParser(delegate.createParser(shield(in), charset));
+    }
+
+    @Override
+    public JsonParser createParser(JsonObject obj) {
+      return delegate.createParser(obj);
+    }
+
+    @Override
+    public JsonParser createParser(JsonArray array) {
+      return delegate.createParser(array);
+    }
+
+    @Override
+    public Map<String, ?> getConfigInUse() {
+      return delegate.getConfigInUse();
+    }
+
+    private static InputStream shield(InputStream in) {
+      return new FilterInputStream(in) {
+        @Override
+        public void close() {
+        }
+      };
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable byte output buffer backed by a JsonbBufferPool. The buffer is
+ * taken from the pool on construction, exchanged for a larger pooled buffer
+ * when full, and returned to the pool by {@link #release()}. Not thread safe.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class PooledOutputStream extends OutputStream {
+
+  private final JsonbBufferPool pool;
+  private byte[] buffer;
+  private int count;
+
+  /**
+   * Construct a new output stream.
+   *
+   * @param pool     the buffer pool
+   * @param capacity the expected output length
+   */
+  PooledOutputStream(JsonbBufferPool pool, int capacity) {
+    this.pool = pool;
+    this.buffer = pool.takeBytes(capacity);
+  }
+
+  /**
+   * Internal method to ensure capacity for the indicated number of additional
+   * bytes.
+   */
+  private void ensureCapacity(int length) {
+    int required = count + length;
+    if (required > buffer.length) {
+      byte[] larger = pool.takeBytes(Math.max(required, buffer.length < Integer.MAX_VALUE / 2 ? buffer.length * 2 : required));
+      System.arraycopy(buffer, 0, larger, 0, count);
+      pool.recycle(buffer);
+      buffer = larger;
+    }
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(1);
+    buffer[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    ensureCapacity(len);
+    System.arraycopy(b, off, buffer, count, len);
+    count += len;
+  }
+
+  /**
+   * Get the number of bytes written.
+   *
+   * @return the output length
+   */
+  int size() {
+    return count;
+  }
+
+  /**
+   * Get a copy of the bytes written.
+   *
+   * @return the output
+   */
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, count);
+  }
+
+  /**
+   * Does nothing: the buffer is retained until released.
+   */
+  @Override
+  public void close() {
+  }
+
+  /**
+   * Return the buffer to the pool. The stream may not be used afterwards.
+   */
+  void release() {
+    pool.recycle(buffer);
+    buffer = null;
+  }
+
+}
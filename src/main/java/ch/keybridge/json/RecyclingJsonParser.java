@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+
+/**
+ * A JsonParser that closes its delegate as soon as the top-level JSON object
+ * or array has been read.
+ * <p>
+ * The JSON-B provider never closes the parsers it creates, so the char buffer
+ * a pooled JSON-P parser takes from its buffer pool would never be returned.
+ * This parser tracks the open structures and closes the delegate when the
+ * closing event of the top-level structure has been returned, which recycles
+ * the buffer. The delegate source must not be closed by this (see
+ * {@code PooledJsonProvider}). After that point {@code hasNext} returns
+ * false. A parser abandoned mid-document (e.g. on a binding error) is simply
+ * left to the garbage collector.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+class RecyclingJsonParser implements JsonParser {
+
+  private final JsonParser delegate;
+  /**
+   * The current structure depth.
+   */
+  private int depth;
+  /**
+   * The kind of each open structure, indexed by depth - 1: true for an object,
+   * false for an array. The last entry is the current context.
+   */
+  private boolean[] objects = new boolean[16];
+  /**
+   * The last event returned by next.
+   */
+  private Event event;
+  /**
+   * Indicator that the delegate has been closed.
+   */
+  private boolean closed;
+  /**
+   * Indicator that the delegate has been handed out as a stream and may no
+   * longer be closed automatically.
+   */
+  private boolean unmanaged;
+
+  RecyclingJsonParser(JsonParser delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Internal method called when a structure is opened.
+   */
+  private void enter(boolean object) {
+    if (depth == objects.length) {
+      objects = Arrays.copyOf(objects, depth * 2);
+    }
+    objects[depth++] = object;
+  }
+
+  /**
+   * Internal method to test whether the current context is an object (or an
+   * array if false).
+   */
+  private boolean inContext(boolean object) {
+    return depth > 0 && objects[depth - 1] == object;
+  }
+
+  /**
+   * Internal method called when a structure has been fully read: close the
+   * delegate if the top-level structure is complete.
+   */
+  private void exit() {
+    if (--depth == 0 && !unmanaged) {
+      close();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !closed && delegate.hasNext();
+  }
+
+  @Override
+  public Event next() {
+    if (closed) {
+      throw new NoSuchElementException();
+    }
+    event = delegate.next();
+    switch (event) {
+      case START_OBJECT:
+        enter(true);
+        break;
+      case START_ARRAY:
+        enter(false);
+        break;
+      case END_OBJECT:
+      case END_ARRAY:
+        exit();
+        break;
+      default:
+        break;
+    }
+    return event;
+  }
+
+  @Override
+  public String getString() {
+    return delegate.getString();
+  }
+
+  @Override
+  public boolean isIntegralNumber() {
+    return delegate.isIntegralNumber();
+  }
+
+  @Override
+  public int getInt() {
+    return delegate.getInt();
+  }
+
+  @Override
+  public long getLong() {
+    return delegate.getLong();
+  }
+
+  @Override
+  public BigDecimal getBigDecimal() {
+    return delegate.getBigDecimal();
+  }
+
+  @Override
+  public JsonLocation getLocation() {
+    return delegate.getLocation();
+  }
+
+  @Override
+  public JsonObject getObject() {
+    JsonObject object = delegate.getObject();
+    exit();
+    return object;
+  }
+
+  @Override
+  public JsonArray getArray() {
+    JsonArray array = delegate.getArray();
+    exit();
+    return array;
+  }
+
+  @Override
+  public JsonValue getValue() {
+    JsonValue value = delegate.getValue();
+    if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+      exit();
+    }
+    return value;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Skipping has no effect unless the current context is an object, in which
+   * case the events up to and including its END_OBJECT are consumed.
+   */
+  @Override
+  public void skipObject() {
+    skip(true);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Skipping has no effect unless the current context is an array, in which
+   * case the events up to and including its END_ARRAY are consumed.
+   */
+  @Override
+  public void skipArray() {
+    skip(false);
+  }
+
+  /**
+   * Internal method to skip the rest of the current structure if it is of the
+   * indicated kind. The events are consumed here rather than by the delegate
+   * since providers differ on when their skip methods take effect (some only
+   * directly after the START event) and the depth must stay exact.
+   */
+  private void skip(boolean object) {
+    if (inContext(object)) {
+      int target = depth - 1;
+      while (depth > target) {
+        next();
+      }
+    }
+  }
+
+  @Override
+  public Stream<JsonValue> getArrayStream() {
+    unmanaged = true;
+    return delegate.getArrayStream();
+  }
+
+  @Override
+  public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+    unmanaged = true;
+    return delegate.getObjectStream();
+  }
+
+  @Override
+  public Stream<JsonValue> getValueStream() {
+    unmanaged = true;
+    return delegate.getValueStream();
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      delegate.close();
+    }
+  }
+
+}
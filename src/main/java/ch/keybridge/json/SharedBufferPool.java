@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A buffer pool shared by all threads. Buffers are kept in lock-free queues,
+ * one per power of two size class, and each size class retains at most
+ * {@code capacity} buffers of each type, none longer than the retained length
+ * ({@link #DEFAULT_RETAINED_LENGTH} elements unless configured). Buffers
+ * recycled when a size class is full, and larger buffers, are left to the
+ * garbage collector, so a burst of large documents does not pin large buffers
+ * for the life of the process.
+ * <p>
+ * Retained memory is at most about {@code 6 × retainedLength × capacity}
+ * bytes: 384 KB per unit of capacity with the defaults, or 12 MB with the
+ * default capacity on 8 processors.
+ * <p>
+ * Use this pool when buffers may be recycled by a different thread than the
+ * one that took them, or when the number of threads is large.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class SharedBufferPool extends AbstractBufferPool {
+
+  /**
+   * The size class of the smallest buffer: 2^8 = MIN_LENGTH.
+   */
+  private static final int MIN_CLASS = Integer.numberOfTrailingZeros(MIN_LENGTH);
+  /**
+   * The size class of the largest buffer: 2^22 = MAX_LENGTH.
+   */
+  private static final int MAX_CLASS = Integer.numberOfTrailingZeros(MAX_LENGTH);
+
+  /**
+   * The default maximum length of a retained buffer. 64K elements.
+   */
+  public static final int DEFAULT_RETAINED_LENGTH = 64 * 1024;
+
+  private final int capacity;
+  /**
+   * The maximum length of a retained buffer.
+   */
+  private final int retainedLength;
+  private final Bucket<char[]>[] chars;
+  private final Bucket<byte[]>[] bytes;
+
+  /**
+   * Construct a shared pool retaining up to four buffers per processor in
+   * each size class, with buffers of up to {@link #DEFAULT_RETAINED_LENGTH}
+   * elements.
+   */
+  public SharedBufferPool() {
+    this(4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Construct a shared pool retaining buffers of up to
+   * {@link #DEFAULT_RETAINED_LENGTH} elements.
+   *
+   * @param capacity the maximum number of buffers of each type retained in
+   *                 each size class
+   */
+  public SharedBufferPool(int capacity) {
+    this(capacity, DEFAULT_RETAINED_LENGTH);
+  }
+
+  /**
+   * Construct a shared pool.
+   *
+   * @param capacity       the maximum number of buffers of each type retained
+   *                       in each size class
+   * @param retainedLength the maximum length of a retained buffer, 256 to 4M
+   *                       elements
+   */
+  @SuppressWarnings("unchecked")
+  public SharedBufferPool(int capacity, int retainedLength) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+    if (retainedLength < MIN_LENGTH || retainedLength > MAX_LENGTH) {
+      throw new IllegalArgumentException("Retained length must be " + MIN_LENGTH + " to " + MAX_LENGTH + ": " + retainedLength);
+    }
+    this.capacity = capacity;
+    this.retainedLength = retainedLength;
+    this.chars = new Bucket[MAX_CLASS - MIN_CLASS + 1];
+    this.bytes = new Bucket[MAX_CLASS - MIN_CLASS + 1];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = new Bucket<>();
+      bytes[i] = new Bucket<>();
+    }
+  }
+
+  @Override
+  public char[] takeChars(int minLength) {
+    if (minLength <= retainedLength) {
+      char[] buffer = chars[takeClass(minLength)].poll();
+      if (buffer != null) {
+        return hit(buffer);
+      }
+    }
+    return allocateChars(minLength);
+  }
+
+  @Override
+  public void recycle(char[] buffer) {
+    if (buffer != null && isRetained(buffer.length) && buffer.length <= retainedLength) {
+      chars[recycleClass(buffer.length)].offer(buffer, capacity);
+    }
+  }
+
+  @Override
+  public byte[] takeBytes(int minLength) {
+    if (minLength <= retainedLength) {
+      byte[] buffer = bytes[takeClass(minLength)].poll();
+      if (buffer != null) {
+        return hit(buffer);
+      }
+    }
+    return allocateBytes(minLength);
+  }
+
+  @Override
+  public void recycle(byte[] buffer) {
+    if (buffer != null && isRetained(buffer.length) && buffer.length <= retainedLength) {
+      bytes[recycleClass(buffer.length)].offer(buffer, capacity);
+    }
+  }
+
+  /**
+   * Get the size class index from which a request is served: the class of
+   * the allocation length, so every buffer in it is long enough.
+   */
+  private static int takeClass(int minLength) {
+    return Integer.numberOfTrailingZeros(allocationLength(minLength)) - MIN_CLASS;
+  }
+
+  /**
+   * Get the size class index into which a buffer is recycled: the largest
+   * class whose length does not exceed the buffer length.
+   */
+  private static int recycleClass(int length) {
+    return 31 - Integer.numberOfLeadingZeros(length) - MIN_CLASS;
+  }
+
+  /**
+   * A bounded lock-free queue of buffers.
+   *
+   * @param <A> the buffer type
+   */
+  private static final class Bucket<A> {
+
+    private final Queue<A> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    A poll() {
+      A buffer = queue.poll();
+      if (buffer != null) {
+        size.decrementAndGet();
+      }
+      return buffer;
+    }
+
+    void offer(A buffer, int capacity) {
+      if (size.incrementAndGet() <= capacity) {
+        queue.offer(buffer);
+      } else {
+        size.decrementAndGet();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+/**
+ * A buffer pool that keeps a few buffers of each type per thread. Take and
+ * recycle never contend between threads, which makes this the fastest pool
+ * when buffers are recycled by the thread that took them (the usual case for
+ * marshal and unmarshal calls).
+ * <p>
+ * Each thread retains at most {@link #SLOTS} buffers of each type, none
+ * longer than the retained length ({@link #DEFAULT_RETAINED_LENGTH} elements
+ * unless configured); when full, a recycled buffer replaces the smallest
+ * retained buffer. With the defaults a thread retains at most 768 KB. Larger
+ * buffers are left to the garbage collector, so a single large document does
+ * not pin large buffers in every thread.
+ * <p>
+ * Retained memory grows with the number of threads: prefer
+ * {@link SharedBufferPool} for large or unbounded thread pools. This pool is
+ * unsuitable for virtual threads (e.g. the default asynchronous executor on
+ * Java 21 and later), which run each task on a new thread: buffers are never
+ * reused and every call allocates.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class ThreadLocalBufferPool extends AbstractBufferPool {
+
+  /**
+   * The number of buffers of each type retained per thread. A marshal call
+   * holds two char buffers at once (output and generator).
+   */
+  public static final int SLOTS = 4;
+  /**
+   * The default maximum length of a retained buffer. 64K elements.
+   */
+  public static final int DEFAULT_RETAINED_LENGTH = 64 * 1024;
+
+  /**
+   * The maximum length of a retained buffer.
+   */
+  private final int retainedLength;
+  private final ThreadLocal<char[][]> chars = ThreadLocal.withInitial(() -> new char[SLOTS][]);
+  private final ThreadLocal<byte[][]> bytes = ThreadLocal.withInitial(() -> new byte[SLOTS][]);
+
+  /**
+   * Construct a pool retaining buffers of up to
+   * {@link #DEFAULT_RETAINED_LENGTH} elements.
+   */
+  public ThreadLocalBufferPool() {
+    this(DEFAULT_RETAINED_LENGTH);
+  }
+
+  /**
+   * Construct a pool.
+   *
+   * @param retainedLength the maximum length of a retained buffer, 256 to 4M
+   *                       elements
+   */
+  public ThreadLocalBufferPool(int retainedLength) {
+    if (retainedLength < MIN_LENGTH || retainedLength > MAX_LENGTH) {
+      throw new IllegalArgumentException("Retained length must be " + MIN_LENGTH + " to " + MAX_LENGTH + ": " + retainedLength);
+    }
+    this.retainedLength = retainedLength;
+  }
+
+  @Override
+  public char[] takeChars(int minLength) {
+    char[][] slots = chars.get();
+    int best = -1;
+    for (int i = 0; i < SLOTS; i++) {
+      if (slots[i] != null && slots[i].length >= minLength
+        && (best < 0 || slots[i].length < slots[best].length)) {
+        best = i;
+      }
+    }
+    if (best < 0) {
+      return allocateChars(minLength);
+    }
+    char[] buffer = slots[best];
+    slots[best] = null;
+    return hit(buffer);
+  }
+
+  @Override
+  public void recycle(char[] buffer) {
+    if (buffer == null || !isRetained(buffer.length) || buffer.length > retainedLength) {
+      return;
+    }
+    char[][] slots = chars.get();
+    int smallest = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      if (slots[i] == null) {
+        slots[i] = buffer;
+        return;
+      }
+      if (slots[i].length < slots[smallest].length) {
+        smallest = i;
+      }
+    }
+    if (slots[smallest].length < buffer.length) {
+      slots[smallest] = buffer;
+    }
+  }
+
+  @Override
+  public byte[] takeBytes(int minLength) {
+    byte[][] slots = bytes.get();
+    int best = -1;
+    for (int i = 0; i < SLOTS; i++) {
+      if (slots[i] != null && slots[i].length >= minLength
+        && (best < 0 || slots[i].length < slots[best].length)) {
+        best = i;
+      }
+    }
+    if (best < 0) {
+      return allocateBytes(minLength);
+    }
+    byte[] buffer = slots[best];
+    slots[best] = null;
+    return hit(buffer);
+  }
+
+  @Override
+  public void recycle(byte[] buffer) {
+    if (buffer == null || !isRetained(buffer.length) || buffer.length > retainedLength) {
+      return;
+    }
+    byte[][] slots = bytes.get();
+    int smallest = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      if (slots[i] == null) {
+        slots[i] = buffer;
+        return;
+      }
+      if (slots[i].length < slots[smallest].length) {
+        smallest = i;
+      }
+    }
+    if (slots[smallest].length < buffer.length) {
+      slots[smallest] = buffer;
+    }
+  }
+
+}
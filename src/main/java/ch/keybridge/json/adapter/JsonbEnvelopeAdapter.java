@@ -15,11 +15,12 @@
  */
 package ch.keybridge.json.adapter;
 
-import java.text.DecimalFormat;
+import ch.keybridge.json.adapter.ext.FastNumberParser;
+import ch.keybridge.json.adapter.ext.FixedPrecision;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.json.bind.adapter.JsonbAdapter;
 import org.locationtech.jts.geom.Envelope;
 
@@ -29,6 +30,13 @@ import org.locationtech.jts.geom.Envelope;
  * Note that JTS {@code Envelope} class marshals as [Xmin, Xmax, Ymin, Ymax].
  * This marshals the format [Xmin, Ymin, Xmax, Ymax], which is used by GML and
  * WFS.
+ * <p>
+ * The text form is {@code ENV(Xmin, Ymin, Xmax, Ymax)} with six decimal
+ * places. It is read and written without regular expressions or shared
+ * formatters, so the adapter is safe to use from any number of threads. For
+ * a numeric {@code [Xmin, Ymin, Xmax, Ymax]} array use the
+ * {@link JsonbEnvelopeBboxSerializer} and {@link JsonbEnvelopeBboxDeserializer}
+ * instead.
  *
  * @author Key Bridge
  * @since v0.0.1 created 01/02/18
@@ -36,18 +44,25 @@ import org.locationtech.jts.geom.Envelope;
  */
 public class JsonbEnvelopeAdapter implements JsonbAdapter<Envelope, String> {
 
-  private static final DecimalFormat DF = new DecimalFormat("0.000000");
   private static final Logger LOG = Logger.getLogger(JsonbEnvelopeAdapter.class.getName());
 
+  /**
+   * The number of decimal places written.
+   */
+  private static final int DECIMALS = 6;
+  private static final long UNIT = 1_000_000L;
+
   /**
    * {@inheritDoc}
    */
   @Override
   public String adaptToJson(Envelope obj) throws Exception {
-    return "ENV(" + DF.format(obj.getMinX())
-      + ", " + DF.format(obj.getMinY())
-      + ", " + DF.format(obj.getMaxX())
-      + ", " + DF.format(obj.getMaxY()) + ")";
+    StringBuilder sb = new StringBuilder(64).append("ENV(");
+    appendFixed(obj.getMinX(), sb);
+    appendFixed(obj.getMinY(), sb.append(", "));
+    appendFixed(obj.getMaxX(), sb.append(", "));
+    appendFixed(obj.getMaxY(), sb.append(", "));
+    return sb.append(')').toString();
   }
 
   /**
@@ -55,17 +70,94 @@ public class JsonbEnvelopeAdapter implements JsonbAdapter<Envelope, String> {
    */
   @Override
   public Envelope adaptFromJson(String obj) throws Exception {
-    Pattern p = Pattern.compile("ENV\\((-?\\d+\\.\\d+)\\s*,\\s*(-?\\d+\\.\\d+)\\s*,\\s*(-?\\d+\\.\\d+)\\s*,\\s*(-?\\d+\\.\\d+)\\)");
-    Matcher m = p.matcher(obj);
-    if (m.find()) {
-      return new Envelope(Double.valueOf(m.group(1)),
-                          Double.valueOf(m.group(2)),
-                          Double.valueOf(m.group(3)),
-                          Double.valueOf(m.group(4)));
-    } else {
-      LOG.log(Level.WARNING, "WKT envelope parse error. {1}", new Object[]{obj});
+    Envelope envelope = parse(obj);
+    if (envelope == null) {
+      LOG.log(Level.WARNING, "WKT envelope parse error. {0}", obj);
+    }
+    return envelope;
+  }
+
+  /**
+   * Append a number with six decimal places, rounded HALF_EVEN as by the
+   * {@code DecimalFormat("0.000000")} this replaces.
+   *
+   * @param value the number
+   * @param sb    the output
+   */
+  private static void appendFixed(double value, StringBuilder sb) {
+    long unscaled = FixedPrecision.unscaled(value, DECIMALS);
+    if (unscaled == FixedPrecision.UNREPRESENTABLE) {
+      /**
+       * Too close to a rounding tie or too large to scale: rare.
+       */
+      if (Double.isNaN(value) || Double.isInfinite(value)) {
+        sb.append(value);
+      } else {
+        sb.append(new BigDecimal(value).setScale(DECIMALS, RoundingMode.HALF_EVEN).toPlainString());
+      }
+      return;
+    }
+    if (value < 0) {
+      sb.append('-');
+    }
+    long magnitude = Math.abs(unscaled);
+    long fraction = magnitude % UNIT;
+    sb.append(magnitude / UNIT).append('.');
+    for (long place = UNIT / 10; place > fraction && place > 1; place /= 10) {
+      sb.append('0');
+    }
+    sb.append(fraction);
+  }
+
+  /**
+   * Parse the {@code ENV(Xmin, Ymin, Xmax, Ymax)} text form. Whitespace is
+   * allowed around the values and any number form is accepted.
+   *
+   * @param text the text
+   * @return the envelope, or null if the text is not an envelope
+   */
+  static Envelope parse(String text) {
+    int length = text.length();
+    int position = skipWhitespace(text, 0);
+    if (!text.startsWith("ENV", position)) {
+      return null;
+    }
+    position = skipWhitespace(text, position + 3);
+    if (position >= length || text.charAt(position++) != '(') {
       return null;
     }
+    double[] values = new double[4];
+    for (int i = 0; i < values.length; i++) {
+      int start = skipWhitespace(text, position);
+      int end = start;
+      while (end < length && isNumberChar(text.charAt(end))) {
+        end++;
+      }
+      if (end == start) {
+        return null;
+      }
+      try {
+        values[i] = FastNumberParser.parseDouble(text, start, end);
+      } catch (NumberFormatException ex) {
+        return null;
+      }
+      position = skipWhitespace(text, end);
+      if (position >= length || text.charAt(position++) != (i < values.length - 1 ? ',' : ')')) {
+        return null;
+      }
+    }
+    return new Envelope(values[0], values[2], values[1], values[3]);
+  }
+
+  private static boolean isNumberChar(char c) {
+    return c >= '0' && c <= '9' || c == '-' || c == '.' || c == '+' || c == 'e' || c == 'E';
+  }
+
+  private static int skipWhitespace(String text, int position) {
+    while (position < text.length() && text.charAt(position) <= ' ') {
+      position++;
+    }
+    return position;
   }
 
 }
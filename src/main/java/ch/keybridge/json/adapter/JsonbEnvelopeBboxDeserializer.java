@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.lang.reflect.Type;
+import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.stream.JsonParser;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * JSON deserializer reading an RFC 7946 GeoJSON bounding box array into an
+ * Envelope. Both the 2D form [Xmin, Ymin, Xmax, Ymax] and the 3D form [Xmin,
+ * Ymin, Zmin, Xmax, Ymax, Zmax] are accepted; the Z values are ignored. An
+ * empty array is read as a null envelope.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://tools.ietf.org/html/rfc7946#section-5">RFC 7946
+ * Bounding Box</a>
+ */
+public class JsonbEnvelopeBboxDeserializer implements JsonbDeserializer<Envelope> {
+
+  /**
+   * {@inheritDoc} Read a bounding box array. The parser is positioned at the
+   * start of the array.
+   */
+  @Override
+  public Envelope deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+    double[] values = new double[6];
+    int count = 0;
+    JsonParser.Event event;
+    while ((event = parser.next()) == JsonParser.Event.VALUE_NUMBER) {
+      if (count == values.length) {
+        throw new JsonbException("A bounding box has at most six values.");
+      }
+      values[count++] = Double.parseDouble(parser.getString());
+    }
+    if (event != JsonParser.Event.END_ARRAY) {
+      throw new JsonbException("Unexpected " + event + " in a bounding box.");
+    }
+    switch (count) {
+      case 0:
+        return new Envelope();
+      case 4:
+        return new Envelope(values[0], values[2], values[1], values[3]);
+      case 6:
+        return new Envelope(values[0], values[3], values[1], values[4]);
+      default:
+        throw new JsonbException("A bounding box must have four or six values.");
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * JSON serializer writing Envelope class types as an RFC 7946 GeoJSON bounding
+ * box array [Xmin, Ymin, Xmax, Ymax]. A null envelope is written as an empty
+ * array.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://tools.ietf.org/html/rfc7946#section-5">RFC 7946
+ * Bounding Box</a>
+ */
+public class JsonbEnvelopeBboxSerializer implements JsonbSerializer<Envelope> {
+
+  /**
+   * {@inheritDoc} Write the envelope as a bounding box array.
+   */
+  @Override
+  public void serialize(Envelope obj, JsonGenerator generator, SerializationContext ctx) {
+    generator.writeStartArray();
+    if (!obj.isNull()) {
+      generator.write(obj.getMinX())
+        .write(obj.getMinY())
+        .write(obj.getMaxX())
+        .write(obj.getMaxY());
+    }
+    generator.writeEnd();
+  }
+
+}
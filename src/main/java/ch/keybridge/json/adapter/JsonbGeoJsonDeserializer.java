@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.stream.JsonParser;
+import org.locationtech.jts.geom.*;
+
+/**
+ * JSON deserializer reading RFC 7946 GeoJSON geometry objects into Geometry
+ * class types. Coordinates are read token by token from the JsonParser; the
+ * members may appear in any order and unknown members (e.g. "bbox" or "crs")
+ * are skipped.
+ * <p>
+ * Geometry collections nest at most
+ * {@link JsonbGeometryTwkbAdapter#MAX_NESTING} deep and coordinate arrays at
+ * most four deep (a MultiPolygon position); deeper input is rejected.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://tools.ietf.org/html/rfc7946">RFC 7946</a>
+ */
+public class JsonbGeoJsonDeserializer implements JsonbDeserializer<Geometry> {
+
+  /**
+   * The maximum nesting depth of coordinate arrays: the position in a ring of
+   * a MultiPolygon.
+   */
+  private static final int MAX_COORDINATE_DEPTH = 4;
+
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+
+  /**
+   * {@inheritDoc} Read a GeoJSON geometry object. The parser is positioned
+   * at the start of the object.
+   */
+  @Override
+  public Geometry deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+    return read(parser, 0);
+  }
+
+  /**
+   * Read the members of a geometry object up to its end.
+   *
+   * @param depth the collection nesting depth
+   */
+  private Geometry read(JsonParser parser, int depth) {
+    if (depth > JsonbGeometryTwkbAdapter.MAX_NESTING) {
+      throw new JsonbException("GeoJSON collection nesting exceeds " + JsonbGeometryTwkbAdapter.MAX_NESTING + ".");
+    }
+    String type = null;
+    Object coordinates = null;
+    List<Geometry> geometries = null;
+    while (parser.hasNext()) {
+      JsonParser.Event event = parser.next();
+      if (event == JsonParser.Event.END_OBJECT) {
+        return build(type, coordinates, geometries);
+      }
+      String key = parser.getString();
+      event = parser.next();
+      if ("type".equals(key) && event == JsonParser.Event.VALUE_STRING) {
+        type = parser.getString();
+      } else if ("coordinates".equals(key) && event == JsonParser.Event.START_ARRAY) {
+        coordinates = readCoordinates(parser, 1);
+      } else if ("geometries".equals(key) && event == JsonParser.Event.START_ARRAY) {
+        geometries = new ArrayList<>();
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+          if (event != JsonParser.Event.START_OBJECT) {
+            throw new JsonbException("GeoJSON geometries must be objects.");
+          }
+          geometries.add(read(parser, depth + 1));
+        }
+      } else {
+        skip(parser, event);
+      }
+    }
+    throw new JsonbException("Unterminated GeoJSON geometry.");
+  }
+
+  /**
+   * Read a coordinates array after its opening bracket: a position becomes a
+   * Coordinate, any other array a List of its members.
+   *
+   * @param depth the array nesting depth, 1 for the coordinates member
+   */
+  private static Object readCoordinates(JsonParser parser, int depth) {
+    if (depth > MAX_COORDINATE_DEPTH) {
+      throw new JsonbException("GeoJSON coordinates nest deeper than " + MAX_COORDINATE_DEPTH + " arrays.");
+    }
+    JsonParser.Event event = parser.next();
+    if (event == JsonParser.Event.VALUE_NUMBER) {
+      double[] ordinates = new double[3];
+      int count = 0;
+      do {
+        if (count < 3) {
+          ordinates[count] = Double.parseDouble(parser.getString());
+        }
+        count++;
+      } while ((event = parser.next()) == JsonParser.Event.VALUE_NUMBER);
+      if (event != JsonParser.Event.END_ARRAY || count < 2) {
+        throw new JsonbException("A GeoJSON position must be an array of two or more numbers.");
+      }
+      return count == 2 ? new Coordinate(ordinates[0], ordinates[1]) : new Coordinate(ordinates[0], ordinates[1], ordinates[2]);
+    }
+    List<Object> list = new ArrayList<>();
+    for (; event != JsonParser.Event.END_ARRAY; event = parser.next()) {
+      if (event != JsonParser.Event.START_ARRAY) {
+        throw new JsonbException("Unexpected " + event + " in GeoJSON coordinates.");
+      }
+      list.add(readCoordinates(parser, depth + 1));
+    }
+    return list;
+  }
+
+  /**
+   * Skip the value of an unknown member.
+   */
+  private static void skip(JsonParser parser, JsonParser.Event event) {
+    if (event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY) {
+      int depth = 1;
+      while (depth > 0) {
+        event = parser.next();
+        if (event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY) {
+          depth++;
+        } else if (event == JsonParser.Event.END_OBJECT || event == JsonParser.Event.END_ARRAY) {
+          depth--;
+        }
+      }
+    }
+  }
+
+  /**
+   * Build the geometry from its type and coordinates.
+   */
+  private Geometry build(String type, Object coordinates, List<Geometry> geometries) {
+    if (type == null) {
+      throw new JsonbException("GeoJSON geometry type is missing.");
+    }
+    if ("GeometryCollection".equals(type)) {
+      return geometryFactory.createGeometryCollection(geometries == null ? new Geometry[0] : geometries.toArray(new Geometry[geometries.size()]));
+    }
+    try {
+      switch (type) {
+        case "Point":
+          return coordinates instanceof Coordinate
+                 ? geometryFactory.createPoint((Coordinate) coordinates)
+                 : geometryFactory.createPoint();
+        case "LineString":
+          return geometryFactory.createLineString(positions(coordinates));
+        case "Polygon":
+          return polygon(coordinates);
+        case "MultiPoint":
+          return geometryFactory.createMultiPointFromCoords(positions(coordinates));
+        case "MultiLineString": {
+          List<Object> lines = list(coordinates);
+          LineString[] lineStrings = new LineString[lines.size()];
+          for (int i = 0; i < lineStrings.length; i++) {
+            lineStrings[i] = geometryFactory.createLineString(positions(lines.get(i)));
+          }
+          return geometryFactory.createMultiLineString(lineStrings);
+        }
+        case "MultiPolygon": {
+          List<Object> polygons = list(coordinates);
+          Polygon[] members = new Polygon[polygons.size()];
+          for (int i = 0; i < members.length; i++) {
+            members[i] = polygon(polygons.get(i));
+          }
+          return geometryFactory.createMultiPolygon(members);
+        }
+        default:
+          throw new JsonbException("Unsupported GeoJSON geometry type " + type + ".");
+      }
+    } catch (ClassCastException | ArrayStoreException | IllegalArgumentException ex) {
+      throw new JsonbException("Invalid GeoJSON " + type + " coordinates.", ex);
+    }
+  }
+
+  private Polygon polygon(Object coordinates) {
+    List<Object> rings = list(coordinates);
+    if (rings.isEmpty()) {
+      return geometryFactory.createPolygon();
+    }
+    LinearRing[] holes = new LinearRing[rings.size() - 1];
+    for (int i = 0; i < holes.length; i++) {
+      holes[i] = geometryFactory.createLinearRing(positions(rings.get(i + 1)));
+    }
+    return geometryFactory.createPolygon(geometryFactory.createLinearRing(positions(rings.get(0))), holes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> list(Object coordinates) {
+    return coordinates == null ? new ArrayList<>() : (List<Object>) coordinates;
+  }
+
+  private static Coordinate[] positions(Object coordinates) {
+    List<Object> list = list(coordinates);
+    return list.toArray(new Coordinate[list.size()]);
+  }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+import org.locationtech.jts.geom.*;
+
+/**
+ * JSON serializer writing Geometry class types as RFC 7946 GeoJSON geometry
+ * objects, e.g.
+ * <pre>
+ * {"type":"Point","coordinates":[-77.0364,38.8951]}
+ * </pre>
+ * Coordinates are written number by number to the JsonGenerator; no WKT or
+ * other intermediate String is built. The Z-component is written when
+ * present. A LinearRing is written as a LineString.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://tools.ietf.org/html/rfc7946">RFC 7946</a>
+ */
+public class JsonbGeoJsonSerializer implements JsonbSerializer<Geometry> {
+
+  /**
+   * {@inheritDoc} Write the geometry as a GeoJSON geometry object.
+   */
+  @Override
+  public void serialize(Geometry obj, JsonGenerator generator, SerializationContext ctx) {
+    write(obj, generator);
+  }
+
+  /**
+   * Write a geometry as a GeoJSON geometry object.
+   *
+   * @param geometry  the geometry
+   * @param generator the generator, positioned for a value
+   */
+  static void write(Geometry geometry, JsonGenerator generator) {
+    generator.writeStartObject();
+    if (geometry instanceof GeometryCollection && !(geometry instanceof MultiPoint
+                                                    || geometry instanceof MultiLineString
+                                                    || geometry instanceof MultiPolygon)) {
+      generator.write("type", "GeometryCollection");
+      generator.writeStartArray("geometries");
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        write(geometry.getGeometryN(i), generator);
+      }
+      generator.writeEnd();
+    } else {
+      generator.write("type", geometry instanceof LinearRing ? "LineString" : geometry.getGeometryType());
+      generator.writeKey("coordinates");
+      writeCoordinates(geometry, generator);
+    }
+    generator.writeEnd();
+  }
+
+  /**
+   * Write the coordinates array of a Point, LineString, Polygon or
+   * multi-geometry.
+   */
+  private static void writeCoordinates(Geometry geometry, JsonGenerator generator) {
+    if (geometry instanceof Point) {
+      if (geometry.isEmpty()) {
+        generator.writeStartArray().writeEnd();
+      } else {
+        writePosition(((Point) geometry).getCoordinateSequence(), 0, generator);
+      }
+    } else if (geometry instanceof LineString) {
+      writePositions(((LineString) geometry).getCoordinateSequence(), generator);
+    } else if (geometry instanceof Polygon) {
+      Polygon polygon = (Polygon) geometry;
+      generator.writeStartArray();
+      if (!polygon.isEmpty()) {
+        writePositions(polygon.getExteriorRing().getCoordinateSequence(), generator);
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+          writePositions(polygon.getInteriorRingN(i).getCoordinateSequence(), generator);
+        }
+      }
+      generator.writeEnd();
+    } else {
+      generator.writeStartArray();
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        writeCoordinates(geometry.getGeometryN(i), generator);
+      }
+      generator.writeEnd();
+    }
+  }
+
+  private static void writePositions(CoordinateSequence sequence, JsonGenerator generator) {
+    generator.writeStartArray();
+    for (int i = 0; i < sequence.size(); i++) {
+      writePosition(sequence, i, generator);
+    }
+    generator.writeEnd();
+  }
+
+  private static void writePosition(CoordinateSequence sequence, int i, JsonGenerator generator) {
+    generator.writeStartArray()
+      .write(sequence.getX(i))
+      .write(sequence.getY(i));
+    double z = sequence.getZ(i);
+    if (!Double.isNaN(z)) {
+      generator.write(z);
+    }
+    generator.writeEnd();
+  }
+
+}
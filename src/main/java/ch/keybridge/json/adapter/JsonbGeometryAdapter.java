@@ -18,16 +18,25 @@
  */
 package ch.keybridge.json.adapter;
 
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.json.bind.adapter.JsonbAdapter;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKTReader;
-import org.locationtech.jts.io.WKTWriter;
 
 /**
  * JSON adapter to marshal and unmarshal Geometry class types.
+ * <p>
+ * Geometries are written and read as WKT by a single-pass codec that shares
+ * one GeometryFactory. Set a factory with a fixed PrecisionModel or an SRID
+ * using the GeometryFactory constructor.
+ * <p>
+ * Base64 or hexadecimal WKB input is only accepted when enabled with the
+ * {@link #JsonbGeometryAdapter(GeometryFactory, boolean)} constructor. Use the
+ * {@code JsonbGeometryWkbAdapter} to read mixed WKT and WKB archives with the
+ * no-argument constructor.
  *
  * @author Key Bridge
  * @since v0.0.1 created 2020-07-15
@@ -38,26 +47,100 @@ public class JsonbGeometryAdapter implements JsonbAdapter<Geometry, String> {
   private static final Logger LOG = Logger.getLogger(JsonbGeometryAdapter.class.getName());
 
   /**
-   * {@inheritDoc} Important. Must specify a 3D WKT Writer to output the
-   * Z-component of the geometry. "toString()" and the default WKTWriter are
-   * 2-dimensional and do not output the Z-component.
+   * The WKT reader and writer.
+   */
+  private final WktCodec wktCodec;
+  /**
+   * Also read base64 or hexadecimal WKB.
+   */
+  private final boolean acceptWkb;
+
+  /**
+   * Default no-arg constructor. Geometries are read with a floating precision
+   * model and no SRID.
+   */
+  public JsonbGeometryAdapter() {
+    this.wktCodec = WktCodec.DEFAULT;
+    this.acceptWkb = false;
+  }
+
+  /**
+   * Construct the adapter with a custom GeometryFactory.
+   *
+   * @param geometryFactory the factory used to create geometries. Its
+   *                        PrecisionModel and SRID apply to every WKT
+   *                        geometry read.
+   */
+  public JsonbGeometryAdapter(GeometryFactory geometryFactory) {
+    this(geometryFactory, false);
+  }
+
+  /**
+   * Construct the adapter with a custom GeometryFactory, optionally also
+   * reading WKB.
+   *
+   * @param geometryFactory the factory used to create geometries. Its
+   *                        PrecisionModel and SRID apply to every geometry
+   *                        read.
+   * @param acceptWkb       true to also read base64 or hexadecimal WKB, as
+   *                        written by the {@code JsonbGeometryWkbAdapter}
+   */
+  public JsonbGeometryAdapter(GeometryFactory geometryFactory, boolean acceptWkb) {
+    this.wktCodec = new WktCodec(geometryFactory);
+    this.acceptWkb = acceptWkb;
+  }
+
+  /**
+   * {@inheritDoc} The Z-component is written if any coordinate has one, in
+   * the layout of the JTS 3D WKTWriter. "toString()" and the default
+   * WKTWriter are 2-dimensional and do not output the Z-component.
    */
   @Override
   public String adaptToJson(Geometry obj) throws Exception {
-    return new WKTWriter(3).write(obj);
+    return wktCodec.write(obj);
   }
 
   /**
-   * {@inheritDoc}
+   * {@inheritDoc} If enabled, base64 or hexadecimal WKB, as written by the
+   * {@code JsonbGeometryWkbAdapter}, is also accepted and is built with the
+   * same GeometryFactory.
    */
   @Override
   public Geometry adaptFromJson(String obj) throws Exception {
+    char first = obj.isEmpty() ? ' ' : obj.charAt(0);
+    if (acceptWkb && (first == 'A' || first == 'e' || first == '0')) {
+      return JsonbGeometryWkbAdapter.read(obj, wktCodec);
+    }
     try {
-      return new WKTReader().read(obj);
+      return wktCodec.read(obj);
     } catch (ParseException ex) {
       LOG.log(Level.WARNING, "WKT geometry parse error {0}. {1}", new Object[]{ex.getMessage(), obj});
       return null;
     }
   }
 
+  /**
+   * {@inheritDoc} Adapters are equal if their geometry factories have the
+   * same PrecisionModel, SRID and coordinate sequence factory type and both
+   * accept or reject WKB.
+   */
+  @Override
+  public int hashCode() {
+    GeometryFactory factory = wktCodec.getGeometryFactory();
+    return Objects.hash(getClass(), factory.getPrecisionModel(), factory.getSRID(), acceptWkb);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GeometryFactory factory = wktCodec.getGeometryFactory();
+    GeometryFactory other = ((JsonbGeometryAdapter) obj).wktCodec.getGeometryFactory();
+    return acceptWkb == ((JsonbGeometryAdapter) obj).acceptWkb
+      && factory.getPrecisionModel().equals(other.getPrecisionModel())
+      && factory.getSRID() == other.getSRID()
+      && factory.getCoordinateSequenceFactory().getClass() == other.getCoordinateSequenceFactory().getClass();
+  }
+
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+/**
+ * JSON adapter to marshal and unmarshal Geometry class types as base64
+ * encoded, zlib compressed Well-Known Binary (WKB). Use with the
+ * {@code JsonbTypeAdapter} annotation where a no-argument adapter is
+ * required.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see JsonbGeometryWkbAdapter
+ */
+public class JsonbGeometryCompressedWkbAdapter extends JsonbGeometryWkbAdapter {
+
+  public JsonbGeometryCompressedWkbAdapter() {
+    super(true);
+  }
+
+}
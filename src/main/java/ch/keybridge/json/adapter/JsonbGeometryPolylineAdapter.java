@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.json.bind.adapter.JsonbAdapter;
+import org.locationtech.jts.geom.*;
+
+/**
+ * JSON adapter to marshal and unmarshal LineString, Polygon and
+ * MultiLineString geometries in the Google encoded polyline format.
+ * Coordinates are quantized to a fixed number of decimal places and written as
+ * printable variable-length deltas, typically 3 to 4 characters per ordinate.
+ * Decoding accumulates the deltas in integer arithmetic.
+ * <p>
+ * Each line or ring is a standard encoded polyline (latitude then longitude,
+ * 2D). Polygon rings are each prefixed with '!' and written without the
+ * closing coordinate; MultiLineString members are each prefixed with '*'. Both
+ * characters are outside the polyline alphabet. For example
+ * <pre>
+ * LINESTRING   _p~iF~ps|U_ulLnnqC
+ * POLYGON      !_p~iF~ps|U_ulLnnqC_mqNvxq`@!...
+ * </pre>
+ * <p>
+ * The default precision is 5 decimal places, as used by Google; subclasses
+ * fix other precisions for use with the {@code JsonbTypeAdapter} annotation.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">Encoded
+ * Polyline Algorithm Format</a>
+ */
+public class JsonbGeometryPolylineAdapter implements JsonbAdapter<Geometry, String> {
+
+  private static final Logger LOG = Logger.getLogger(JsonbGeometryPolylineAdapter.class.getName());
+
+  /**
+   * The Polygon ring and MultiLineString member prefixes.
+   */
+  private static final char RING = '!', LINE = '*';
+
+  /**
+   * The quantization scale, 10^precision.
+   */
+  private final double scale;
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+
+  /**
+   * Construct an adapter with 5 decimal places of precision.
+   */
+  public JsonbGeometryPolylineAdapter() {
+    this(5);
+  }
+
+  /**
+   * Construct an adapter.
+   *
+   * @param precision the number of decimal places, 0 to 10
+   */
+  public JsonbGeometryPolylineAdapter(int precision) {
+    if (precision < 0 || precision > 10) {
+      throw new IllegalArgumentException("Polyline precision must be 0 to 10.");
+    }
+    this.scale = Math.pow(10, precision);
+  }
+
+  /**
+   * {@inheritDoc} Write the geometry as an encoded polyline.
+   *
+   * @throws IllegalArgumentException if the geometry is not a LineString,
+   *                                  Polygon or MultiLineString
+   */
+  @Override
+  public String adaptToJson(Geometry obj) throws Exception {
+    StringBuilder sb = new StringBuilder(obj.getNumPoints() * 8);
+    if (obj instanceof LineString) {
+      encode(((LineString) obj).getCoordinateSequence(), false, sb);
+    } else if (obj instanceof Polygon) {
+      Polygon polygon = (Polygon) obj;
+      if (!polygon.isEmpty()) {
+        sb.append(RING);
+        encode(polygon.getExteriorRing().getCoordinateSequence(), true, sb);
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+          sb.append(RING);
+          encode(polygon.getInteriorRingN(i).getCoordinateSequence(), true, sb);
+        }
+      } else {
+        sb.append(RING);
+      }
+    } else if (obj instanceof MultiLineString) {
+      for (int i = 0; i < obj.getNumGeometries(); i++) {
+        sb.append(LINE);
+        encode(((LineString) obj.getGeometryN(i)).getCoordinateSequence(), false, sb);
+      }
+    } else {
+      throw new IllegalArgumentException("Encoded polyline supports LineString, Polygon and MultiLineString, not " + obj.getGeometryType());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * {@inheritDoc} Read an encoded polyline at the configured precision.
+   */
+  @Override
+  public Geometry adaptFromJson(String obj) throws Exception {
+    try {
+      if (obj.isEmpty() || obj.charAt(0) != RING && obj.charAt(0) != LINE) {
+        return geometryFactory.createLineString(decode(obj, 0, obj.length(), false));
+      }
+      List<Coordinate[]> parts = new ArrayList<>();
+      int start = 1;
+      for (int i = 1; i <= obj.length(); i++) {
+        if (i == obj.length() || obj.charAt(i) == RING || obj.charAt(i) == LINE) {
+          parts.add(decode(obj, start, i, obj.charAt(0) == RING));
+          start = i + 1;
+        }
+      }
+      if (obj.charAt(0) == LINE) {
+        LineString[] lineStrings = new LineString[parts.size()];
+        for (int i = 0; i < lineStrings.length; i++) {
+          lineStrings[i] = geometryFactory.createLineString(parts.get(i));
+        }
+        return geometryFactory.createMultiLineString(lineStrings);
+      }
+      if (parts.get(0).length == 0) {
+        return geometryFactory.createPolygon();
+      }
+      LinearRing[] holes = new LinearRing[parts.size() - 1];
+      for (int i = 0; i < holes.length; i++) {
+        holes[i] = geometryFactory.createLinearRing(parts.get(i + 1));
+      }
+      return geometryFactory.createPolygon(geometryFactory.createLinearRing(parts.get(0)), holes);
+    } catch (IllegalArgumentException ex) {
+      LOG.log(Level.WARNING, "Encoded polyline parse error {0}. {1}", new Object[]{ex.getMessage(), obj});
+      return null;
+    }
+  }
+
+  /**
+   * Encode one line or ring. A ring is written without its closing
+   * coordinate.
+   */
+  private void encode(CoordinateSequence sequence, boolean ring, StringBuilder sb) {
+    int size = ring && sequence.size() > 1 ? sequence.size() - 1 : sequence.size();
+    long lat = 0, lng = 0;
+    for (int i = 0; i < size; i++) {
+      long y = Math.round(sequence.getY(i) * scale);
+      long x = Math.round(sequence.getX(i) * scale);
+      encode(y - lat, sb);
+      encode(x - lng, sb);
+      lat = y;
+      lng = x;
+    }
+  }
+
+  /**
+   * Encode a signed value in 5-bit groups offset into the printable range.
+   */
+  private static void encode(long value, StringBuilder sb) {
+    long v = value < 0 ? ~(value << 1) : value << 1;
+    while (v >= 0x20) {
+      sb.append((char) ((0x20 | (v & 0x1F)) + 63));
+      v >>= 5;
+    }
+    sb.append((char) (v + 63));
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), scale);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && getClass() == obj.getClass()
+      && scale == ((JsonbGeometryPolylineAdapter) obj).scale;
+  }
+
+  /**
+   * Decode one line or ring between two indices; a ring is closed with its
+   * first coordinate.
+   */
+  private Coordinate[] decode(String text, int start, int end, boolean ring) {
+    List<Coordinate> coordinates = new ArrayList<>();
+    long lat = 0, lng = 0;
+    int[] index = {start};
+    while (index[0] < end) {
+      lat += decode(text, index, end);
+      lng += decode(text, index, end);
+      coordinates.add(new Coordinate(lng / scale, lat / scale));
+    }
+    if (ring && !coordinates.isEmpty()) {
+      coordinates.add(new Coordinate(coordinates.get(0)));
+    }
+    return coordinates.toArray(new Coordinate[coordinates.size()]);
+  }
+
+  private static long decode(String text, int[] index, int end) {
+    long result = 0;
+    int shift = 0;
+    int b;
+    do {
+      if (index[0] >= end || shift > 60) {
+        throw new IllegalArgumentException("Truncated encoded polyline.");
+      }
+      b = text.charAt(index[0]++) - 63;
+      if (b < 0 || b > 0x3F) {
+        throw new IllegalArgumentException("Invalid encoded polyline character.");
+      }
+      result |= (long) (b & 0x1F) << shift;
+      shift += 5;
+    } while (b >= 0x20);
+    return (result & 1) != 0 ? ~(result >>> 1) : result >>> 1;
+  }
+
+}
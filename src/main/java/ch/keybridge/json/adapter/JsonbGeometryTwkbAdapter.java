@@ -0,0 +1,497 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.json.bind.adapter.JsonbAdapter;
+import org.locationtech.jts.geom.*;
+
+/**
+ * JSON adapter to marshal and unmarshal Geometry class types as base64
+ * encoded Tiny Well-Known Binary (TWKB). Coordinates are quantized to a fixed
+ * number of decimal places and written as zig-zag variable-length deltas from
+ * the previous coordinate, so typical polygons take 2 or 3 bytes per ordinate
+ * instead of about 18 characters in WKT. Decoding accumulates the deltas in
+ * integer arithmetic.
+ * <p>
+ * The default precision is 6 decimal places (about 0.1 meter in geographic
+ * degrees). Subclasses fix other precisions for use with the
+ * {@code JsonbTypeAdapter} annotation. Z values are written with the same
+ * precision (up to 7) for a geometry whose coordinates all have a Z value;
+ * TWKB cannot represent a missing Z, so a geometry with only some Z values is
+ * written in 2D. The SRID is not part of TWKB and is not written. Collections
+ * nested deeper than {@link #MAX_NESTING} are rejected when read.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://github.com/TWKB/Specification">TWKB
+ * Specification</a>
+ */
+public class JsonbGeometryTwkbAdapter implements JsonbAdapter<Geometry, String> {
+
+  private static final Logger LOG = Logger.getLogger(JsonbGeometryTwkbAdapter.class.getName());
+
+  /**
+   * TWKB geometry type codes.
+   */
+  private static final int POINT = 1, LINESTRING = 2, POLYGON = 3, MULTIPOINT = 4, MULTILINESTRING = 5,
+    MULTIPOLYGON = 6, COLLECTION = 7;
+  /**
+   * TWKB metadata flags.
+   */
+  private static final int BBOX = 0x01, SIZE = 0x02, IDLIST = 0x04, EXTENDED = 0x08, EMPTY = 0x10;
+  /**
+   * The maximum nesting depth of geometry collections read. Deeper (or
+   * maliciously crafted) input is rejected rather than exhausting the stack.
+   */
+  public static final int MAX_NESTING = 32;
+
+  /**
+   * The number of decimal places, -8 to 7.
+   */
+  private final int precision;
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+
+  /**
+   * Construct an adapter with 6 decimal places of precision.
+   */
+  public JsonbGeometryTwkbAdapter() {
+    this(6);
+  }
+
+  /**
+   * Construct an adapter.
+   *
+   * @param precision the number of decimal places, -8 to 7; negative values
+   *                  round to tens, hundreds, etc.
+   */
+  public JsonbGeometryTwkbAdapter(int precision) {
+    if (precision < -8 || precision > 7) {
+      throw new IllegalArgumentException("TWKB precision must be -8 to 7.");
+    }
+    this.precision = precision;
+  }
+
+  /**
+   * {@inheritDoc} Write the geometry as base64 encoded TWKB.
+   */
+  @Override
+  public String adaptToJson(Geometry obj) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(64 + obj.getNumPoints() * 6);
+    write(obj, outputStream);
+    return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+  }
+
+  /**
+   * {@inheritDoc} Read base64 encoded TWKB at any precision.
+   */
+  @Override
+  public Geometry adaptFromJson(String obj) throws Exception {
+    try {
+      return new Reader(Base64.getDecoder().decode(obj.trim())).read();
+    } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+      LOG.log(Level.WARNING, "TWKB geometry parse error {0}. {1}", new Object[]{ex.getMessage(), obj});
+      return null;
+    }
+  }
+
+  /**
+   * Write a geometry with its own header and delta origin.
+   */
+  private void write(Geometry geometry, ByteArrayOutputStream out) {
+    int type = type(geometry);
+    boolean hasZ = hasZ(geometry);
+    out.write(zigZag(precision) << 4 | type);
+    out.write((hasZ ? EXTENDED : 0) | (geometry.isEmpty() ? EMPTY : 0));
+    if (hasZ) {
+      out.write(Math.max(0, precision) << 2 | 0x01);
+    }
+    if (geometry.isEmpty()) {
+      return;
+    }
+    Writer writer = new Writer(out, hasZ);
+    switch (type) {
+      case POINT:
+        writer.coordinates(((Point) geometry).getCoordinateSequence(), false);
+        break;
+      case LINESTRING:
+        writer.coordinates(((LineString) geometry).getCoordinateSequence(), true);
+        break;
+      case POLYGON:
+        writer.polygon((Polygon) geometry);
+        break;
+      case MULTIPOINT:
+        writeUnsigned(out, geometry.getNumGeometries());
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          writer.coordinates(((Point) geometry.getGeometryN(i)).getCoordinateSequence(), false);
+        }
+        break;
+      case MULTILINESTRING:
+        writeUnsigned(out, geometry.getNumGeometries());
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          writer.coordinates(((LineString) geometry.getGeometryN(i)).getCoordinateSequence(), true);
+        }
+        break;
+      case MULTIPOLYGON:
+        writeUnsigned(out, geometry.getNumGeometries());
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          writer.polygon((Polygon) geometry.getGeometryN(i));
+        }
+        break;
+      default:
+        writeUnsigned(out, geometry.getNumGeometries());
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          write(geometry.getGeometryN(i), out);
+        }
+    }
+  }
+
+  private static int type(Geometry geometry) {
+    if (geometry instanceof Point) {
+      return POINT;
+    } else if (geometry instanceof LineString) {
+      return LINESTRING;
+    } else if (geometry instanceof Polygon) {
+      return POLYGON;
+    } else if (geometry instanceof MultiPoint) {
+      return MULTIPOINT;
+    } else if (geometry instanceof MultiLineString) {
+      return MULTILINESTRING;
+    } else if (geometry instanceof MultiPolygon) {
+      return MULTIPOLYGON;
+    }
+    return COLLECTION;
+  }
+
+  /**
+   * Determine if every coordinate of a geometry has a Z-component.
+   */
+  private static boolean hasZ(Geometry geometry) {
+    ZFilter filter = new ZFilter();
+    geometry.apply(filter);
+    return filter.hasZ && !filter.missingZ;
+  }
+
+  private static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static void writeUnsigned(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static double pow10(int exponent) {
+    double value = 1;
+    for (int i = 0; i < Math.abs(exponent); i++) {
+      value *= 10;
+    }
+    return value;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), precision);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && getClass() == obj.getClass()
+      && precision == ((JsonbGeometryTwkbAdapter) obj).precision;
+  }
+
+  /**
+   * Writes quantized coordinates as deltas from the previous coordinate of
+   * the same geometry.
+   */
+  private class Writer {
+
+    private final ByteArrayOutputStream out;
+    private final boolean hasZ;
+    private final double scale = pow10(precision);
+    private final double zScale = pow10(Math.max(0, precision));
+    private long x, y, z;
+
+    Writer(ByteArrayOutputStream out, boolean hasZ) {
+      this.out = out;
+      this.hasZ = hasZ;
+    }
+
+    void polygon(Polygon polygon) {
+      writeUnsigned(out, 1 + polygon.getNumInteriorRing());
+      coordinates(polygon.getExteriorRing().getCoordinateSequence(), true);
+      for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+        coordinates(polygon.getInteriorRingN(i).getCoordinateSequence(), true);
+      }
+    }
+
+    void coordinates(CoordinateSequence sequence, boolean counted) {
+      if (counted) {
+        writeUnsigned(out, sequence.size());
+      }
+      for (int i = 0; i < sequence.size(); i++) {
+        x = delta(quantize(sequence.getX(i), scale), x);
+        y = delta(quantize(sequence.getY(i), scale), y);
+        if (hasZ) {
+          z = delta(Math.round(sequence.getZ(i) * zScale), z);
+        }
+      }
+    }
+
+    private long quantize(double value, double scale) {
+      return precision < 0 ? Math.round(value / scale) : Math.round(value * scale);
+    }
+
+    /**
+     * Write the zig-zag delta and return the new previous value.
+     */
+    private long delta(long value, long previous) {
+      long delta = value - previous;
+      writeUnsigned(out, (delta << 1) ^ (delta >> 63));
+      return value;
+    }
+  }
+
+  /**
+   * Reads a TWKB geometry.
+   */
+  private class Reader {
+
+    private final byte[] bytes;
+    private int position;
+    /**
+     * The collection nesting depth.
+     */
+    private int depth;
+
+    Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    Geometry read() {
+      int header = bytes[position++] & 0xFF;
+      int type = header & 0x0F;
+      int zigZag = header >>> 4;
+      int xyPrecision = (zigZag >>> 1) ^ -(zigZag & 1);
+      int metadata = bytes[position++] & 0xFF;
+      int dimensions = 2;
+      boolean hasZ = false;
+      int zPrecision = 0;
+      if ((metadata & EXTENDED) != 0) {
+        int extended = bytes[position++] & 0xFF;
+        hasZ = (extended & 0x01) != 0;
+        zPrecision = extended >>> 2 & 0x07;
+        dimensions += (hasZ ? 1 : 0) + ((extended & 0x02) != 0 ? 1 : 0);
+      }
+      if ((metadata & SIZE) != 0) {
+        readUnsigned();
+      }
+      if ((metadata & BBOX) != 0) {
+        for (int i = 0; i < 2 * dimensions; i++) {
+          readUnsigned();
+        }
+      }
+      if ((metadata & EMPTY) != 0) {
+        return empty(type);
+      }
+      Sequence sequence = new Sequence(dimensions, hasZ, xyPrecision, zPrecision);
+      switch (type) {
+        case POINT:
+          return geometryFactory.createPoint(sequence.read(1)[0]);
+        case LINESTRING:
+          return geometryFactory.createLineString(sequence.read(count()));
+        case POLYGON:
+          return polygon(sequence);
+        case MULTIPOINT: {
+          Coordinate[] points = sequence.read(ids(count(), metadata));
+          return geometryFactory.createMultiPointFromCoords(points);
+        }
+        case MULTILINESTRING: {
+          LineString[] lineStrings = new LineString[ids(count(), metadata)];
+          for (int i = 0; i < lineStrings.length; i++) {
+            lineStrings[i] = geometryFactory.createLineString(sequence.read(count()));
+          }
+          return geometryFactory.createMultiLineString(lineStrings);
+        }
+        case MULTIPOLYGON: {
+          Polygon[] polygons = new Polygon[ids(count(), metadata)];
+          for (int i = 0; i < polygons.length; i++) {
+            polygons[i] = polygon(sequence);
+          }
+          return geometryFactory.createMultiPolygon(polygons);
+        }
+        case COLLECTION: {
+          if (++depth > MAX_NESTING) {
+            throw new IllegalArgumentException("TWKB collections nested deeper than " + MAX_NESTING);
+          }
+          Geometry[] geometries = new Geometry[ids(count(), metadata)];
+          for (int i = 0; i < geometries.length; i++) {
+            geometries[i] = read();
+          }
+          depth--;
+          return geometryFactory.createGeometryCollection(geometries);
+        }
+        default:
+          throw new IllegalArgumentException("Unknown TWKB geometry type " + type);
+      }
+    }
+
+    private Polygon polygon(Sequence sequence) {
+      int rings = count();
+      if (rings == 0) {
+        return geometryFactory.createPolygon();
+      }
+      LinearRing shell = geometryFactory.createLinearRing(sequence.read(count()));
+      LinearRing[] holes = new LinearRing[rings - 1];
+      for (int i = 0; i < holes.length; i++) {
+        holes[i] = geometryFactory.createLinearRing(sequence.read(count()));
+      }
+      return geometryFactory.createPolygon(shell, holes);
+    }
+
+    private Geometry empty(int type) {
+      switch (type) {
+        case POINT:
+          return geometryFactory.createPoint();
+        case LINESTRING:
+          return geometryFactory.createLineString();
+        case POLYGON:
+          return geometryFactory.createPolygon();
+        case MULTIPOINT:
+          return geometryFactory.createMultiPoint();
+        case MULTILINESTRING:
+          return geometryFactory.createMultiLineString();
+        case MULTIPOLYGON:
+          return geometryFactory.createMultiPolygon();
+        default:
+          return geometryFactory.createGeometryCollection();
+      }
+    }
+
+    /**
+     * Skip the optional ID list of a multi-geometry.
+     */
+    private int ids(int count, int metadata) {
+      if ((metadata & IDLIST) != 0) {
+        for (int i = 0; i < count; i++) {
+          readUnsigned();
+        }
+      }
+      return count;
+    }
+
+    private int count() {
+      long count = readUnsigned();
+      if (count < 0 || count > bytes.length - position) {
+        throw new IllegalArgumentException("Invalid TWKB element count " + count);
+      }
+      return (int) count;
+    }
+
+    private long readUnsigned() {
+      long value = 0;
+      int shift = 0;
+      int b;
+      do {
+        if (shift >= 64 || position == bytes.length) {
+          throw new IllegalArgumentException("Invalid TWKB varint at " + position);
+        }
+        b = bytes[position++];
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    }
+
+    private long readSigned() {
+      long value = readUnsigned();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads delta-encoded coordinates, accumulating integer ordinates.
+     */
+    private class Sequence {
+
+      private final long[] last;
+      private final boolean hasZ;
+      private final int xyPrecision;
+      private final double xyScale;
+      private final double zScale;
+
+      Sequence(int dimensions, boolean hasZ, int xyPrecision, int zPrecision) {
+        this.last = new long[dimensions];
+        this.hasZ = hasZ;
+        this.xyPrecision = xyPrecision;
+        this.xyScale = pow10(xyPrecision);
+        this.zScale = pow10(zPrecision);
+      }
+
+      Coordinate[] read(int count) {
+        Coordinate[] coordinates = new Coordinate[count];
+        for (int i = 0; i < count; i++) {
+          for (int d = 0; d < last.length; d++) {
+            last[d] += readSigned();
+          }
+          double x = xyPrecision < 0 ? last[0] * xyScale : last[0] / xyScale;
+          double y = xyPrecision < 0 ? last[1] * xyScale : last[1] / xyScale;
+          coordinates[i] = hasZ ? new Coordinate(x, y, last[2] / zScale) : new Coordinate(x, y);
+        }
+        return coordinates;
+      }
+    }
+  }
+
+  /**
+   * Coordinate filter detecting whether coordinates have a Z-component; stops
+   * at the first one without.
+   */
+  private static class ZFilter implements CoordinateSequenceFilter {
+
+    private boolean hasZ;
+    private boolean missingZ;
+
+    @Override
+    public void filter(CoordinateSequence seq, int i) {
+      if (Double.isNaN(seq.getZ(i))) {
+        missingZ = true;
+      } else {
+        hasZ = true;
+      }
+    }
+
+    @Override
+    public boolean isDone() {
+      return missingZ;
+    }
+
+    @Override
+    public boolean isGeometryChanged() {
+      return false;
+    }
+  }
+
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.json.bind.adapter.JsonbAdapter;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+/**
+ * JSON adapter to marshal and unmarshal Geometry class types as base64
+ * encoded Well-Known Binary (WKB). WKB is several times smaller than WKT for
+ * geometries with full precision coordinates and is much faster to parse.
+ * <p>
+ * The Z-component is written when any coordinate has one. A non-zero SRID is
+ * written in the PostGIS extended WKB (EWKB) form. Optionally the WKB is
+ * compressed with the zlib format before it is base64 encoded.
+ * <p>
+ * Unmarshalling detects the input format: base64 WKB (plain or compressed),
+ * hexadecimal WKB or WKT, so archives written by the {@code JsonbGeometryAdapter}
+ * still load. Every element count in the WKB is checked against the bytes
+ * that remain before the geometry is built, so a short crafted string cannot
+ * force a large allocation.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbGeometryWkbAdapter implements JsonbAdapter<Geometry, String> {
+
+  private static final Logger LOG = Logger.getLogger(JsonbGeometryWkbAdapter.class.getName());
+
+  /**
+   * The zlib header first byte (deflate, 32 KB window). Plain WKB starts with
+   * the byte order 0x00 or 0x01.
+   */
+  private static final int ZLIB_HEADER = 0x78;
+  /**
+   * The maximum decompressed size of a compressed WKB geometry. 16 MB. Larger
+   * (or maliciously crafted) input is rejected.
+   */
+  public static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+  /**
+   * The maximum nesting depth of geometry collections read. Deeper (or
+   * maliciously crafted) input is rejected rather than exhausting the stack.
+   */
+  public static final int MAX_NESTING = 32;
+
+  /**
+   * Compress the WKB before it is base64 encoded.
+   */
+  private final boolean compressed;
+
+  /**
+   * Construct an adapter writing uncompressed WKB.
+   */
+  public JsonbGeometryWkbAdapter() {
+    this(false);
+  }
+
+  /**
+   * Construct an adapter.
+   *
+   * @param compressed true to compress the WKB with the zlib format
+   */
+  public JsonbGeometryWkbAdapter(boolean compressed) {
+    this.compressed = compressed;
+  }
+
+  /**
+   * {@inheritDoc} Write the geometry as base64 encoded (E)WKB.
+   */
+  @Override
+  public String adaptToJson(Geometry obj) throws Exception {
+    byte[] wkb = new WKBWriter(hasZ(obj) ? 3 : 2, obj.getSRID() != 0).write(obj);
+    return Base64.getEncoder().encodeToString(compressed ? deflate(wkb) : wkb);
+  }
+
+  /**
+   * {@inheritDoc} Read base64 WKB, hexadecimal WKB or WKT.
+   */
+  @Override
+  public Geometry adaptFromJson(String obj) throws Exception {
+    return read(obj, WktCodec.DEFAULT);
+  }
+
+  /**
+   * Read a geometry from base64 WKB (plain or compressed), hexadecimal WKB or
+   * WKT. The format is detected from the first character: base64 WKB starts
+   * with 'A' (byte order 0x00 or 0x01) or 'e' (zlib header 0x78), hexadecimal
+   * WKB with '0', and WKT with a geometry type name.
+   *
+   * @param text  the encoded geometry
+   * @param codec the WKT codec, whose GeometryFactory also builds WKB input
+   * @return the geometry, or null if the text cannot be parsed
+   */
+  static Geometry read(String text, WktCodec codec) {
+    String trimmed = text.trim();
+    try {
+      char first = trimmed.isEmpty() ? ' ' : trimmed.charAt(0);
+      if (first == 'A' || first == 'e') {
+        byte[] bytes = Base64.getDecoder().decode(trimmed);
+        return readWkb((bytes[0] & 0xFF) == ZLIB_HEADER ? inflate(bytes) : bytes, codec);
+      } else if (first == '0') {
+        return readWkb(WKBReader.hexToBytes(trimmed), codec);
+      }
+      return codec.read(trimmed);
+    } catch (ParseException | DataFormatException | RuntimeException ex) {
+      LOG.log(Level.WARNING, "Geometry parse error {0}. {1}", new Object[]{ex.getMessage(), text});
+      return null;
+    }
+  }
+
+  /**
+   * Read WKB after checking its structure. The JTS WKBReader allocates arrays
+   * from the element counts in the input, so every count is first checked
+   * against the bytes that remain.
+   *
+   * @param wkb   the (E)WKB bytes
+   * @param codec the WKT codec, whose GeometryFactory builds the geometry
+   * @return the geometry
+   * @throws ParseException if the WKB is malformed or truncated
+   */
+  private static Geometry readWkb(byte[] wkb, WktCodec codec) throws ParseException {
+    new WkbCheck(wkb).geometry(0);
+    return new WKBReader(codec.getGeometryFactory()).read(wkb);
+  }
+
+  /**
+   * Determine if any coordinate of a geometry has a Z-component.
+   *
+   * @param geometry the geometry
+   * @return true if a Z-component is present
+   */
+  static boolean hasZ(Geometry geometry) {
+    ZFilter filter = new ZFilter();
+    geometry.apply(filter);
+    return filter.hasZ;
+  }
+
+  /**
+   * Compress bytes in the zlib format.
+   */
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + 16);
+      byte[] buffer = new byte[4096];
+      while (!deflater.finished()) {
+        outputStream.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return outputStream.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Decompress zlib format bytes.
+   *
+   * @throws DataFormatException if the data is invalid or truncated, or if the
+   *                             decompressed size exceeds
+   *                             {@link #MAX_INFLATED_SIZE}
+   */
+  private static byte[] inflate(byte[] bytes) throws DataFormatException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes);
+      byte[] output = new byte[(int) Math.min(MAX_INFLATED_SIZE, Math.max(64, bytes.length * 3L))];
+      int length = 0;
+      while (!inflater.finished()) {
+        if (length == output.length) {
+          if (length == MAX_INFLATED_SIZE) {
+            throw new DataFormatException("Decompressed geometry exceeds the maximum " + MAX_INFLATED_SIZE + " bytes");
+          }
+          output = Arrays.copyOf(output, (int) Math.min(MAX_INFLATED_SIZE, length * 2L));
+        }
+        int count = inflater.inflate(output, length, output.length - length);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException("Truncated compressed geometry");
+        }
+        length += count;
+      }
+      return Arrays.copyOf(output, length);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), compressed);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && getClass() == obj.getClass()
+      && compressed == ((JsonbGeometryWkbAdapter) obj).compressed;
+  }
+
+  /**
+   * Walks the structure of a WKB geometry without building it, following the
+   * header interpretation of the JTS WKBReader: EWKB and ISO dimension flags
+   * and the optional EWKB SRID.
+   */
+  private static class WkbCheck {
+
+    private final ByteBuffer buffer;
+
+    WkbCheck(byte[] wkb) {
+      this.buffer = ByteBuffer.wrap(wkb);
+    }
+
+    /**
+     * Check one geometry, including its header, and advance past it.
+     *
+     * @param depth the collection nesting depth
+     */
+    void geometry(int depth) throws ParseException {
+      if (depth > MAX_NESTING) {
+        throw new ParseException("WKB collection nesting exceeds " + MAX_NESTING);
+      }
+      require(5);
+      byte byteOrder = buffer.get();
+      if (byteOrder == 0 || byteOrder == 1) {
+        buffer.order(byteOrder == 1 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+      } else {
+        throw new ParseException("Unknown WKB byte order " + byteOrder);
+      }
+      int typeInt = buffer.getInt();
+      int isoDimension = (typeInt & 0xFFFF) / 1000;
+      boolean hasZ = (typeInt & 0x80000000) != 0 || isoDimension == 1 || isoDimension == 3;
+      boolean hasM = (typeInt & 0x40000000) != 0 || isoDimension == 2 || isoDimension == 3;
+      int coordinateSize = 8 * (2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0));
+      if ((typeInt & 0x20000000) != 0) {
+        require(4);
+        buffer.getInt();
+      }
+      switch ((typeInt & 0xFFFF) % 1000) {
+        case 1:
+          skip(coordinateSize);
+          break;
+        case 2:
+          skip((long) count(coordinateSize) * coordinateSize);
+          break;
+        case 3:
+          for (int i = count(4); i > 0; i--) {
+            skip((long) count(coordinateSize) * coordinateSize);
+          }
+          break;
+        case 4:
+        case 5:
+        case 6:
+        case 7:
+          for (int i = count(5); i > 0; i--) {
+            geometry(depth + 1);
+          }
+          break;
+        default:
+          throw new ParseException("Unknown WKB type " + typeInt);
+      }
+    }
+
+    /**
+     * Read an element count and check it against the remaining bytes.
+     *
+     * @param elementSize the minimum size of each element in bytes
+     */
+    private int count(int elementSize) throws ParseException {
+      require(4);
+      long count = buffer.getInt() & 0xFFFFFFFFL;
+      if (count * elementSize > buffer.remaining()) {
+        throw new ParseException("Invalid WKB element count " + count);
+      }
+      return (int) count;
+    }
+
+    private void skip(long length) throws ParseException {
+      require(length);
+      buffer.position(buffer.position() + (int) length);
+    }
+
+    private void require(long length) throws ParseException {
+      if (length > buffer.remaining()) {
+        throw new ParseException("Truncated WKB");
+      }
+    }
+  }
+
+  /**
+   * Coordinate filter detecting a Z-component; stops at the first one found.
+   */
+  private static class ZFilter implements CoordinateSequenceFilter {
+
+    private boolean hasZ;
+
+    @Override
+    public void filter(CoordinateSequence seq, int i) {
+      hasZ = !Double.isNaN(seq.getZ(i));
+    }
+
+    @Override
+    public boolean isDone() {
+      return hasZ;
+    }
+
+    @Override
+    public boolean isGeometryChanged() {
+      return false;
+    }
+  }
+
+}
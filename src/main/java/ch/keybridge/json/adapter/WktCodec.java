@@ -0,0 +1,653 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import ch.keybridge.json.adapter.ext.FastNumberParser;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Single-pass WKT reader and writer. Geometries are read straight into
+ * coordinate sequences of a shared GeometryFactory, whose PrecisionModel and
+ * SRID apply to every geometry read. Output follows the JTS WKTWriter layout
+ * ({@code POINT Z(1 2 3)}) with numbers written in the shortest decimal form
+ * that reads back to the same double.
+ * <p>
+ * Reading accepts the OGC and JTS dialects: any case, Z, M and ZM tags,
+ * EMPTY, MULTIPOINT with or without parenthesized points and an EWKT
+ * {@code SRID=n;} prefix. M values are read and discarded, as they are by the
+ * JTS WKTWriter.
+ * <p>
+ * Instances are immutable and thread safe.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+final class WktCodec {
+
+  /**
+   * Codec with a floating precision model and no SRID.
+   */
+  static final WktCodec DEFAULT = new WktCodec(new GeometryFactory());
+
+  /**
+   * The largest integer below which every integer is an exact double.
+   */
+  private static final double TWO_53 = 9007199254740992d;
+  /**
+   * The maximum number of fraction digits tried before falling back to
+   * Double.toString.
+   */
+  private static final int MAX_DECIMALS = 17;
+  /**
+   * The range of magnitudes written in plain notation by the fallback.
+   */
+  private static final double MIN_PLAIN = 1e-7;
+  private static final double MAX_PLAIN = 1e21;
+  /**
+   * Exact powers of ten.
+   */
+  private static final double[] POW10 = new double[MAX_DECIMALS + 1];
+  private static final long[] LONG_POW10 = new long[MAX_DECIMALS + 1];
+
+  static {
+    double pow = 1;
+    long longPow = 1;
+    for (int i = 0; i <= MAX_DECIMALS; i++) {
+      POW10[i] = pow;
+      LONG_POW10[i] = longPow;
+      pow *= 10;
+      longPow *= 10;
+    }
+  }
+
+  private static final int POINT = 0;
+  private static final int LINESTRING = 1;
+  private static final int LINEARRING = 2;
+  private static final int POLYGON = 3;
+  private static final int MULTIPOINT = 4;
+  private static final int MULTILINESTRING = 5;
+  private static final int MULTIPOLYGON = 6;
+  private static final int GEOMETRYCOLLECTION = 7;
+  /**
+   * WKT type names, indexed by the type constants.
+   */
+  private static final String[] TYPES = {"POINT", "LINESTRING", "LINEARRING", "POLYGON",
+                                         "MULTIPOINT", "MULTILINESTRING", "MULTIPOLYGON", "GEOMETRYCOLLECTION"};
+
+  private final GeometryFactory geometryFactory;
+  private final CoordinateSequenceFactory sequenceFactory;
+  /**
+   * The precision model; null if floating.
+   */
+  private final PrecisionModel precisionModel;
+
+  /**
+   * Construct a codec.
+   *
+   * @param geometryFactory the factory used to create geometries. Its
+   *                        PrecisionModel and SRID apply to every geometry
+   *                        read.
+   */
+  WktCodec(GeometryFactory geometryFactory) {
+    this.geometryFactory = geometryFactory;
+    this.sequenceFactory = geometryFactory.getCoordinateSequenceFactory();
+    this.precisionModel = geometryFactory.getPrecisionModel().isFloating() ? null : geometryFactory.getPrecisionModel();
+  }
+
+  /**
+   * Get the factory used to create geometries.
+   *
+   * @return the geometry factory
+   */
+  GeometryFactory getGeometryFactory() {
+    return geometryFactory;
+  }
+
+  /**
+   * Write a geometry as WKT. The Z-component is written if any coordinate
+   * has one.
+   *
+   * @param geometry the geometry
+   * @return the WKT
+   */
+  String write(Geometry geometry) {
+    boolean z = JsonbGeometryWkbAdapter.hasZ(geometry);
+    StringBuilder sb = new StringBuilder(24 + geometry.getNumPoints() * (z ? 36 : 24));
+    writeTagged(geometry, z, sb);
+    return sb.toString();
+  }
+
+  /**
+   * Write a geometry with its type name.
+   */
+  private void writeTagged(Geometry geometry, boolean z, StringBuilder sb) {
+    sb.append(TYPES[typeOf(geometry)]);
+    if (geometry.isEmpty()) {
+      sb.append(" EMPTY");
+    } else {
+      sb.append(z ? " Z" : " ");
+      writeBody(geometry, z, sb);
+    }
+  }
+
+  /**
+   * Write the parenthesized coordinates of a geometry, or EMPTY.
+   */
+  private void writeBody(Geometry geometry, boolean z, StringBuilder sb) {
+    if (geometry.isEmpty()) {
+      sb.append("EMPTY");
+    } else if (geometry instanceof Point) {
+      writeSequence(((Point) geometry).getCoordinateSequence(), z, sb);
+    } else if (geometry instanceof LineString) {
+      writeSequence(((LineString) geometry).getCoordinateSequence(), z, sb);
+    } else if (geometry instanceof Polygon) {
+      Polygon polygon = (Polygon) geometry;
+      sb.append('(');
+      writeSequence(polygon.getExteriorRing().getCoordinateSequence(), z, sb);
+      for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+        sb.append(", ");
+        writeSequence(polygon.getInteriorRingN(i).getCoordinateSequence(), z, sb);
+      }
+      sb.append(')');
+    } else {
+      boolean collection = typeOf(geometry) == GEOMETRYCOLLECTION;
+      sb.append('(');
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        if (collection) {
+          writeTagged(geometry.getGeometryN(i), z, sb);
+        } else {
+          writeBody(geometry.getGeometryN(i), z, sb);
+        }
+      }
+      sb.append(')');
+    }
+  }
+
+  /**
+   * Write a parenthesized coordinate sequence.
+   */
+  private static void writeSequence(CoordinateSequence sequence, boolean z, StringBuilder sb) {
+    boolean sequenceZ = sequence.hasZ();
+    sb.append('(');
+    for (int i = 0; i < sequence.size(); i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      appendNumber(sequence.getX(i), sb);
+      sb.append(' ');
+      appendNumber(sequence.getY(i), sb);
+      if (z) {
+        sb.append(' ');
+        appendNumber(sequenceZ ? sequence.getZ(i) : Double.NaN, sb);
+      }
+    }
+    sb.append(')');
+  }
+
+  /**
+   * Append a number in the shortest decimal form that reads back to the same
+   * double. Values are scaled by successive powers of ten until the rounded
+   * integer divides back exactly. Values out of that range fall back to
+   * Double.toString: in plain notation from 1e-7 to 1e21, otherwise in
+   * exponent notation (e.g. {@code 2.5E-310}) so that no number takes more
+   * than a few dozen characters. The sign of negative zero is kept.
+   *
+   * @param value the number
+   * @param sb    the output
+   */
+  static void appendNumber(double value, StringBuilder sb) {
+    double abs = Math.abs(value);
+    if (abs < TWO_53) {
+      for (int k = 0; k <= MAX_DECIMALS; k++) {
+        double scaled = abs * POW10[k];
+        if (scaled >= TWO_53) {
+          break;
+        }
+        long unscaled = Math.round(scaled);
+        if (unscaled / POW10[k] == abs) {
+          if (Double.doubleToRawLongBits(value) < 0) {
+            sb.append('-');
+          }
+          appendDecimal(unscaled, k, sb);
+          return;
+        }
+      }
+    }
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      sb.append(value);
+    } else if (abs >= MIN_PLAIN && abs < MAX_PLAIN) {
+      sb.append(new BigDecimal(Double.toString(value)).stripTrailingZeros().toPlainString());
+    } else {
+      String text = Double.toString(value);
+      int exponent = text.indexOf('E');
+      if (text.startsWith(".0", exponent - 2)) {
+        sb.append(text, 0, exponent - 2).append(text, exponent, text.length());
+      } else {
+        sb.append(text);
+      }
+    }
+  }
+
+  /**
+   * Append an unscaled value with the indicated number of fraction digits.
+   * The last fraction digit is not zero.
+   */
+  private static void appendDecimal(long unscaled, int decimals, StringBuilder sb) {
+    if (decimals == 0) {
+      sb.append(unscaled);
+      return;
+    }
+    long unit = LONG_POW10[decimals];
+    long fraction = unscaled % unit;
+    sb.append(unscaled / unit).append('.');
+    for (long place = unit / 10; place > fraction; place /= 10) {
+      sb.append('0');
+    }
+    sb.append(fraction);
+  }
+
+  /**
+   * Get the WKT type of a geometry.
+   */
+  private static int typeOf(Geometry geometry) {
+    if (geometry instanceof Point) {
+      return POINT;
+    } else if (geometry instanceof LinearRing) {
+      return LINEARRING;
+    } else if (geometry instanceof LineString) {
+      return LINESTRING;
+    } else if (geometry instanceof Polygon) {
+      return POLYGON;
+    } else if (geometry instanceof MultiPoint) {
+      return MULTIPOINT;
+    } else if (geometry instanceof MultiLineString) {
+      return MULTILINESTRING;
+    } else if (geometry instanceof MultiPolygon) {
+      return MULTIPOLYGON;
+    }
+    return GEOMETRYCOLLECTION;
+  }
+
+  /**
+   * Read a geometry from WKT.
+   *
+   * @param text the WKT, optionally with an EWKT {@code SRID=n;} prefix
+   * @return the geometry
+   * @throws ParseException if the text is not valid WKT
+   */
+  Geometry read(String text) throws ParseException {
+    return new Reader(text).read();
+  }
+
+  /**
+   * Single-pass WKT tokenizer. One instance per read; the coordinate buffer
+   * is reused across the sequences of a geometry.
+   */
+  private final class Reader {
+
+    private final String text;
+    private final int length;
+    private int position;
+    /**
+     * Coordinate buffer, in x, y, z triples.
+     */
+    private double[] ordinates = new double[96];
+
+    Reader(String text) {
+      this.text = text;
+      this.length = text.length();
+    }
+
+    Geometry read() throws ParseException {
+      int srid = geometryFactory.getSRID();
+      skipWhitespace();
+      if (matchWord("SRID")) {
+        expect('=');
+        skipWhitespace();
+        double value = readNumber();
+        if (value != (int) value) {
+          throw error("Invalid SRID");
+        }
+        srid = (int) value;
+        expect(';');
+      }
+      Geometry geometry = readTagged();
+      skipWhitespace();
+      if (position < length) {
+        throw error("Unexpected text");
+      }
+      if (srid != geometryFactory.getSRID()) {
+        geometry.setSRID(srid);
+      }
+      return geometry;
+    }
+
+    /**
+     * Read a geometry type name, the optional dimension tag and the body.
+     */
+    private Geometry readTagged() throws ParseException {
+      skipWhitespace();
+      int type = -1;
+      for (int i = 0; i < TYPES.length && type < 0; i++) {
+        if (matchWord(TYPES[i])) {
+          type = i;
+        }
+      }
+      if (type < 0) {
+        throw error("Unknown geometry type");
+      }
+      skipWhitespace();
+      /**
+       * Only an M tag makes the third ordinate a measure. The fourth ordinate
+       * of ZM or untagged coordinates is always M.
+       */
+      boolean measured = !matchWord("ZM") && !matchWord("Z") && matchWord("M");
+      return readBody(type, measured);
+    }
+
+    /**
+     * Read the body of a geometry of the indicated type.
+     *
+     * @param type     the type constant
+     * @param measured true if the third ordinate is M (an XYM geometry)
+     */
+    private Geometry readBody(int type, boolean measured) throws ParseException {
+      if (readEmpty()) {
+        switch (type) {
+          case POINT:
+            return geometryFactory.createPoint();
+          case LINESTRING:
+            return geometryFactory.createLineString();
+          case LINEARRING:
+            return geometryFactory.createLinearRing();
+          case POLYGON:
+            return geometryFactory.createPolygon();
+          case MULTIPOINT:
+            return geometryFactory.createMultiPoint();
+          case MULTILINESTRING:
+            return geometryFactory.createMultiLineString();
+          case MULTIPOLYGON:
+            return geometryFactory.createMultiPolygon();
+          default:
+            return geometryFactory.createGeometryCollection();
+        }
+      }
+      switch (type) {
+        case POINT:
+          return geometryFactory.createPoint(readSequence(measured));
+        case LINESTRING:
+          return geometryFactory.createLineString(readSequence(measured));
+        case LINEARRING:
+          return geometryFactory.createLinearRing(readSequence(measured));
+        case POLYGON:
+          return readPolygon(measured);
+        case MULTIPOINT:
+          return readMultiPoint(measured);
+        default:
+          List<Geometry> members = new ArrayList<>();
+          expect('(');
+          do {
+            members.add(type == MULTILINESTRING ? readBody(LINESTRING, measured)
+                        : type == MULTIPOLYGON ? readBody(POLYGON, measured)
+                          : readTagged());
+          } while (readSeparator());
+          if (type == MULTILINESTRING) {
+            return geometryFactory.createMultiLineString(members.toArray(new LineString[members.size()]));
+          } else if (type == MULTIPOLYGON) {
+            return geometryFactory.createMultiPolygon(members.toArray(new Polygon[members.size()]));
+          }
+          return geometryFactory.createGeometryCollection(members.toArray(new Geometry[members.size()]));
+      }
+    }
+
+    private Polygon readPolygon(boolean measured) throws ParseException {
+      expect('(');
+      LinearRing shell = geometryFactory.createLinearRing(readSequence(measured));
+      List<LinearRing> holes = new ArrayList<>(0);
+      while (readSeparator()) {
+        holes.add(geometryFactory.createLinearRing(readSequence(measured)));
+      }
+      return geometryFactory.createPolygon(shell, holes.toArray(new LinearRing[holes.size()]));
+    }
+
+    /**
+     * Read a MULTIPOINT body, with or without parenthesized points.
+     */
+    private MultiPoint readMultiPoint(boolean measured) throws ParseException {
+      expect('(');
+      List<Point> points = new ArrayList<>();
+      do {
+        skipWhitespace();
+        if (position < length && text.charAt(position) == '(') {
+          points.add(geometryFactory.createPoint(readSequence(measured)));
+        } else if (readEmpty()) {
+          points.add(geometryFactory.createPoint());
+        } else {
+          int count = readCoordinate(0, measured);
+          points.add(geometryFactory.createPoint(toSequence(1, count > 2)));
+        }
+      } while (readSeparator());
+      return geometryFactory.createMultiPoint(points.toArray(new Point[points.size()]));
+    }
+
+    /**
+     * Read a parenthesized coordinate sequence.
+     */
+    private CoordinateSequence readSequence(boolean measured) throws ParseException {
+      expect('(');
+      int size = 0;
+      boolean z = false;
+      do {
+        z |= readCoordinate(size++, measured) > 2;
+      } while (readSeparator());
+      return toSequence(size, z);
+    }
+
+    /**
+     * Read one coordinate into the buffer.
+     *
+     * @param index    the coordinate index in the buffer
+     * @param measured true if the third ordinate is M
+     * @return the number of spatial ordinates read: 2 or 3
+     */
+    private int readCoordinate(int index, boolean measured) throws ParseException {
+      if (ordinates.length < 3 * index + 3) {
+        double[] grown = new double[ordinates.length * 2];
+        System.arraycopy(ordinates, 0, grown, 0, ordinates.length);
+        ordinates = grown;
+      }
+      int offset = 3 * index;
+      ordinates[offset] = readNumber();
+      ordinates[offset + 1] = readNumber();
+      ordinates[offset + 2] = Double.NaN;
+      int count = 2;
+      for (int ordinate = 2; hasNumber(); ordinate++) {
+        double value = readNumber();
+        if (ordinate == 2 && !measured) {
+          ordinates[offset + 2] = value;
+          count = 3;
+        } else if (ordinate > 3) {
+          throw error("Too many ordinates");
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Create a coordinate sequence from the buffer.
+     */
+    private CoordinateSequence toSequence(int size, boolean z) {
+      Coordinate[] coordinates = new Coordinate[size];
+      for (int i = 0, offset = 0; i < size; i++, offset += 3) {
+        Coordinate coordinate = new Coordinate(ordinates[offset], ordinates[offset + 1], ordinates[offset + 2]);
+        if (precisionModel != null) {
+          precisionModel.makePrecise(coordinate);
+        }
+        coordinates[i] = coordinate;
+      }
+      return sequenceFactory.create(coordinates);
+    }
+
+    /**
+     * Read a number. Digits are accumulated into a decimal mantissa and
+     * exponent in place; long mantissas fall back to Double.parseDouble.
+     */
+    private double readNumber() throws ParseException {
+      skipWhitespace();
+      int start = position;
+      boolean negative = false;
+      if (position < length && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+        negative = text.charAt(position++) == '-';
+      }
+      if (matchWord("NaN")) {
+        return Double.NaN;
+      } else if (matchWord("Infinity") || matchWord("Inf")) {
+        return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+      }
+      long mantissa = 0;
+      int digits = 0;
+      int exponent = 0;
+      boolean any = false;
+      boolean truncated = false;
+      boolean fraction = false;
+      for (; position < length; position++) {
+        char c = text.charAt(position);
+        if (c >= '0' && c <= '9') {
+          any = true;
+          if (digits < 18) {
+            mantissa = mantissa * 10 + (c - '0');
+            if (mantissa != 0) {
+              digits++;
+            }
+            if (fraction) {
+              exponent--;
+            }
+          } else {
+            truncated = true;
+            if (!fraction) {
+              exponent++;
+            }
+          }
+        } else if (c == '.' && !fraction) {
+          fraction = true;
+        } else {
+          break;
+        }
+      }
+      if (!any) {
+        throw error("Expected number");
+      }
+      if (position < length && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+        position++;
+        boolean negativeExponent = false;
+        if (position < length && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+          negativeExponent = text.charAt(position++) == '-';
+        }
+        int value = 0;
+        int exponentStart = position;
+        for (; position < length && text.charAt(position) >= '0' && text.charAt(position) <= '9'; position++) {
+          if (value < 100000) {
+            value = value * 10 + (text.charAt(position) - '0');
+          }
+        }
+        if (position == exponentStart) {
+          throw error("Invalid exponent");
+        }
+        exponent += negativeExponent ? -value : value;
+      }
+      double value = truncated ? Double.NaN : FastNumberParser.toDouble(negative, mantissa, exponent);
+      return Double.isNaN(value) ? Double.parseDouble(text.substring(start, position)) : value;
+    }
+
+    /**
+     * Determine if a number follows.
+     */
+    private boolean hasNumber() {
+      skipWhitespace();
+      if (position >= length) {
+        return false;
+      }
+      char c = text.charAt(position);
+      return c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'N' || c == 'n' || c == 'I' || c == 'i';
+    }
+
+    /**
+     * Read a list separator or the closing parenthesis.
+     *
+     * @return true if a comma was read, false for the closing parenthesis
+     */
+    private boolean readSeparator() throws ParseException {
+      skipWhitespace();
+      if (position < length) {
+        char c = text.charAt(position++);
+        if (c == ',') {
+          return true;
+        } else if (c == ')') {
+          return false;
+        }
+        position--;
+      }
+      throw error("Expected ',' or ')'");
+    }
+
+    private boolean readEmpty() {
+      skipWhitespace();
+      return matchWord("EMPTY");
+    }
+
+    private void expect(char c) throws ParseException {
+      skipWhitespace();
+      if (position >= length || text.charAt(position) != c) {
+        throw error("Expected '" + c + "'");
+      }
+      position++;
+    }
+
+    /**
+     * Consume a word if it is next, ignoring case.
+     */
+    private boolean matchWord(String word) {
+      int end = position + word.length();
+      if (text.regionMatches(true, position, word, 0, word.length())
+        && (end >= length || !Character.isLetter(text.charAt(end)))) {
+        position = end;
+        return true;
+      }
+      return false;
+    }
+
+    private void skipWhitespace() {
+      while (position < length && text.charAt(position) <= ' ') {
+        position++;
+      }
+    }
+
+    private ParseException error(String message) {
+      return new ParseException(message + " at position " + position);
+    }
+  }
+
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.math.BigInteger;
+
+/**
+ * Fast parsing of JSON numbers to primitive double and long values.
+ * <p>
+ * Decimal numbers of up to 19 significant digits are converted with the
+ * Clinger fast path when the digits and power of ten are both exact in a
+ * double, otherwise with the Eisel-Lemire algorithm (a 128-bit truncated
+ * product with a table of powers of five). The result is identical to
+ * {@code Double.parseDouble}. Integer digits are accumulated eight at a time
+ * with SWAR (SIMD within a register) arithmetic on a 64-bit word.
+ * <p>
+ * Input outside these fast paths (more than 19 significant digits, hexadecimal
+ * and special values, the rare inputs Eisel-Lemire cannot round) falls back to
+ * {@code Double.parseDouble} and {@code Long.parseLong}, so the accepted
+ * syntax and errors are unchanged.
+ * <p>
+ * Used by the number deserializers and the geometry codecs.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ * @see <a href="https://arxiv.org/abs/2101.11408">Number Parsing at a Gigabyte
+ * per Second</a>
+ */
+public final class FastNumberParser {
+
+  /**
+   * The longest input handled by the fast path. Longer text is parsed by
+   * {@code Double.parseDouble}.
+   */
+  private static final int BUFFER_LENGTH = 64;
+  /**
+   * The range of powers of ten in the Eisel-Lemire table.
+   */
+  private static final int MIN_EXPONENT = -342;
+  private static final int MAX_EXPONENT = 308;
+  /**
+   * The high and low 64 bits of the normalized 128-bit approximation of each
+   * power of five (equivalently of ten) from 10^-342 to 10^308.
+   */
+  private static final long[] POW5_HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+  private static final long[] POW5_LOW = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+  /**
+   * Powers of ten that are exact in a double: 10^0 to 10^22.
+   */
+  private static final double[] POW10 = new double[23];
+  /**
+   * Per-thread ASCII copy of the input.
+   */
+  private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_LENGTH]);
+
+  static {
+    double d = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = d;
+      d *= 10;
+    }
+    /**
+     * Negative powers are the reciprocal 2^b / 5^-q rounded up, positive powers
+     * are 5^q truncated; both normalized to exactly 128 bits.
+     */
+    BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+    BigInteger five = BigInteger.valueOf(5);
+    for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+      BigInteger power5 = five.pow(Math.abs(q));
+      BigInteger c;
+      if (q < 0) {
+        int z = power5.bitLength();
+        if (q >= -27) {
+          c = BigInteger.ONE.shiftLeft(z + 127).divide(power5).add(BigInteger.ONE);
+        } else {
+          c = BigInteger.ONE.shiftLeft(2 * z + 128).divide(power5).add(BigInteger.ONE);
+          c = c.shiftRight(Math.max(0, c.bitLength() - 128));
+        }
+      } else {
+        c = power5.bitLength() > 128
+            ? power5.shiftRight(power5.bitLength() - 128)
+            : power5.shiftLeft(128 - power5.bitLength());
+      }
+      assert c.bitLength() == 128 && c.compareTo(two128) < 0;
+      POW5_HIGH[q - MIN_EXPONENT] = c.shiftRight(64).longValue();
+      POW5_LOW[q - MIN_EXPONENT] = c.longValue();
+    }
+  }
+
+  private FastNumberParser() {
+  }
+
+  /**
+   * Parse a JSON number to a double.
+   *
+   * @param text the number text
+   * @return the nearest double value
+   * @throws NumberFormatException if the text is not a number
+   */
+  public static double parseDouble(String text) throws NumberFormatException {
+    int length = text.length();
+    if (length == 0 || length > BUFFER_LENGTH) {
+      return Double.parseDouble(text);
+    }
+    byte[] buffer = ascii(text, 0, length);
+    double value = buffer == null ? Double.NaN : parseDouble(buffer, 0, length);
+    return Double.isNaN(value) ? Double.parseDouble(text) : value;
+  }
+
+  /**
+   * Parse a JSON number within a larger text to a double, without copying it
+   * to a String.
+   *
+   * @param text  the text
+   * @param start the first character of the number
+   * @param end   the end of the number, exclusive
+   * @return the nearest double value
+   * @throws NumberFormatException if the range is not a number
+   */
+  public static double parseDouble(CharSequence text, int start, int end) throws NumberFormatException {
+    int length = end - start;
+    byte[] buffer = length == 0 || length > BUFFER_LENGTH ? null : ascii(text, start, length);
+    double value = buffer == null ? Double.NaN : parseDouble(buffer, 0, length);
+    return Double.isNaN(value) ? Double.parseDouble(text.subSequence(start, end).toString()) : value;
+  }
+
+  /**
+   * Parse a JSON number to a long.
+   *
+   * @param text the number text
+   * @return the long value
+   * @throws NumberFormatException if the text is not an integer in the long
+   *                               range
+   */
+  public static long parseLong(String text) throws NumberFormatException {
+    int length = text.length();
+    if (length == 0 || length > 20) {
+      return Long.parseLong(text);
+    }
+    byte[] buffer = ascii(text, 0, length);
+    long value = buffer == null ? Long.MIN_VALUE : parseLong(buffer, 0, length);
+    return value == Long.MIN_VALUE ? Long.parseLong(text) : value;
+  }
+
+  /**
+   * Copy the input into the per-thread buffer.
+   *
+   * @return the ASCII bytes, or null if the text contains other characters
+   */
+  private static byte[] ascii(CharSequence text, int start, int length) {
+    byte[] buffer = BUFFER.get();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(start + i);
+      if (c > 0x7F) {
+        return null;
+      }
+      buffer[i] = (byte) c;
+    }
+    return buffer;
+  }
+
+  /**
+   * Parse a JSON number in ASCII bytes to a double.
+   *
+   * @param bytes  the input
+   * @param offset the first byte
+   * @param length the number of bytes
+   * @return the nearest double value, or NaN if the input is not a plain JSON
+   *         number within the fast path
+   */
+  static double parseDouble(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    boolean negative = bytes[i] == '-';
+    if (negative) {
+      i++;
+    }
+    /**
+     * Integer digits, then fraction digits, into one unsigned 64-bit mantissa.
+     */
+    long mantissa = 0;
+    int start = i;
+    while (i + 8 <= end && isEightDigits(load(bytes, i))) {
+      mantissa = mantissa * 100_000_000 + parseEightDigits(load(bytes, i));
+      i += 8;
+    }
+    while (i < end && isDigit(bytes[i])) {
+      mantissa = mantissa * 10 + (bytes[i++] - '0');
+    }
+    int digits = i - start;
+    if (digits == 0) {
+      return Double.NaN;
+    }
+    int exponent = 0;
+    if (i < end && bytes[i] == '.') {
+      int fraction = ++i;
+      while (i + 8 <= end && isEightDigits(load(bytes, i))) {
+        mantissa = mantissa * 100_000_000 + parseEightDigits(load(bytes, i));
+        i += 8;
+      }
+      while (i < end && isDigit(bytes[i])) {
+        mantissa = mantissa * 10 + (bytes[i++] - '0');
+      }
+      if (i == fraction) {
+        return Double.NaN;
+      }
+      exponent = fraction - i;
+      digits += i - fraction;
+    }
+    if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+      boolean negativeExponent = ++i < end && bytes[i] == '-';
+      if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+        i++;
+      }
+      int exponentStart = i;
+      int value = 0;
+      while (i < end && isDigit(bytes[i])) {
+        if (value < 100_000) {
+          value = value * 10 + (bytes[i] - '0');
+        }
+        i++;
+      }
+      if (i == exponentStart) {
+        return Double.NaN;
+      }
+      exponent += negativeExponent ? -value : value;
+    }
+    if (i != end || digits > 19 && significantDigits(bytes, start, end) > 19) {
+      return Double.NaN;
+    }
+    return toDouble(negative, mantissa, exponent);
+  }
+
+  /**
+   * Parse an integer in ASCII bytes to a long.
+   *
+   * @param bytes  the input
+   * @param offset the first byte
+   * @param length the number of bytes
+   * @return the long value, or Long.MIN_VALUE if the input is not an integer
+   *         within the fast path
+   */
+  static long parseLong(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    boolean negative = bytes[i] == '-';
+    if (negative) {
+      i++;
+    }
+    int start = i;
+    long value = 0;
+    while (i + 8 <= end && isEightDigits(load(bytes, i))) {
+      value = value * 100_000_000 + parseEightDigits(load(bytes, i));
+      i += 8;
+    }
+    while (i < end && isDigit(bytes[i])) {
+      value = value * 10 + (bytes[i++] - '0');
+    }
+    /**
+     * Up to 18 digits cannot overflow; 19 digits overflow into the sign bit.
+     */
+    if (i != end || i == start || i - start > 19 || value < 0) {
+      return Long.MIN_VALUE;
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Count the significant digits of a mantissa, skipping leading zeros.
+   */
+  private static int significantDigits(byte[] bytes, int start, int end) {
+    int count = 0;
+    for (int i = start; i < end && bytes[i] != 'e' && bytes[i] != 'E'; i++) {
+      if (isDigit(bytes[i]) && (count > 0 || bytes[i] != '0')) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Convert a decimal mantissa and power of ten to the nearest double. Use
+   * when the digits have already been scanned, e.g. by a tokenizer.
+   *
+   * @param negative the sign
+   * @param mantissa the unsigned decimal mantissa (up to 19 digits)
+   * @param exponent the power of ten
+   * @return the double value, or NaN if the value cannot be decided
+   */
+  public static double toDouble(boolean negative, long mantissa, int exponent) {
+    if (mantissa == 0) {
+      return negative ? -0.0 : 0.0;
+    }
+    /**
+     * Clinger: the mantissa and the power of ten are exact doubles, so a single
+     * correctly rounded multiplication or division gives the exact answer.
+     */
+    if (mantissa > 0 && mantissa <= 1L << 53 && exponent >= -22 && exponent <= 22) {
+      double value = exponent < 0 ? mantissa / POW10[-exponent] : mantissa * POW10[exponent];
+      return negative ? -value : value;
+    }
+    if (exponent < MIN_EXPONENT) {
+      return negative ? -0.0 : 0.0;
+    }
+    if (exponent > MAX_EXPONENT) {
+      return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+    return eiselLemire(negative, mantissa, exponent);
+  }
+
+  /**
+   * The Eisel-Lemire algorithm.
+   *
+   * @param negative the sign
+   * @param mantissa the unsigned non-zero decimal mantissa
+   * @param exponent the power of ten, within the table range
+   * @return the double value, or NaN if the value cannot be decided
+   */
+  private static double eiselLemire(boolean negative, long mantissa, int exponent) {
+    /**
+     * Normalize the mantissa and estimate the binary exponent from
+     * floor(exponent * log2(10)).
+     */
+    int shift = Long.numberOfLeadingZeros(mantissa);
+    long m = mantissa << shift;
+    long exponent2 = ((217706L * exponent) >> 16) + 64 + 1023 - shift;
+    int index = exponent - MIN_EXPONENT;
+    long high = multiplyHigh(m, POW5_HIGH[index]);
+    long low = m * POW5_HIGH[index];
+    /**
+     * When the truncated product is inconclusive, widen it with the low half
+     * of the power of five.
+     */
+    if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + m, m) < 0) {
+      long wideHigh = multiplyHigh(m, POW5_LOW[index]);
+      long wideLow = m * POW5_LOW[index];
+      long mergedHigh = high;
+      long mergedLow = low + wideHigh;
+      if (Long.compareUnsigned(mergedLow, low) < 0) {
+        mergedHigh++;
+      }
+      if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0 && Long.compareUnsigned(wideLow + m, m) < 0) {
+        return Double.NaN;
+      }
+      high = mergedHigh;
+      low = mergedLow;
+    }
+    /**
+     * Shift to 54 bits, reject a halfway ambiguity, then round to 53 bits.
+     */
+    long msb = high >>> 63;
+    long significand = high >>> (msb + 9);
+    exponent2 -= 1 ^ msb;
+    if (low == 0 && (high & 0x1FF) == 0 && (significand & 3) == 1) {
+      return Double.NaN;
+    }
+    significand += significand & 1;
+    significand >>>= 1;
+    if ((significand >>> 53) > 0) {
+      significand >>>= 1;
+      exponent2++;
+    }
+    /**
+     * Subnormal, infinite and NaN results are left to the slow path.
+     */
+    if (exponent2 < 1 || exponent2 > 0x7FE) {
+      return Double.NaN;
+    }
+    long bits = exponent2 << 52 | significand & 0x000F_FFFF_FFFF_FFFFL;
+    return Double.longBitsToDouble(negative ? bits | 0x8000_0000_0000_0000L : bits);
+  }
+
+  /**
+   * The high 64 bits of the unsigned 128-bit product of two 64-bit values.
+   */
+  private static long multiplyHigh(long x, long y) {
+    long x0 = x & 0xFFFF_FFFFL;
+    long x1 = x >>> 32;
+    long y0 = y & 0xFFFF_FFFFL;
+    long y1 = y >>> 32;
+    long p10 = x1 * y0;
+    long cross = ((x0 * y0) >>> 32) + (p10 & 0xFFFF_FFFFL) + x0 * y1;
+    return x1 * y1 + (p10 >>> 32) + (cross >>> 32);
+  }
+
+  /**
+   * Load eight bytes as a little-endian word.
+   */
+  private static long load(byte[] bytes, int i) {
+    return (bytes[i] & 0xFFL)
+      | (bytes[i + 1] & 0xFFL) << 8
+      | (bytes[i + 2] & 0xFFL) << 16
+      | (bytes[i + 3] & 0xFFL) << 24
+      | (bytes[i + 4] & 0xFFL) << 32
+      | (bytes[i + 5] & 0xFFL) << 40
+      | (bytes[i + 6] & 0xFFL) << 48
+      | (bytes[i + 7] & 0xFFL) << 56;
+  }
+
+  /**
+   * SWAR test that all eight bytes of a word are ASCII digits.
+   *
+   * @param word eight bytes, little-endian
+   * @return true if every byte is '0' to '9'
+   */
+  static boolean isEightDigits(long word) {
+    return ((word & 0xF0F0_F0F0_F0F0_F0F0L)
+            | (((word + 0x0606_0606_0606_0606L) & 0xF0F0_F0F0_F0F0_F0F0L) >>> 4)) == 0x3333_3333_3333_3333L;
+  }
+
+  /**
+   * SWAR conversion of eight ASCII digits to their value: the digits are
+   * combined pairwise in three multiplications instead of eight.
+   *
+   * @param word eight ASCII digits, little-endian (first digit in the low byte)
+   * @return the value 0 to 99,999,999
+   */
+  static int parseEightDigits(long word) {
+    long value = word - 0x3030_3030_3030_3030L;
+    value = value * 10 + (value >>> 8);
+    value = ((value & 0x0000_00FF_0000_00FFL) * 0x000F_4240_0000_0064L
+             + ((value >>> 16) & 0x0000_00FF_0000_00FFL) * 0x0000_2710_0000_0001L) >>> 32;
+    return (int) value;
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+}
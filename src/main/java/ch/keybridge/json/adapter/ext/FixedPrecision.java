@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-precision rounding and formatting of double values. Rounding is
+ * HALF_UP on the exact binary value, identical to
+ * {@code new BigDecimal(value).setScale(decimals, ROUND_HALF_UP).doubleValue()},
+ * but is computed in double and long arithmetic. A BigDecimal is used only
+ * when a value lies too close to a rounding tie to decide in double arithmetic
+ * or is too large to scale.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class FixedPrecision {
+
+  /**
+   * The maximum number of decimal places handled by the fast path.
+   */
+  static final int MAX_DECIMALS = 15;
+  /**
+   * Returned by {@link #unscaled(double, int)} when the value cannot be
+   * rounded in double arithmetic.
+   */
+  public static final long UNREPRESENTABLE = Long.MIN_VALUE;
+  /**
+   * Powers of ten. Each is exactly representable as a double.
+   */
+  private static final double[] POW10 = new double[MAX_DECIMALS + 1];
+  private static final long[] LONG_POW10 = new long[MAX_DECIMALS + 1];
+  /**
+   * A 2^52 limit: above it a double has no fractional part.
+   */
+  private static final double LIMIT = 0x1p52;
+  /**
+   * Per-thread digit buffer: sign, 16 integer digits, point and 15 decimals.
+   */
+  private static final ThreadLocal<char[]> DIGITS = ThreadLocal.withInitial(() -> new char[40]);
+
+  static {
+    double d = 1;
+    long l = 1;
+    for (int i = 0; i <= MAX_DECIMALS; i++) {
+      POW10[i] = d;
+      LONG_POW10[i] = l;
+      d *= 10;
+      l *= 10;
+    }
+  }
+
+  private FixedPrecision() {
+  }
+
+  /**
+   * Round a value to the indicated number of decimal places, HALF_UP.
+   *
+   * @param value    a finite value
+   * @param decimals the number of decimal places
+   * @return the rounded value
+   */
+  public static double round(double value, int decimals) {
+    long unscaled = unscaled(value, decimals);
+    if (unscaled == UNREPRESENTABLE) {
+      return new BigDecimal(value).setScale(decimals, RoundingMode.HALF_UP).doubleValue();
+    }
+    /**
+     * Both operands are exact, so the correctly rounded quotient is the
+     * nearest double to the decimal value.
+     */
+    return unscaled / POW10[decimals];
+  }
+
+  /**
+   * Round a value to the indicated number of decimal places, HALF_UP, and
+   * return the unscaled integer; e.g. 1.23456 to 2 places is 123.
+   *
+   * @param value    a finite value
+   * @param decimals the number of decimal places
+   * @return the unscaled value, or {@link #UNREPRESENTABLE} if the value must
+   *         be rounded with a BigDecimal.
+   */
+  public static long unscaled(double value, int decimals) {
+    if (decimals < 0 || decimals > MAX_DECIMALS) {
+      return UNREPRESENTABLE;
+    }
+    double scaled = Math.abs(value * POW10[decimals]);
+    if (!(scaled < LIMIT)) {
+      return UNREPRESENTABLE;
+    }
+    /**
+     * The product carries a rounding error of at most half an ulp; within that
+     * distance of a tie the direction is decided by the exact value.
+     */
+    double floor = Math.floor(scaled);
+    double fraction = scaled - floor;
+    if (Math.abs(fraction - 0.5) <= Math.ulp(scaled)) {
+      return UNREPRESENTABLE;
+    }
+    long unscaled = (long) floor + (fraction > 0.5 ? 1 : 0);
+    return value < 0 ? -unscaled : unscaled;
+  }
+
+  /**
+   * Format an unscaled value in plain decimal notation with trailing zeros
+   * removed, keeping at least one decimal digit; e.g. 1230 with 3 decimals is
+   * "1.23" and 5 with 0 decimals is "5.0".
+   *
+   * @param unscaled the unscaled value
+   * @param decimals the number of decimal places
+   * @return the decimal text
+   */
+  static String format(long unscaled, int decimals) {
+    char[] digits = DIGITS.get();
+    long magnitude = Math.abs(unscaled);
+    long integer = magnitude / LONG_POW10[decimals];
+    long fraction = magnitude - integer * LONG_POW10[decimals];
+    /**
+     * Drop the trailing fraction zeros, then write the digits right to left.
+     */
+    int places = decimals;
+    while (places > 1 && fraction % 10 == 0) {
+      fraction /= 10;
+      places--;
+    }
+    int position = digits.length;
+    if (places == 0 || fraction == 0) {
+      digits[--position] = '0';
+    } else {
+      for (int i = 0; i < places; i++) {
+        digits[--position] = (char) ('0' + fraction % 10);
+        fraction /= 10;
+      }
+    }
+    digits[--position] = '.';
+    do {
+      digits[--position] = (char) ('0' + integer % 10);
+      integer /= 10;
+    } while (integer != 0);
+    if (unscaled < 0) {
+      digits[--position] = '-';
+    }
+    return new String(digits, position, digits.length - position);
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import javax.json.JsonNumber;
+
+/**
+ * A JSON number holding its text form. JSON-P generators write a JsonNumber
+ * value verbatim from {@code toString()}, so pre-formatted digits are emitted
+ * without parsing or re-formatting.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+final class JsonNumberText implements JsonNumber {
+
+  /**
+   * The number in valid JSON number syntax.
+   */
+  private final String text;
+
+  JsonNumberText(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public boolean isIntegral() {
+    return bigDecimalValue().scale() <= 0;
+  }
+
+  @Override
+  public int intValue() {
+    return bigDecimalValue().intValue();
+  }
+
+  @Override
+  public int intValueExact() {
+    return bigDecimalValue().intValueExact();
+  }
+
+  @Override
+  public long longValue() {
+    return bigDecimalValue().longValue();
+  }
+
+  @Override
+  public long longValueExact() {
+    return bigDecimalValue().longValueExact();
+  }
+
+  @Override
+  public BigInteger bigIntegerValue() {
+    return bigDecimalValue().toBigInteger();
+  }
+
+  @Override
+  public BigInteger bigIntegerValueExact() {
+    return bigDecimalValue().toBigIntegerExact();
+  }
+
+  @Override
+  public double doubleValue() {
+    return Double.parseDouble(text);
+  }
+
+  @Override
+  public BigDecimal bigDecimalValue() {
+    return new BigDecimal(text);
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return ValueType.NUMBER;
+  }
+
+  @Override
+  public int hashCode() {
+    return bigDecimalValue().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof JsonNumber && bigDecimalValue().equals(((JsonNumber) obj).bigDecimalValue());
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+
+}
@@ -15,31 +15,28 @@
  */
 package ch.keybridge.json.adapter.ext;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.util.Base64;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.DataFormatException;
 import javax.json.bind.adapter.JsonbAdapter;
 
 /**
- * Base64 Text encoder and decoder using GZIP compression.
- * <p>
- * This adapter leverages the Java8 Base64 utility and supports the following
- * types of Base64 as specified in RFC 4648 and RFC 2045.
+ * Base64 Text encoder and decoder using deflate compression.
  * <p>
  * Developer note: This Adapter is NOT a transparent encoder and decoder. This
  * adapter adds a compression step when marshaling and a decompression step when
  * unmarshaling the data.
  * <p>
- * The employed encoding strategy is Basic: Uses "The Base64 Alphabet" as
- * specified in Table 1 of RFC 4648 and RFC 2045 for encoding and decoding
- * operation. The encoder does not add any line feed (line separator) character.
- * The decoder rejects data that contains characters outside the base64
- * alphabet.
+ * Data shorter than the compressor threshold (64 bytes by default) is stored
+ * raw behind a one byte marker, so small arrays do not grow. The output uses
+ * the basic base64 alphabet ("The Base64 Alphabet" of RFC 4648) without line
+ * separators, or the URL-safe alphabet if so configured. GZIP compressed MIME
+ * base64 written by earlier versions is still read.
+ * <p>
+ * The no-arg constructor uses the shared {@link JsonbCompressor#DEFAULT}. To
+ * change the compression level, threshold or alphabet construct the adapter
+ * with a custom JsonbCompressor and register it with the JsonbUtility builder.
  * <p>
  * Use the {@code JsonBaseAdapter} or {@code JsonBase64MimeAdapter} for
  * uncompressed Base64 conversion.
@@ -47,61 +44,70 @@ import javax.json.bind.adapter.JsonbAdapter;
  * @author Key Bridge
  * @since v0.0.1 created 01/02/18
  * @since v1.0.0 copied 2020-07-15 from json-adapter
+ * @see JsonbStringCompressedAdapter
  */
 public class JsonbBase64CompressedAdapter implements JsonbAdapter<byte[], String> {
 
   private static final Logger LOG = Logger.getLogger(JsonbBase64CompressedAdapter.class.getName());
 
+  /**
+   * The compression engine.
+   */
+  private final JsonbCompressor compressor;
+
+  /**
+   * Default no-arg constructor. Uses the default compressor.
+   */
+  public JsonbBase64CompressedAdapter() {
+    this(JsonbCompressor.DEFAULT);
+  }
+
+  /**
+   * Construct the adapter with a custom compressor.
+   *
+   * @param compressor the compression engine
+   */
+  public JsonbBase64CompressedAdapter(JsonbCompressor compressor) {
+    this.compressor = compressor;
+  }
+
   /**
    * {@inheritDoc}
    * <p>
-   * Encodes the specified byte array into a String using the Base64 encoding
-   * scheme. This method first encodes all input bytes into a base64 encoded
-   * byte array and then constructs a new String by using the encoded byte array
-   * and the ISO-8859-1 charset. In other words, an invocation of this method
-   * has exactly the same effect as invoking new String(encode(src),
-   * StandardCharsets.ISO_8859_1).
+   * Compresses the specified byte array and encodes it into a base64 String.
    */
   @Override
   public String adaptToJson(byte[] obj) throws Exception {
-    try {
-      ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-      GZIPOutputStream gzipStream = new GZIPOutputStream(byteStream);
-      gzipStream.write(obj);
-      gzipStream.close();
-      byteStream.close();
-      return Base64.getMimeEncoder().encodeToString(byteStream.toByteArray());
-    } catch (IOException iOException) {
-      LOG.log(Level.WARNING, "byte[] serialization error. {1}", new Object[]{iOException.getMessage()});
-      return null;
-    }
+    return compressor.encode(obj);
   }
 
   /**
    * {@inheritDoc}
    * <p>
-   * The encoded string sequence MUST represent a GZIP compressed byte array.
-   * Decodes a Base64 encoded String into a newly-allocated byte array using the
-   * Base64 encoding scheme. An invocation of this method has exactly the same
-   * effect as invoking decode(src.getBytes(StandardCharsets.ISO_8859_1))
+   * Decodes a base64 encoded String and decompresses it into a
+   * newly-allocated byte array.
+   *
+   * @return the byte array, or null if the text cannot be decoded
    */
   @Override
   public byte[] adaptFromJson(String obj) throws Exception {
     try {
-      byte[] byteArray = Base64.getMimeDecoder().decode(obj);
-      ByteArrayInputStream byteInputStream = new ByteArrayInputStream(byteArray);
-      GZIPInputStream gzipStream = new GZIPInputStream(byteInputStream);
-      ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
-      int numBytesRead;
-      byte[] tempBytes = new byte[6000];
-      while ((numBytesRead = gzipStream.read(tempBytes, 0, tempBytes.length)) != -1) {
-        byteOutputStream.write(tempBytes, 0, numBytesRead);
-      }
-      return byteOutputStream.toByteArray();
-    } catch (IOException iOException) {
-      LOG.log(Level.WARNING, "byte[] parse error. {1}", new Object[]{iOException.getMessage()});
+      return compressor.decode(obj);
+    } catch (DataFormatException | IllegalArgumentException ex) {
+      LOG.log(Level.WARNING, "byte[] parse error. {0}", ex.getMessage());
       return null;
     }
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), compressor);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && getClass() == obj.getClass()
+      && compressor.equals(((JsonbBase64CompressedAdapter) obj).compressor);
+  }
+
 }
@@ -0,0 +1,757 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Compression engine for binary and text fields, used by the compressed
+ * adapters.
+ * <p>
+ * Compressed data starts with a marker byte and the uncompressed length as an
+ * unsigned varint. Inputs shorter than the threshold, and inputs that deflate
+ * does not make smaller, are stored raw (marker 0); others are raw deflate
+ * (marker 1), or raw deflate with a preset {@link JsonbDictionary} (marker 2,
+ * followed by the dictionary id as a varint). Text is encoded with the basic
+ * or URL-safe base64 alphabet without line breaks. GZIP data in MIME base64, as written by earlier
+ * versions, is still read.
+ * <p>
+ * Text is decoded in a single pass: the base64 characters are decoded in small
+ * chunks straight into the Inflater, which writes into an exactly sized or
+ * caller-supplied buffer. The declared length is checked against the maximum
+ * size before any output is allocated, so a corrupt or malicious payload
+ * cannot exhaust the heap.
+ * <p>
+ * Deflater and Inflater instances are pooled. Instances are thread safe and
+ * compare equal by configuration.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class JsonbCompressor {
+
+  /**
+   * Compressor with the default level and threshold and the basic base64
+   * alphabet.
+   */
+  public static final JsonbCompressor DEFAULT = builder().build();
+  /**
+   * The default threshold in bytes. The deflate block overhead makes smaller
+   * inputs larger.
+   */
+  public static final int DEFAULT_THRESHOLD = 64;
+  /**
+   * The default maximum decompressed size in bytes. 64 MB.
+   */
+  public static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+  /**
+   * The marker byte of data stored raw.
+   */
+  static final int STORED = 0;
+  /**
+   * The marker byte of raw deflate data.
+   */
+  static final int DEFLATED = 1;
+  /**
+   * The marker byte of raw deflate data with a preset dictionary.
+   */
+  static final int DICTIONARY = 2;
+  /**
+   * The maximum number of retained Deflater and Inflater instances, each.
+   */
+  private static final int POOL_CAPACITY = 16;
+  /**
+   * Base64 character values; negative for padding, whitespace and invalid
+   * characters. Both the basic and the URL-safe alphabet are decoded.
+   */
+  private static final byte[] BASE64 = new byte[128];
+  private static final byte INVALID = -1;
+  private static final byte WHITESPACE = -2;
+  private static final byte PADDING = -3;
+  /**
+   * Per-thread buffer of decoded base64 input for the Inflater.
+   */
+  private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[8192]);
+
+  static {
+    Arrays.fill(BASE64, INVALID);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    for (int i = 0; i < alphabet.length(); i++) {
+      BASE64[alphabet.charAt(i)] = (byte) i;
+    }
+    BASE64['-'] = 62;
+    BASE64['_'] = 63;
+    BASE64['='] = PADDING;
+    BASE64[' '] = WHITESPACE;
+    BASE64['\t'] = WHITESPACE;
+    BASE64['\r'] = WHITESPACE;
+    BASE64['\n'] = WHITESPACE;
+  }
+
+  private final int level;
+  private final int threshold;
+  private final boolean urlSafe;
+  private final int maxSize;
+  /**
+   * The preset dictionary used to compress; null if none.
+   */
+  private final JsonbDictionary dictionary;
+  private final Base64.Encoder encoder;
+
+  private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger deflaterCount = new AtomicInteger();
+  private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger inflaterCount = new AtomicInteger();
+
+  private JsonbCompressor(Builder builder) {
+    this.level = builder.level;
+    this.threshold = builder.threshold;
+    this.urlSafe = builder.urlSafe;
+    this.maxSize = builder.maxSize;
+    this.dictionary = builder.dictionary;
+    this.encoder = urlSafe ? Base64.getUrlEncoder().withoutPadding() : Base64.getEncoder();
+  }
+
+  /**
+   * Get a builder.
+   *
+   * @return a new builder with the default settings
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Compress bytes.
+   *
+   * @param bytes the uncompressed bytes
+   * @return the marker, length and payload
+   */
+  public byte[] compress(byte[] bytes) {
+    int length = bytes.length;
+    int header = 1 + varintSize(length);
+    byte[] output = new byte[header + length];
+    if (length >= threshold) {
+      int deflateHeader = dictionary == null ? header : header + varintSize(dictionary.getId());
+      /**
+       * Deflate into the space of a raw copy; if it does not fit, deflate does
+       * not pay.
+       */
+      Deflater deflater = takeDeflater();
+      try {
+        if (dictionary != null) {
+          deflater.setDictionary(dictionary.content());
+        }
+        deflater.setInput(bytes);
+        deflater.finish();
+        int position = deflateHeader;
+        while (!deflater.finished() && position < output.length) {
+          position += deflater.deflate(output, position, output.length - position);
+        }
+        if (deflater.finished() && position < output.length) {
+          output[0] = (byte) (dictionary == null ? DEFLATED : DICTIONARY);
+          writeVarint(length, output, 1);
+          if (dictionary != null) {
+            writeVarint(dictionary.getId(), output, header);
+          }
+          return Arrays.copyOf(output, position);
+        }
+      } finally {
+        recycle(deflater);
+      }
+    }
+    output[0] = STORED;
+    writeVarint(length, output, 1);
+    System.arraycopy(bytes, 0, output, header, length);
+    return output;
+  }
+
+  /**
+   * Decompress bytes written by {@link #compress(byte[])} or GZIP.
+   *
+   * @param bytes the compressed bytes
+   * @return the uncompressed bytes
+   * @throws DataFormatException if the data is corrupt or truncated, or
+   *                             larger than the maximum size
+   */
+  public byte[] decompress(byte[] bytes) throws DataFormatException {
+    if (bytes.length > 1 && bytes[0] == (byte) 0x1f && bytes[1] == (byte) 0x8b) {
+      return gunzip(bytes);
+    }
+    if (bytes.length < 2) {
+      throw new DataFormatException("Compressed data is truncated");
+    }
+    int length = checkSize(readVarint(bytes, 1));
+    int offset = 1 + varintSize(length);
+    switch (bytes[0]) {
+      case STORED:
+        if (bytes.length - offset != length) {
+          throw new DataFormatException("Stored data length mismatch");
+        }
+        return Arrays.copyOfRange(bytes, offset, bytes.length);
+      case DEFLATED:
+        return inflate(bytes, offset, length, null);
+      case DICTIONARY:
+        int id = readVarint(bytes, offset);
+        return inflate(bytes, offset + varintSize(id), length, dictionary(id));
+      default:
+        throw new DataFormatException("Unknown compression marker " + bytes[0]);
+    }
+  }
+
+  /**
+   * Compress bytes and encode them as base64 text.
+   *
+   * @param bytes the uncompressed bytes
+   * @return the base64 text
+   */
+  public String encode(byte[] bytes) {
+    return encoder.encodeToString(compress(bytes));
+  }
+
+  /**
+   * Decode base64 text and decompress it. The basic, URL-safe and MIME base64
+   * forms are all accepted.
+   *
+   * @param text the base64 text
+   * @return the uncompressed bytes
+   * @throws DataFormatException      if the data is corrupt or truncated, or
+   *                                  larger than the maximum size
+   * @throws IllegalArgumentException if the text is not base64
+   */
+  public byte[] decode(String text) throws DataFormatException {
+    Base64Reader reader = new Base64Reader(text);
+    int marker = reader.read();
+    if (marker == 0x1f) {
+      return gunzip(Base64.getMimeDecoder().decode(text));
+    }
+    byte[] output = new byte[checkSize(reader.readVarint())];
+    decode(reader, marker, output, 0, output.length);
+    return output;
+  }
+
+  /**
+   * Decode base64 text and decompress it into a caller-supplied buffer.
+   *
+   * @param text   the base64 text
+   * @param buffer the output buffer
+   * @param offset the buffer offset
+   * @return the number of bytes written
+   * @throws DataFormatException      if the data is corrupt or truncated, or
+   *                                  larger than the maximum size
+   * @throws IllegalArgumentException if the text is not base64 or the buffer
+   *                                  is too small; use
+   *                                  {@link #decodedLength(String)} to size it
+   */
+  public int decode(String text, byte[] buffer, int offset) throws DataFormatException {
+    Base64Reader reader = new Base64Reader(text);
+    int marker = reader.read();
+    if (marker == 0x1f) {
+      byte[] output = gunzip(Base64.getMimeDecoder().decode(text));
+      checkCapacity(output.length, buffer, offset);
+      System.arraycopy(output, 0, buffer, offset, output.length);
+      return output.length;
+    }
+    int length = checkSize(reader.readVarint());
+    checkCapacity(length, buffer, offset);
+    decode(reader, marker, buffer, offset, length);
+    return length;
+  }
+
+  /**
+   * Get the decompressed length of base64 text from its header. Only the
+   * first few characters are decoded.
+   *
+   * @param text the base64 text
+   * @return the decompressed length, or -1 if it is not declared (GZIP)
+   * @throws DataFormatException      if the header is invalid
+   * @throws IllegalArgumentException if the text is not base64
+   */
+  public int decodedLength(String text) throws DataFormatException {
+    Base64Reader reader = new Base64Reader(text);
+    return reader.read() == 0x1f ? -1 : reader.readVarint();
+  }
+
+  /**
+   * Decode the payload following the header.
+   */
+  private void decode(Base64Reader reader, int marker, byte[] output, int offset, int length) throws DataFormatException {
+    switch (marker) {
+      case STORED:
+        if (reader.read(output, offset, length) != length || reader.read() != -1) {
+          throw new DataFormatException("Stored data length mismatch");
+        }
+        return;
+      case DEFLATED:
+        inflate(reader, output, offset, length, null);
+        return;
+      case DICTIONARY:
+        inflate(reader, output, offset, length, dictionary(reader.readVarint()));
+        return;
+      case -1:
+        throw new DataFormatException("Compressed data is truncated");
+      default:
+        throw new DataFormatException("Unknown compression marker " + marker);
+    }
+  }
+
+  /**
+   * Compress a String and encode it as base64 text.
+   *
+   * @param text the text
+   * @return the base64 text
+   */
+  public String encodeString(String text) {
+    return encode(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode base64 text written by {@link #encodeString(String)}.
+   *
+   * @param text the base64 text
+   * @return the decoded String
+   * @throws DataFormatException      if the data is corrupt or truncated
+   * @throws IllegalArgumentException if the text is not base64
+   */
+  public String decodeString(String text) throws DataFormatException {
+    return new String(decode(text), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Get the content of a dictionary by id: the compressor's own dictionary or
+   * a registered one.
+   */
+  private byte[] dictionary(int id) throws DataFormatException {
+    JsonbDictionary found = dictionary != null && dictionary.getId() == id ? dictionary : JsonbDictionaryRegistry.get(id);
+    if (found == null) {
+      throw new DataFormatException("Unknown dictionary id " + id);
+    }
+    return found.content();
+  }
+
+  /**
+   * Inflate raw deflate data of a known length.
+   */
+  private byte[] inflate(byte[] bytes, int offset, int length, byte[] dictionary) throws DataFormatException {
+    byte[] output = new byte[length];
+    Inflater inflater = takeInflater();
+    try {
+      if (dictionary != null) {
+        inflater.setDictionary(dictionary);
+      }
+      inflater.setInput(bytes, offset, bytes.length - offset);
+      int position = 0;
+      while (position < length) {
+        int count = inflater.inflate(output, position, length - position);
+        if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException("Compressed data is truncated");
+        }
+        position += count;
+      }
+      checkEnd(inflater, null, null);
+      return output;
+    } finally {
+      recycle(inflater);
+    }
+  }
+
+  /**
+   * Inflate raw deflate data of a known length, decoding the base64 input in
+   * chunks as the Inflater consumes it.
+   */
+  private void inflate(Base64Reader reader, byte[] output, int offset, int length, byte[] dictionary) throws DataFormatException {
+    byte[] chunk = CHUNK.get();
+    Inflater inflater = takeInflater();
+    try {
+      if (dictionary != null) {
+        inflater.setDictionary(dictionary);
+      }
+      int position = offset;
+      int end = offset + length;
+      while (position < end) {
+        if (inflater.needsInput()) {
+          int count = reader.read(chunk, 0, chunk.length);
+          if (count == 0) {
+            throw new DataFormatException("Compressed data is truncated");
+          }
+          inflater.setInput(chunk, 0, count);
+        }
+        int count = inflater.inflate(output, position, end - position);
+        if (count == 0 && (inflater.finished() || inflater.needsDictionary())) {
+          throw new DataFormatException("Compressed data is truncated");
+        }
+        position += count;
+      }
+      checkEnd(inflater, reader, chunk);
+    } finally {
+      recycle(inflater);
+    }
+  }
+
+  /**
+   * Internal method to verify that the deflate stream ends exactly at the
+   * declared length: it must produce no further output, finish, and leave no
+   * input over. A tampered length header is otherwise read as a silently
+   * truncated value.
+   *
+   * @param reader the source of further input; null if all input has been set
+   * @param chunk  the input chunk buffer used with the reader
+   */
+  private static void checkEnd(Inflater inflater, Base64Reader reader, byte[] chunk) throws DataFormatException {
+    byte[] extra = new byte[1];
+    while (!inflater.finished()) {
+      if (inflater.needsInput()) {
+        int count = reader == null ? 0 : reader.read(chunk, 0, chunk.length);
+        if (count == 0) {
+          throw new DataFormatException("Compressed data is truncated");
+        }
+        inflater.setInput(chunk, 0, count);
+      }
+      if (inflater.inflate(extra) > 0 || inflater.needsDictionary()) {
+        throw new DataFormatException("Compressed data is longer than its declared length");
+      }
+    }
+    if (inflater.getRemaining() > 0 || (reader != null && reader.read() != -1)) {
+      throw new DataFormatException("Unexpected data after the compressed data");
+    }
+  }
+
+  /**
+   * Decompress GZIP data written by earlier versions.
+   */
+  private byte[] gunzip(byte[] bytes) throws DataFormatException {
+    try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+      byte[] buffer = new byte[8192];
+      int count;
+      while ((count = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, count);
+        checkSize(outputStream.size());
+      }
+      return outputStream.toByteArray();
+    } catch (IOException ex) {
+      throw new DataFormatException(ex.getMessage());
+    }
+  }
+
+  /**
+   * Check a decompressed size against the maximum.
+   *
+   * @return the size
+   */
+  private int checkSize(int size) throws DataFormatException {
+    if (size > maxSize) {
+      throw new DataFormatException("Decompressed size " + size + " exceeds the maximum " + maxSize);
+    }
+    return size;
+  }
+
+  private static void checkCapacity(int length, byte[] buffer, int offset) {
+    if (length > buffer.length - offset) {
+      throw new IllegalArgumentException("Buffer too small: " + length + " bytes required");
+    }
+  }
+
+  /**
+   * Get the encoded size of an unsigned varint.
+   */
+  static int varintSize(int value) {
+    int size = 1;
+    while ((value >>>= 7) != 0) {
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Write an unsigned varint, seven bits per byte, low bits first.
+   */
+  static void writeVarint(int value, byte[] bytes, int offset) {
+    while ((value & ~0x7F) != 0) {
+      bytes[offset++] = (byte) (value & 0x7F | 0x80);
+      value >>>= 7;
+    }
+    bytes[offset] = (byte) value;
+  }
+
+  /**
+   * Read an unsigned varint.
+   */
+  static int readVarint(byte[] bytes, int offset) throws DataFormatException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      if (offset >= bytes.length) {
+        throw new DataFormatException("Compressed data is truncated");
+      }
+      byte b = bytes[offset++];
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        if (value < 0) {
+          break;
+        }
+        return value;
+      }
+    }
+    throw new DataFormatException("Invalid length");
+  }
+
+  private Deflater takeDeflater() {
+    Deflater deflater = deflaters.poll();
+    if (deflater == null) {
+      return new Deflater(level, true);
+    }
+    deflaterCount.decrementAndGet();
+    return deflater;
+  }
+
+  private void recycle(Deflater deflater) {
+    deflater.reset();
+    if (deflaterCount.incrementAndGet() <= POOL_CAPACITY) {
+      deflaters.offer(deflater);
+    } else {
+      deflaterCount.decrementAndGet();
+      deflater.end();
+    }
+  }
+
+  private Inflater takeInflater() {
+    Inflater inflater = inflaters.poll();
+    if (inflater == null) {
+      return new Inflater(true);
+    }
+    inflaterCount.decrementAndGet();
+    return inflater;
+  }
+
+  private void recycle(Inflater inflater) {
+    inflater.reset();
+    if (inflaterCount.incrementAndGet() <= POOL_CAPACITY) {
+      inflaters.offer(inflater);
+    } else {
+      inflaterCount.decrementAndGet();
+      inflater.end();
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(level, threshold, urlSafe, maxSize, dictionary);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final JsonbCompressor other = (JsonbCompressor) obj;
+    return level == other.level && threshold == other.threshold && urlSafe == other.urlSafe
+      && maxSize == other.maxSize && Objects.equals(dictionary, other.dictionary);
+  }
+
+  /**
+   * JsonbCompressor builder.
+   */
+  public static final class Builder {
+
+    private int level = Deflater.DEFAULT_COMPRESSION;
+    private int threshold = DEFAULT_THRESHOLD;
+    private boolean urlSafe;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private JsonbDictionary dictionary;
+
+    private Builder() {
+    }
+
+    /**
+     * Set the deflate compression level.
+     *
+     * @param level 0 (none) to 9 (best compression); -1 for the default
+     * @return this builder
+     */
+    public Builder withLevel(int level) {
+      if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+        throw new IllegalArgumentException("Compression level must be -1 to 9: " + level);
+      }
+      this.level = level;
+      return this;
+    }
+
+    /**
+     * Set the size below which data is stored raw.
+     *
+     * @param threshold the threshold in bytes
+     * @return this builder
+     */
+    public Builder withThreshold(int threshold) {
+      if (threshold < 0) {
+        throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+      }
+      this.threshold = threshold;
+      return this;
+    }
+
+    /**
+     * Use the URL and filename safe base64 alphabet, without padding.
+     *
+     * @param urlSafe true for URL-safe base64
+     * @return this builder
+     */
+    public Builder withUrlSafe(boolean urlSafe) {
+      this.urlSafe = urlSafe;
+      return this;
+    }
+
+    /**
+     * Set the maximum decompressed size. Larger payloads are rejected before
+     * their output is allocated.
+     *
+     * @param maxSize the maximum size in bytes
+     * @return this builder
+     */
+    public Builder withMaxSize(int maxSize) {
+      if (maxSize < 0) {
+        throw new IllegalArgumentException("Maximum size must not be negative: " + maxSize);
+      }
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    /**
+     * Compress with a preset dictionary. Data compressed with it can be
+     * decoded by this compressor, or by any compressor once the dictionary is
+     * registered in the {@link JsonbDictionaryRegistry}. With a dictionary
+     * even very small inputs compress; consider a lower threshold.
+     * <p>
+     * The Deflater hashes the whole dictionary on every compression, so
+     * encoding costs more in proportion to the dictionary size. A 4 KB
+     * dictionary made a 340 byte JSON record about 40% smaller but raised its
+     * encode time from about 16 to 27 µs (JDK 8). Decoding is not slower.
+     *
+     * @param dictionary the dictionary; null for none
+     * @return this builder
+     */
+    public Builder withDictionary(JsonbDictionary dictionary) {
+      this.dictionary = dictionary;
+      return this;
+    }
+
+    /**
+     * Build the compressor.
+     *
+     * @return a new compressor
+     */
+    public JsonbCompressor build() {
+      return new JsonbCompressor(this);
+    }
+  }
+
+  /**
+   * Incremental base64 decoder over a String. Whitespace is skipped and
+   * decoding stops at the first padding character.
+   */
+  private static final class Base64Reader {
+
+    private final String text;
+    private int position;
+    private int bits;
+    private int bitCount;
+
+    Base64Reader(String text) {
+      this.text = text;
+    }
+
+    /**
+     * Decode up to the indicated number of bytes.
+     *
+     * @return the number of bytes decoded; less than requested at the end
+     */
+    int read(byte[] buffer, int offset, int length) {
+      int count = 0;
+      for (int b; count < length && (b = read()) >= 0; count++) {
+        buffer[offset + count] = (byte) b;
+      }
+      return count;
+    }
+
+    /**
+     * Decode one byte.
+     *
+     * @return the byte value, or -1 at the end
+     */
+    int read() {
+      int end = text.length();
+      while (position < end) {
+        char c = text.charAt(position++);
+        int value = c < 128 ? BASE64[c] : INVALID;
+        if (value >= 0) {
+          bits = bits << 6 | value;
+          bitCount += 6;
+          if (bitCount >= 8) {
+            bitCount -= 8;
+            return bits >> bitCount & 0xFF;
+          }
+        } else if (value == PADDING) {
+          position = end;
+        } else if (value == INVALID) {
+          throw new IllegalArgumentException("Illegal base64 character " + Integer.toHexString(c));
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Decode an unsigned varint.
+     */
+    int readVarint() throws DataFormatException {
+      int value = 0;
+      for (int shift = 0; shift < 32; shift += 7) {
+        int b = read();
+        if (b < 0) {
+          throw new DataFormatException("Compressed data is truncated");
+        }
+        value |= (b & 0x7F) << shift;
+        if (b < 0x80) {
+          if (value < 0) {
+            break;
+          }
+          return value;
+        }
+      }
+      throw new DataFormatException("Invalid length");
+    }
+  }
+
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.util.*;
+
+/**
+ * Preset dictionary for deflate compression of small payloads. Small payloads
+ * compress poorly on their own because deflate has no history to refer back
+ * to; a dictionary of content typical of the payloads provides that history.
+ * <p>
+ * The dictionary is identified in the compressed data by its id, which must be
+ * unique and must never be reused for different content. The same dictionary
+ * must be available to decode the data: either through the compressor that
+ * wrote it or through the {@link JsonbDictionaryRegistry}.
+ * <p>
+ * Use {@link #train(int, Collection, int)} to build a dictionary from a sample
+ * of typical payloads, then store the content and load it with the
+ * constructor.
+ * <p>
+ * A dictionary trades encode time for size: it is hashed on every
+ * compression, so keep it no larger than the saving requires (a few KB is
+ * typical for JSON records).
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class JsonbDictionary {
+
+  /**
+   * The maximum dictionary size: the deflate window. 32 KB.
+   */
+  public static final int MAX_SIZE = 32 * 1024;
+  /**
+   * The length of the byte sequences counted by the trainer.
+   */
+  private static final int GRAM = 6;
+  /**
+   * The length of the segments selected by the trainer.
+   */
+  private static final int SEGMENT = 48;
+
+  private final int id;
+  private final byte[] content;
+
+  /**
+   * Construct a dictionary.
+   *
+   * @param id      the dictionary id; not negative
+   * @param content the dictionary content, at most {@link #MAX_SIZE} bytes.
+   *                The most frequent content should be at the end.
+   */
+  public JsonbDictionary(int id, byte[] content) {
+    if (id < 0) {
+      throw new IllegalArgumentException("Dictionary id must not be negative: " + id);
+    }
+    if (content.length == 0 || content.length > MAX_SIZE) {
+      throw new IllegalArgumentException("Dictionary size must be 1 to " + MAX_SIZE + " bytes: " + content.length);
+    }
+    this.id = id;
+    this.content = content.clone();
+  }
+
+  /**
+   * Get the dictionary id.
+   *
+   * @return the id
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Get the dictionary content.
+   *
+   * @return a copy of the content
+   */
+  public byte[] getContent() {
+    return content.clone();
+  }
+
+  /**
+   * Get the dictionary content without copying it.
+   *
+   * @return the content
+   */
+  byte[] content() {
+    return content;
+  }
+
+  /**
+   * Train a dictionary from a sample of typical payloads. Short byte sequences
+   * are counted by the number of samples containing them, then segments of
+   * the samples covering the most frequent sequences are selected greedily
+   * until the dictionary is full. The best segments are placed at the end,
+   * where deflate refers to them most cheaply.
+   * <p>
+   * Use a few hundred samples or more. A dictionary of 4 to 16 KB usually
+   * suits payloads of a few hundred bytes; larger dictionaries add a fixed
+   * cost to every compression.
+   *
+   * @param id      the dictionary id
+   * @param samples the sample payloads
+   * @param size    the maximum dictionary size in bytes
+   * @return the dictionary
+   * @throws IllegalArgumentException if the samples have no content in common
+   */
+  public static JsonbDictionary train(int id, Collection<byte[]> samples, int size) {
+    if (size <= 0 || size > MAX_SIZE) {
+      throw new IllegalArgumentException("Dictionary size must be 1 to " + MAX_SIZE + " bytes: " + size);
+    }
+    /**
+     * Count the samples containing each sequence. Sequences of six bytes are
+     * packed into a long key.
+     */
+    Map<Long, Integer> frequencies = new HashMap<>();
+    Set<Long> seen = new HashSet<>();
+    for (byte[] sample : samples) {
+      seen.clear();
+      for (int i = 0; i + GRAM <= sample.length; i++) {
+        if (seen.add(gram(sample, i))) {
+          frequencies.merge(gram(sample, i), 1, Integer::sum);
+        }
+      }
+    }
+    frequencies.values().removeIf(count -> count < 2);
+    /**
+     * Lazy greedy selection: a segment score only decreases as sequences are
+     * covered, so a re-scored segment still at the head of the queue is the
+     * best remaining.
+     */
+    PriorityQueue<Segment> queue = new PriorityQueue<>();
+    for (byte[] sample : samples) {
+      for (int start = 0; start + GRAM <= sample.length; start += SEGMENT / 2) {
+        Segment segment = new Segment(sample, start, Math.min(start + SEGMENT, sample.length));
+        segment.score = segment.score(frequencies);
+        if (segment.score > 0) {
+          queue.add(segment);
+        }
+      }
+    }
+    Deque<Segment> selected = new ArrayDeque<>();
+    int total = 0;
+    while (total < size && !queue.isEmpty()) {
+      Segment segment = queue.poll();
+      long score = segment.score(frequencies);
+      if (score <= 0) {
+        continue;
+      }
+      if (!queue.isEmpty() && score < queue.peek().score) {
+        segment.score = score;
+        queue.add(segment);
+        continue;
+      }
+      for (int i = segment.start; i + GRAM <= segment.end; i++) {
+        frequencies.remove(gram(segment.sample, i));
+      }
+      selected.addFirst(segment);
+      total += segment.end - segment.start;
+    }
+    if (selected.isEmpty()) {
+      throw new IllegalArgumentException("The samples have no content in common");
+    }
+    /**
+     * Concatenate, best last, and drop the excess from the start.
+     */
+    byte[] content = new byte[total];
+    int position = 0;
+    for (Segment segment : selected) {
+      System.arraycopy(segment.sample, segment.start, content, position, segment.end - segment.start);
+      position += segment.end - segment.start;
+    }
+    return new JsonbDictionary(id, total > size ? Arrays.copyOfRange(content, total - size, total) : content);
+  }
+
+  /**
+   * Pack the byte sequence at an offset into a long.
+   */
+  private static long gram(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = 0; i < GRAM; i++) {
+      value = value << 8 | bytes[offset + i] & 0xFF;
+    }
+    return value;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * id + Arrays.hashCode(content);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final JsonbDictionary other = (JsonbDictionary) obj;
+    return id == other.id && Arrays.equals(content, other.content);
+  }
+
+  /**
+   * A candidate segment of a sample. Ordered by descending score.
+   */
+  private static final class Segment implements Comparable<Segment> {
+
+    private final byte[] sample;
+    private final int start;
+    private final int end;
+    private long score;
+
+    Segment(byte[] sample, int start, int end) {
+      this.sample = sample;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * Sum the frequencies of the uncovered sequences in the segment.
+     */
+    long score(Map<Long, Integer> frequencies) {
+      long sum = 0;
+      for (int i = start; i + GRAM <= end; i++) {
+        sum += frequencies.getOrDefault(gram(sample, i), 0);
+      }
+      return sum;
+    }
+
+    @Override
+    public int compareTo(Segment other) {
+      return Long.compare(other.score, score);
+    }
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of preset compression dictionaries, consulted by every
+ * {@link JsonbCompressor} to decode data compressed with a dictionary it was
+ * not built with. Register dictionaries at application start-up, before data
+ * using them is read.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public final class JsonbDictionaryRegistry {
+
+  private static final Map<Integer, JsonbDictionary> DICTIONARIES = new ConcurrentHashMap<>();
+
+  private JsonbDictionaryRegistry() {
+  }
+
+  /**
+   * Register a dictionary. Registering the same dictionary again has no
+   * effect.
+   *
+   * @param dictionary the dictionary
+   * @throws IllegalStateException if a different dictionary is registered
+   *                               with the same id
+   */
+  public static void register(JsonbDictionary dictionary) {
+    JsonbDictionary existing = DICTIONARIES.putIfAbsent(dictionary.getId(), dictionary);
+    if (existing != null && !existing.equals(dictionary)) {
+      throw new IllegalStateException("A different dictionary is registered with id " + dictionary.getId());
+    }
+  }
+
+  /**
+   * Get a registered dictionary.
+   *
+   * @param id the dictionary id
+   * @return the dictionary, or null if none is registered with the id
+   */
+  public static JsonbDictionary get(int id) {
+    return DICTIONARIES.get(id);
+  }
+
+  /**
+   * Remove a registered dictionary.
+   *
+   * @param id the dictionary id
+   */
+  public static void unregister(int id) {
+    DICTIONARIES.remove(id);
+  }
+
+}
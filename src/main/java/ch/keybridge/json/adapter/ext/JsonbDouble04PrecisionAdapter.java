@@ -18,7 +18,6 @@
  */
 package ch.keybridge.json.adapter.ext;
 
-import java.math.BigDecimal;
 import javax.json.bind.adapter.JsonbAdapter;
 
 /**
@@ -27,6 +26,7 @@ import javax.json.bind.adapter.JsonbAdapter;
  *
  * @author Key Bridge
  * @since v1.0.0 created 2020-12-01
+ * @see JsonbDouble04PrecisionSerializer
  */
 public class JsonbDouble04PrecisionAdapter implements JsonbAdapter<Double, Double> {
 
@@ -44,7 +44,7 @@ public class JsonbDouble04PrecisionAdapter implements JsonbAdapter<Double, Doubl
       if (orgnl == null || orgnl.isNaN() || orgnl.isInfinite()) {
         return null;
       }
-      return new BigDecimal(orgnl).setScale(4, BigDecimal.ROUND_HALF_UP).doubleValue();
+      return FixedPrecision.round(orgnl, 4);
     } catch (Exception e) {
       return null;
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.lang.reflect.Type;
+import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.stream.JsonParser;
+
+/**
+ * JSON deserializer for Double values using the fast number parser in place of
+ * the default number handling. Quoted numbers are accepted as before.
+ * <p>
+ * Register for Double and double properties with
+ * {@code withDeserializers(new JsonbDoubleDeserializer())}, or per field with
+ * {@code @JsonbTypeDeserializer(JsonbDoubleDeserializer.class)}.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbDoubleDeserializer implements JsonbDeserializer<Double> {
+
+  /**
+   * {@inheritDoc} Parse the current number value.
+   */
+  @Override
+  public Double deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+    String text = parser.getString();
+    try {
+      return FastNumberParser.parseDouble(text);
+    } catch (NumberFormatException ex) {
+      throw new JsonbException("Unable to parse " + text + " to Double.", ex);
+    }
+  }
+
+}
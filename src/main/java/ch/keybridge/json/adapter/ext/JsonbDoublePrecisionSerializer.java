@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.lang.reflect.Type;
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * JSON serializer writing Double values with a fixed number of decimal places.
+ * Values are rounded HALF_UP and the digits are formatted directly from the
+ * rounded integer, with no BigDecimal, boxing or re-formatting by the JSON-B
+ * engine. Trailing zeros are dropped and plain (not scientific) notation is
+ * used; e.g. 0.00012 to 4 decimal places is written {@code 0.0001}. NaN and
+ * infinite values are written as null.
+ * <p>
+ * In float32 mode the value is narrowed to single precision and written with
+ * the shortest digits that identify the float, e.g. for values that originate
+ * from a float sensor reading or GPU buffer. A value beyond the float range
+ * is written as null.
+ * <p>
+ * Select a precision per field with the standard annotation, e.g.
+ * <pre>
+ * &#64;JsonbTypeSerializer(JsonbDouble04PrecisionSerializer.class)
+ * private Double latitude;
+ * </pre>
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public abstract class JsonbDoublePrecisionSerializer implements JsonbSerializer<Double> {
+
+  /**
+   * The number of decimal places; negative for no rounding.
+   */
+  private final int decimals;
+  /**
+   * Narrow the (rounded) value to single precision.
+   */
+  private final boolean float32;
+
+  /**
+   * Construct a serializer.
+   *
+   * @param decimals the number of decimal places, or a negative value for no
+   *                 rounding (float32 mode only)
+   * @param float32  true to write the value at single precision
+   */
+  protected JsonbDoublePrecisionSerializer(int decimals, boolean float32) {
+    if (decimals < 0 && !float32) {
+      throw new IllegalArgumentException("Decimal places are required unless float32 precision is used.");
+    }
+    this.decimals = decimals;
+    this.float32 = float32;
+  }
+
+  /**
+   * {@inheritDoc} Round the value and write its digits.
+   */
+  @Override
+  public void serialize(Double obj, JsonGenerator generator, SerializationContext ctx) {
+    double value = obj.doubleValue();
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      generator.writeNull();
+      return;
+    }
+    if (float32) {
+      float rounded = (float) (decimals < 0 ? value : FixedPrecision.round(value, decimals));
+      /**
+       * A finite double beyond the float range narrows to infinity, which has
+       * no JSON number form.
+       */
+      if (Float.isInfinite(rounded) || Float.isNaN(rounded)) {
+        generator.writeNull();
+      } else {
+        generator.write(new JsonNumberText(Float.toString(rounded)));
+      }
+      return;
+    }
+    long unscaled = FixedPrecision.unscaled(value, decimals);
+    if (unscaled == FixedPrecision.UNREPRESENTABLE) {
+      generator.write(FixedPrecision.round(value, decimals));
+    } else {
+      generator.write(new JsonNumberText(FixedPrecision.format(unscaled, decimals)));
+    }
+  }
+
+}
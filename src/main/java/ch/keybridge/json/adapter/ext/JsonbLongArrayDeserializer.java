@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.stream.JsonParser;
+
+/**
+ * JSON deserializer for long[] arrays. Elements are parsed with the fast number
+ * parser straight into a primitive array, with no boxed Long per element.
+ * <p>
+ * Register with {@code withDeserializers(new JsonbLongArrayDeserializer())}, or
+ * per field with
+ * {@code @JsonbTypeDeserializer(JsonbLongArrayDeserializer.class)}.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbLongArrayDeserializer implements JsonbDeserializer<long[]> {
+
+  /**
+   * {@inheritDoc} Read the array elements up to the closing bracket.
+   */
+  @Override
+  public long[] deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+    long[] values = new long[16];
+    int size = 0;
+    while (parser.hasNext()) {
+      JsonParser.Event event = parser.next();
+      if (event == JsonParser.Event.END_ARRAY) {
+        return Arrays.copyOf(values, size);
+      }
+      if (event != JsonParser.Event.VALUE_NUMBER && event != JsonParser.Event.VALUE_STRING) {
+        throw new JsonbException("Unexpected " + event + " in a long array.");
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      String text = parser.getString();
+      try {
+        values[size++] = FastNumberParser.parseLong(text);
+      } catch (NumberFormatException ex) {
+        throw new JsonbException("Unable to parse " + text + " to long.", ex);
+      }
+    }
+    throw new JsonbException("Unterminated long array.");
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.DataFormatException;
+import javax.json.bind.adapter.JsonbAdapter;
+
+/**
+ * JSON adapter to compress large String fields. The UTF-8 text is compressed
+ * and written as base64, as by the {@link JsonbBase64CompressedAdapter}.
+ * <p>
+ * Apply this adapter to individual fields with
+ * {@code @JsonbTypeAdapter(JsonbStringCompressedAdapter.class)}. Registered in
+ * the configuration it would compress every String.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+public class JsonbStringCompressedAdapter implements JsonbAdapter<String, String> {
+
+  private static final Logger LOG = Logger.getLogger(JsonbStringCompressedAdapter.class.getName());
+
+  /**
+   * The compression engine.
+   */
+  private final JsonbCompressor compressor;
+
+  /**
+   * Default no-arg constructor. Uses the default compressor.
+   */
+  public JsonbStringCompressedAdapter() {
+    this(JsonbCompressor.DEFAULT);
+  }
+
+  /**
+   * Construct the adapter with a custom compressor.
+   *
+   * @param compressor the compression engine
+   */
+  public JsonbStringCompressedAdapter(JsonbCompressor compressor) {
+    this.compressor = compressor;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String adaptToJson(String obj) throws Exception {
+    return compressor.encodeString(obj);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return the String, or null if the text cannot be decoded
+   */
+  @Override
+  public String adaptFromJson(String obj) throws Exception {
+    try {
+      return compressor.decodeString(obj);
+    } catch (DataFormatException | IllegalArgumentException ex) {
+      LOG.log(Level.WARNING, "String parse error. {0}", ex.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), compressor);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && getClass() == obj.getClass()
+      && compressor.equals(((JsonbStringCompressedAdapter) obj).compressor);
+  }
+
+}
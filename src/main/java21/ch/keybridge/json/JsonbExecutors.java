@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Default executor for asynchronous marshal and unmarshal operations.
+ * <p>
+ * Java 21 version: each operation runs on a new virtual thread, so blocking
+ * reads and writes do not pin platform threads.
+ *
+ * @author Key Bridge
+ * @since v1.2.0 created 2026-10-16
+ */
+final class JsonbExecutors {
+
+  /**
+   * Virtual thread per task executor. Never shut down: virtual threads hold
+   * no resources once their task completes.
+   */
+  private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+  private JsonbExecutors() {
+  }
+
+  /**
+   * Get the default executor for asynchronous operations.
+   *
+   * @return a virtual thread per task executor
+   */
+  static Executor defaultExecutor() {
+    return VIRTUAL_THREADS;
+  }
+
+}
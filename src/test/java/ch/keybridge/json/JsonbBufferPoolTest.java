@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbBufferPoolTest {
+
+  public JsonbBufferPoolTest() {
+  }
+
+  @Test
+  public void testThreadLocalPool() {
+    assertPooled(new ThreadLocalBufferPool());
+  }
+
+  @Test
+  public void testThreadLocalPoolRetention() {
+    ThreadLocalBufferPool pool = new ThreadLocalBufferPool();
+    char[] large = pool.takeChars(ThreadLocalBufferPool.DEFAULT_RETAINED_LENGTH + 1);
+    pool.recycle(large);
+    Assert.assertNotSame(large, pool.takeChars(ThreadLocalBufferPool.DEFAULT_RETAINED_LENGTH + 1));
+    byte[] small = pool.takeBytes(ThreadLocalBufferPool.DEFAULT_RETAINED_LENGTH);
+    pool.recycle(small);
+    Assert.assertSame(small, pool.takeBytes(1000));
+    Assert.assertEquals(1, pool.getHits());
+  }
+
+  @Test
+  public void testSharedPool() {
+    assertPooled(new SharedBufferPool(2));
+  }
+
+  @Test
+  public void testSharedPoolSizing() {
+    SharedBufferPool pool = new SharedBufferPool(1);
+    char[] small = pool.takeChars(10);
+    Assert.assertEquals(AbstractBufferPool.MIN_LENGTH, small.length);
+    Assert.assertEquals(1024, pool.takeBytes(1000).length);
+    pool.recycle(small);
+    pool.recycle(new char[AbstractBufferPool.MIN_LENGTH]);
+    Assert.assertSame(small, pool.takeChars(100));
+    Assert.assertEquals(1, pool.getHits());
+    Assert.assertEquals(2, pool.getMisses());
+    /**
+     * A buffer longer than the request may serve it only if its size class
+     * covers the full allocation length.
+     */
+    pool.recycle(new char[600]);
+    Assert.assertTrue(pool.takeChars(600).length >= 600);
+    /**
+     * Buffers longer than the retained length are not pooled.
+     */
+    char[] large = pool.takeChars(SharedBufferPool.DEFAULT_RETAINED_LENGTH + 1);
+    pool.recycle(large);
+    Assert.assertNotSame(large, pool.takeChars(SharedBufferPool.DEFAULT_RETAINED_LENGTH + 1));
+    byte[] retained = pool.takeBytes(SharedBufferPool.DEFAULT_RETAINED_LENGTH);
+    pool.recycle(retained);
+    Assert.assertSame(retained, pool.takeBytes(SharedBufferPool.DEFAULT_RETAINED_LENGTH));
+  }
+
+  @Test
+  public void testRecyclingParserSkip() {
+    JsonParser parser = new RecyclingJsonParser(Json.createParser(new StringReader("{\"a\":[1,{\"b\":2}],\"c\":{\"d\":[3]},\"e\":4}")));
+    Assert.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+    Assert.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+    Assert.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+    /**
+     * Skipping an object inside an array has no effect.
+     */
+    parser.skipObject();
+    Assert.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+    parser.skipArray();
+    Assert.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+    Assert.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+    parser.skipArray();
+    parser.skipObject();
+    Assert.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+    Assert.assertEquals("e", parser.getString());
+    Assert.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+    Assert.assertTrue(parser.hasNext());
+    Assert.assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+    Assert.assertFalse(parser.hasNext());
+  }
+
+  @Test
+  public void testSourceNotClosed() throws Exception {
+    JsonbReader reader = new JsonbReader().withBufferPool(new ThreadLocalBufferPool());
+    AtomicBoolean closed = new AtomicBoolean();
+    InputStream inputStream = new ByteArrayInputStream("{\"name\":\"a\"}".getBytes()) {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+      }
+    };
+    Assert.assertEquals("a", reader.unmarshal(inputStream, Position.class).getName());
+    Assert.assertFalse(closed.get());
+  }
+
+  private static void assertPooled(JsonbBufferPool pool) {
+    JsonbWriter plain = new JsonbWriter();
+    JsonbWriter writer = new JsonbWriter().withBufferPool(pool);
+    JsonbReader reader = new JsonbReader().withBufferPool(pool);
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      positions.add(Position.getInstance(i / 3.0, -i / 7.0));
+    }
+    for (int i = 0; i < 10; i++) {
+      String json = writer.marshal(positions);
+      Assert.assertEquals(plain.marshal(positions), json);
+      Assert.assertArrayEquals(plain.marshalToBytes(positions), writer.marshalToBytes(positions));
+      Assert.assertEquals(positions.size(), reader.unmarshal(json, Position[].class).length);
+      Position position = positions.get(i);
+      Assert.assertEquals(position, reader.unmarshal(writer.marshal(position), Position.class));
+    }
+    /**
+     * After the first round every buffer (output, generator and parser) should
+     * be served from the pool.
+     */
+    Assert.assertTrue(pool.toString(), pool.getHits() > 10 * pool.getMisses());
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import ch.keybridge.json.adapter.ext.JsonbLocaleAdapter;
+import ch.keybridge.json.adapter.ext.JsonbUriAdapter;
+import java.util.Collections;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.adapter.JsonbAdapter;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbCacheTest {
+
+  public JsonbCacheTest() {
+  }
+
+  @Test
+  public void testSharedInstance() {
+    Jsonb a = JsonbCache.get(new JsonbConfig().withFormatting(true).withAdapters(new JsonbUriAdapter()));
+    Jsonb b = JsonbCache.get(new JsonbConfig().withFormatting(true).withAdapters(new JsonbUriAdapter()));
+    Jsonb c = JsonbCache.get(new JsonbConfig().withFormatting(true).withAdapters(new JsonbLocaleAdapter()));
+    Assert.assertSame(a, b);
+    Assert.assertNotSame(a, c);
+  }
+
+  @Test
+  public void testParameterizedComponent() {
+    ScaleAdapter one = new ScaleAdapter(1);
+    JsonbWriter a = new JsonbWriter(new JsonbConfig().withAdapters(one));
+    JsonbWriter b = new JsonbWriter(new JsonbConfig().withAdapters(new ScaleAdapter(7)));
+    Assert.assertEquals("{\"x\":2}", a.marshal(Collections.singletonMap("x", 2)));
+    Assert.assertEquals("{\"x\":14}", b.marshal(Collections.singletonMap("x", 2)));
+    Assert.assertSame(JsonbCache.get(new JsonbConfig().withAdapters(one)), JsonbCache.get(new JsonbConfig().withAdapters(one)));
+  }
+
+  @Test
+  public void testEvict() {
+    JsonbConfig config = new JsonbConfig().withNullValues(true).withEncoding("UTF-16");
+    Jsonb a = JsonbCache.get(config);
+    Assert.assertTrue(JsonbCache.evict(config));
+    Assert.assertFalse(JsonbCache.evict(config));
+    Assert.assertNotSame(a, JsonbCache.get(config));
+  }
+
+  @Test
+  public void testReaderConfigIsolation() {
+    JsonbConfig config = new JsonbConfig().withFormatting(false);
+    new JsonbReader(config).withAdapters(new JsonbUriAdapter());
+    Assert.assertFalse(config.getProperty(JsonbConfig.ADAPTERS).isPresent());
+  }
+
+  /**
+   * An adapter with settings that does not define value equality.
+   */
+  public static class ScaleAdapter implements JsonbAdapter<Integer, Integer> {
+
+    private final int scale;
+
+    public ScaleAdapter(int scale) {
+      this.scale = scale;
+    }
+
+    @Override
+    public Integer adaptToJson(Integer obj) {
+      return obj * scale;
+    }
+
+    @Override
+    public Integer adaptFromJson(Integer obj) {
+      return obj / scale;
+    }
+  }
+
+}
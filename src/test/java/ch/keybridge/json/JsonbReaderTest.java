@@ -0,0 +1,463 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbReaderTest {
+
+  private static JsonbReader reader;
+  private static JsonbWriter writer;
+
+  public JsonbReaderTest() {
+  }
+
+  @BeforeClass
+  public static void setUpClass() {
+    reader = new JsonbReader();
+    writer = new JsonbWriter();
+  }
+
+  @Test
+  public void testStream() throws Exception {
+    Random r = new Random(1);
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Position p = Position.getInstance(r.nextInt(90) * r.nextDouble(), r.nextInt(180) * r.nextDouble());
+      p.setName("name [" + i + "] {\"quoted\"}");
+      positions.add(p);
+    }
+    String json = writer.withFormatting(true).marshal(positions);
+    AtomicBoolean closed = new AtomicBoolean();
+    InputStream inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+        super.close();
+      }
+    };
+    try (Stream<Position> stream = reader.stream(inputStream, Position.class)) {
+      Assert.assertEquals(positions, stream.collect(Collectors.toList()));
+    }
+    Assert.assertTrue(closed.get());
+  }
+
+  @Test
+  public void testStreamScalars() throws Exception {
+    Assert.assertEquals(Arrays.asList(1, -2, 30),
+                        reader.stream(stream(" [1,-2 , 30 ] "), Integer.class).collect(Collectors.toList()));
+    Assert.assertEquals(Arrays.asList("a]", "b,\"c"),
+                        reader.stream(stream("[\"a]\",\"b,\\\"c\"]"), String.class).collect(Collectors.toList()));
+    Assert.assertEquals(0, reader.stream(stream("[ ]"), String.class).count());
+  }
+
+  @Test(expected = JsonbException.class)
+  public void testStreamNotArray() throws Exception {
+    reader.stream(stream("{\"a\":1}"), String.class).count();
+  }
+
+  @Test(expected = JsonbException.class)
+  public void testStreamTrailingComma() throws Exception {
+    reader.stream(stream("[1,2,]"), Integer.class).count();
+  }
+
+  @Test
+  public void testEncoding() throws Exception {
+    JsonbConfig config = new JsonbConfig().withEncoding("UTF-16");
+    JsonbWriter utf16Writer = new JsonbWriter(config);
+    JsonbReader utf16Reader = new JsonbReader(config);
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      names.add("café über € " + i);
+    }
+    ByteArrayOutputStream array = new ByteArrayOutputStream();
+    try (JsonbArrayWriter<String> arrayWriter = utf16Writer.openArray(array)) {
+      names.forEach(arrayWriter::write);
+    }
+    try (Stream<String> stream = utf16Reader.stream(new ByteArrayInputStream(array.toByteArray()), String.class)) {
+      Assert.assertEquals(names, stream.collect(Collectors.toList()));
+    }
+    ByteArrayOutputStream lines = new ByteArrayOutputStream();
+    try (JsonbLinesWriter<String> linesWriter = utf16Writer.openLines(lines)) {
+      names.forEach(linesWriter::write);
+    }
+    try (Stream<String> stream = utf16Reader.readValues(new ByteArrayInputStream(lines.toByteArray()), String.class)) {
+      Assert.assertEquals(names, stream.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testReadValues() throws Exception {
+    String concatenated = "{\"name\":\"a\"}{\"name\":\"b}\"} {\"name\":\"c\"}\n\n{\"name\":\"d\"}\n";
+    List<String> names = reader.readValues(stream(concatenated), Position.class)
+      .map(Position::getName)
+      .collect(Collectors.toList());
+    Assert.assertEquals(Arrays.asList("a", "b}", "c", "d"), names);
+    Assert.assertEquals(Arrays.asList(1, 2, 3), reader.readValues(stream("1 2\n3"), Integer.class).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testReadLines() throws Exception {
+    StringBuilder ndjson = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      ndjson.append("{\"name\":\"").append(i).append("\"}\n");
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (Stream<Position> stream = reader.readLines(stream(ndjson.toString()), Position.class, executor, 16)) {
+      List<String> names = stream.map(Position::getName).collect(Collectors.toList());
+      Assert.assertEquals(1000, names.size());
+      for (int i = 0; i < names.size(); i++) {
+        Assert.assertEquals(String.valueOf(i), names.get(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testBytes() throws Exception {
+    Position position = Position.getInstance(38.5, -77.25);
+    position.setName("café");
+    byte[] bytes = writer.marshalToBytes(position);
+    Assert.assertEquals(writer.marshal(position), new String(bytes, StandardCharsets.UTF_8));
+
+    byte[] padded = new byte[bytes.length + 8];
+    System.arraycopy(bytes, 0, padded, 4, bytes.length);
+    Assert.assertEquals(position, reader.unmarshal(padded, 4, bytes.length, Position.class));
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 16);
+    int written = writer.marshal(position, direct);
+    Assert.assertEquals(bytes.length, written);
+    direct.flip();
+    Assert.assertEquals(position, reader.unmarshal(direct, Position.class));
+    Assert.assertFalse(direct.hasRemaining());
+
+    ByteBuffer heap = (ByteBuffer) ByteBuffer.wrap(padded).position(4).limit(4 + bytes.length);
+    Assert.assertEquals(position, reader.unmarshal(heap.slice(), Position.class));
+  }
+
+  @Test(expected = BufferOverflowException.class)
+  public void testBytesOverflow() throws Exception {
+    writer.marshal(Position.getInstance(38.5, -77.25), ByteBuffer.allocate(8));
+  }
+
+  @Test
+  public void testPath() throws Exception {
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      positions.add(Position.getInstance(i / 10.0, -i / 10.0));
+    }
+    Path file = Files.createTempFile("jsonb", ".json");
+    try {
+      Files.write(file, writer.marshalToBytes(positions));
+      Assert.assertEquals(positions.size(), reader.unmarshal(file, Position[].class).length);
+      try (Stream<Position> stream = reader.stream(file, Position.class)) {
+        Assert.assertEquals(positions, stream.collect(Collectors.toList()));
+      }
+      /**
+       * Force many small regions to exercise reads across mapping boundaries.
+       */
+      try (Stream<Position> stream = reader.stream(new MappedFileInputStream(file, 7), Position.class)) {
+        Assert.assertEquals(positions, stream.collect(Collectors.toList()));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testFeed() throws Exception {
+    /**
+     * Feed one byte at a time to split strings, escapes and multi-byte
+     * characters across chunks.
+     */
+    byte[] ndjson = "{\"name\":\"café \\\"}\"}\n{\"name\":\"b\"}{\"name\":\"c\"}\n".getBytes(StandardCharsets.UTF_8);
+    JsonbFeedParser<Position> parser = reader.openFeed(Position.class);
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < ndjson.length; i++) {
+      parser.feed(ByteBuffer.wrap(ndjson, i, 1));
+      for (Position p = parser.poll(); p != null; p = parser.poll()) {
+        names.add(p.getName());
+      }
+    }
+    Assert.assertTrue(parser.isNeedingInput());
+    parser.end();
+    Assert.assertEquals(Arrays.asList("café \"}", "b", "c"), names);
+
+    JsonbFeedParser<Integer> scalars = reader.openFeed(Integer.class);
+    scalars.feed(ByteBuffer.wrap("1 2\n3".getBytes(StandardCharsets.UTF_8)));
+    Assert.assertEquals(Integer.valueOf(1), scalars.poll());
+    Assert.assertEquals(Integer.valueOf(2), scalars.poll());
+    Assert.assertNull(scalars.poll());
+    Assert.assertEquals(Integer.valueOf(3), scalars.end().poll());
+  }
+
+  @Test
+  public void testArrayFeed() throws Exception {
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      positions.add(Position.getInstance(i / 10.0, -i / 10.0));
+    }
+    ByteBuffer json = ByteBuffer.wrap(writer.withFormatting(true).marshalToBytes(positions));
+    JsonbFeedParser<Position> parser = reader.openArrayFeed(Position.class);
+    List<Position> recovered = new ArrayList<>();
+    ByteBuffer chunk = ByteBuffer.allocateDirect(37);
+    while (json.hasRemaining()) {
+      while (chunk.hasRemaining() && json.hasRemaining()) {
+        chunk.put(json.get());
+      }
+      chunk.flip();
+      parser.feed(chunk);
+      chunk.clear();
+      while (parser.hasNext()) {
+        recovered.add(parser.poll());
+      }
+    }
+    Assert.assertTrue(parser.isComplete());
+    Assert.assertEquals(positions, recovered);
+    JsonbFeedParser<Integer> scalars = feedAll(" [1 ,2] ");
+    Assert.assertEquals(Integer.valueOf(1), scalars.poll());
+    Assert.assertEquals(Integer.valueOf(2), scalars.poll());
+    Assert.assertEquals(2, scalars.end().getCount());
+  }
+
+  @Test(expected = JsonbException.class)
+  public void testArrayFeedUnterminated() throws Exception {
+    feedAll("[1,2").end();
+  }
+
+  @Test
+  public void testFeedMaxValueSize() throws Exception {
+    JsonbFeedParser<Position> parser = reader.openFeed(Position.class).withMaxValueSize(64);
+    parser.feed(ByteBuffer.wrap("{\"name\":\"a\"}".getBytes(StandardCharsets.UTF_8)));
+    Assert.assertEquals("a", parser.poll().getName());
+    /**
+     * An unterminated string grows the pending value until the limit is hit.
+     */
+    byte[] chunk = new byte[16];
+    Arrays.fill(chunk, (byte) 'x');
+    parser.feed(ByteBuffer.wrap("{\"name\":\"".getBytes(StandardCharsets.UTF_8)));
+    try {
+      for (int i = 0; i < 4; i++) {
+        parser.feed(ByteBuffer.wrap(chunk));
+      }
+      Assert.fail("Expected the pending value to exceed the maximum size");
+    } catch (JsonbException ex) {
+      Assert.assertTrue(ex.getMessage().contains("64"));
+    }
+  }
+
+  @Test
+  public void testCompression() throws Exception {
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      positions.add(Position.getInstance(i / 10.0, -i / 10.0));
+    }
+    byte[] plain = writer.marshalToBytes(positions);
+    for (JsonbCompression compression : JsonbCompression.values()) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      writer.marshal(positions, outputStream, compression);
+      byte[] bytes = outputStream.toByteArray();
+      Assert.assertEquals(compression, JsonbCompression.detect(bytes[0], bytes[1]));
+      if (compression != JsonbCompression.NONE) {
+        Assert.assertTrue(bytes.length < plain.length / 4);
+      }
+      Assert.assertEquals(positions, Arrays.asList(reader.unmarshal(new ByteArrayInputStream(bytes), Position[].class)));
+      Assert.assertEquals(positions.size(), reader.unmarshal(bytes, 0, bytes.length, Position[].class).length);
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).flip();
+      Assert.assertEquals(positions.size(), reader.unmarshal(direct, Position[].class).length);
+      /**
+       * A stream without mark support is read through a pushback buffer.
+       */
+      try (Stream<Position> stream = reader.stream(new UnmarkedInputStream(bytes), Position.class)) {
+        Assert.assertEquals(positions, stream.collect(Collectors.toList()));
+      }
+      Path file = Files.createTempFile("jsonb", ".json");
+      try {
+        Files.write(file, bytes);
+        Assert.assertEquals(positions.size(), reader.unmarshal(file, Position[].class).length);
+      } finally {
+        Files.delete(file);
+      }
+    }
+    /**
+     * Plain scalar documents that resemble a zlib header are not detected.
+     */
+    Assert.assertEquals(Integer.valueOf(80), reader.unmarshal(stream("80"), Integer.class));
+    Assert.assertEquals(Integer.valueOf(7), reader.unmarshal(stream("7"), Integer.class));
+    /**
+     * Opening a lazy stream does not read (and block on) the input.
+     */
+    AtomicBoolean read = new AtomicBoolean();
+    InputStream unread = new ByteArrayInputStream("[1]".getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public synchronized int read() {
+        read.set(true);
+        return super.read();
+      }
+
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        read.set(true);
+        return super.read(b, off, len);
+      }
+    };
+    try (Stream<Integer> stream = reader.stream(unread, Integer.class)) {
+      Assert.assertFalse(read.get());
+      Assert.assertEquals(Arrays.asList(1), stream.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testCompressionFlush() throws Exception {
+    for (JsonbCompression compression : new JsonbCompression[]{JsonbCompression.GZIP, JsonbCompression.DEFLATE}) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      OutputStream compressed = compression.compress(outputStream);
+      JsonbArrayWriter<Position> arrayWriter = writer.openArray(compressed);
+      arrayWriter.write(Position.getInstance(1, 2));
+      arrayWriter.flush();
+      /**
+       * A sync flush emits everything written so far as a decodable chunk.
+       */
+      String partial = readAvailable(JsonbCompression.decompress(new ByteArrayInputStream(outputStream.toByteArray())));
+      Assert.assertArrayEquals(new Position[]{Position.getInstance(1, 2)}, reader.unmarshal(partial + "]", Position[].class));
+      arrayWriter.write(Position.getInstance(3, 4));
+      arrayWriter.close();
+      compressed.close();
+      Assert.assertEquals(2, reader.unmarshal(outputStream.toByteArray(), 0, outputStream.size(), Position[].class).length);
+    }
+  }
+
+  @Test
+  public void testCompressionLimit() throws Exception {
+    int[] zeros = new int[1024 * 1024];
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writer.marshal(zeros, outputStream, JsonbCompression.GZIP);
+    byte[] bytes = outputStream.toByteArray();
+    Assert.assertTrue(bytes.length < 16 * 1024);
+    Assert.assertEquals(zeros.length, reader.unmarshal(bytes, 0, bytes.length, int[].class).length);
+    /**
+     * A small compressed document that inflates past the configured limit.
+     */
+    JsonbReader limited = new JsonbReader().withMaxDecompressedSize(1024 * 1024);
+    try {
+      limited.unmarshal(new ByteArrayInputStream(bytes), int[].class);
+      Assert.fail("Expected the decompressed size to exceed the maximum");
+    } catch (RuntimeException ex) {
+      Assert.assertTrue(ex.getClass().getName(), ex instanceof JsonbException || ex instanceof javax.json.JsonException);
+    }
+    /**
+     * The element-by-element readers are not limited.
+     */
+    try (Stream<Integer> stream = limited.stream(new ByteArrayInputStream(bytes), Integer.class)) {
+      Assert.assertEquals(zeros.length, stream.count());
+    }
+    try (InputStream inputStream = JsonbCompression.decompress(new ByteArrayInputStream(bytes), 1000)) {
+      readAll(inputStream);
+      Assert.fail("Expected the decompressed size to exceed the maximum");
+    } catch (IOException ex) {
+      Assert.assertTrue(ex.getMessage().contains("1000"));
+    }
+    /**
+     * Detection disabled: compressed input is rejected as invalid JSON.
+     */
+    JsonbReader plain = new JsonbReader().withCompressionDetection(false);
+    Assert.assertEquals(Integer.valueOf(7), plain.unmarshal(stream("7"), Integer.class));
+    try {
+      plain.unmarshal(new ByteArrayInputStream(bytes), int[].class);
+      Assert.fail("Expected compressed input to be rejected");
+    } catch (RuntimeException ex) {
+      Assert.assertTrue(ex.getClass().getName(), ex instanceof JsonbException || ex instanceof javax.json.JsonException);
+    }
+    JsonbUtility utility = JsonbUtility.builder().withMaxDecompressedSize(1024 * 1024).build();
+    try {
+      utility.unmarshal(new ByteArrayInputStream(bytes), int[].class);
+      Assert.fail("Expected the decompressed size to exceed the maximum");
+    } catch (RuntimeException ex) {
+      Assert.assertTrue(ex.getClass().getName(), ex instanceof JsonbException || ex instanceof javax.json.JsonException);
+    }
+  }
+
+  private static void readAll(InputStream inputStream) throws IOException {
+    byte[] buffer = new byte[4096];
+    while (inputStream.read(buffer) >= 0) {
+    }
+  }
+
+  private static String readAvailable(InputStream inputStream) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try {
+      for (int b = inputStream.read(); b >= 0; b = inputStream.read()) {
+        outputStream.write(b);
+      }
+    } catch (IOException ex) {
+      /**
+       * The compressed stream is not yet finished.
+       */
+    }
+    return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static final class UnmarkedInputStream extends ByteArrayInputStream {
+
+    UnmarkedInputStream(byte[] bytes) {
+      super(bytes);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+  }
+
+  private static JsonbFeedParser<Integer> feedAll(String json) {
+    return reader.openArrayFeed(Integer.class).feed(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static InputStream stream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -18,12 +18,28 @@
  */
 package ch.keybridge.json;
 
+import ch.keybridge.json.adapter.ext.JsonbLocaleAdapter;
+import ch.keybridge.json.warmup.WarmUpItem;
+import ch.keybridge.json.warmup.WarmUpModel;
 import com.thedeanda.lorem.LoremIpsum;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
+import javax.json.JsonException;
 import org.junit.*;
 
 /**
@@ -83,6 +99,144 @@ public class JsonbUtilityTest {
     System.out.println("marshalUnmarshal OK");
   }
 
+  @Test
+  public void testBuilder() throws Exception {
+    JsonbUtility compact = JsonbUtility.builder()
+      .withAdapters(new JsonbLocaleAdapter())
+      .withFormatting(false)
+      .build();
+
+    Position p = Position.getInstance(38.9, -77.0);
+    p.setName(l.getCity());
+    String json = compact.marshal(p);
+    Assert.assertFalse(json.contains("\n"));
+    Assert.assertEquals(p, compact.unmarshal(json, Position.class));
+
+    /**
+     * Formatting must not discard previously configured adapters.
+     */
+    JsonbUtility formatted = new JsonbUtility()
+      .withAdapters(new JsonbLocaleAdapter())
+      .withFormatting(false);
+    Assert.assertEquals(compact.marshal(Locale.CANADA_FRENCH), formatted.marshal(Locale.CANADA_FRENCH));
+    System.out.println("builder OK " + compact.marshal(Locale.CANADA_FRENCH));
+  }
+
+  @Test
+  public void testBuilderImmutable() throws Exception {
+    JsonbUtility built = JsonbUtility.builder().withFormatting(false).build();
+    List<Runnable> changes = Arrays.asList(
+      () -> built.withFormatting(true),
+      () -> built.withAdapters(new JsonbLocaleAdapter()),
+      () -> built.withSerializers(),
+      () -> built.withDeserializers(),
+      () -> built.withExecutor(Runnable::run));
+    for (Runnable change : changes) {
+      try {
+        change.run();
+        Assert.fail("Expected a built instance to reject reconfiguration");
+      } catch (IllegalStateException ex) {
+      }
+    }
+    Assert.assertFalse(built.marshal(Position.getInstance(38.9, -77.0)).contains("\n"));
+  }
+
+  @Test
+  public void testWarmUp() throws Exception {
+    Map<Class<?>, Duration> report = new JsonbUtility().warmUp(Position.class, EventModel.class);
+    System.out.println("warmUp " + report);
+    Assert.assertTrue(report.containsKey(Position.class));
+    Assert.assertTrue(report.containsKey(EventModel.class));
+
+    report = new JsonbUtility().warmUp("ch.keybridge.json.warmup");
+    System.out.println("warmUp package " + report.keySet());
+    Assert.assertEquals(Arrays.asList(WarmUpItem.class, WarmUpModel.class), new ArrayList<>(report.keySet()));
+
+    WarmUpModel model = JsonbWarmUp.synthesize(WarmUpModel.class);
+    Assert.assertEquals("warm-up", model.getName());
+    Assert.assertEquals("warm-up", model.getItem().label);
+    Assert.assertNull(model.getParent());
+  }
+
+  @Test
+  public void testBatch() throws Exception {
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Position p = Position.getInstance(r.nextInt(90) * r.nextDouble(), r.nextInt(180) * r.nextDouble());
+      p.setName("p" + i);
+      positions.add(p);
+    }
+    JsonbBatchResult<String> marshalled;
+    ExecutorService executor = Executors.newWorkStealingPool(4);
+    try {
+      marshalled = jsonb.marshalAll(positions, executor);
+    } finally {
+      executor.shutdown();
+    }
+    Assert.assertTrue(marshalled.isSuccess());
+
+    List<String> json = new ArrayList<>(marshalled.getValues());
+    json.set(10, "{not json");
+    json.set(500, "[]");
+    JsonbBatchResult<Position> recovered = jsonb.unmarshalAll(json, Position.class);
+    System.out.println("batch " + recovered + " " + recovered.getErrors().keySet());
+    Assert.assertEquals(new TreeSet<>(Arrays.asList(10, 500)), recovered.getErrors().keySet());
+    Assert.assertNull(recovered.get(10));
+    for (int i = 0; i < positions.size(); i++) {
+      if (i != 10 && i != 500) {
+        Assert.assertEquals(positions.get(i), recovered.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testBatchExecutor() throws Exception {
+    AtomicInteger tasks = new AtomicInteger();
+    Executor counting = command -> {
+      tasks.incrementAndGet();
+      command.run();
+    };
+    /**
+     * A small batch still runs on the supplied executor.
+     */
+    List<String> small = Arrays.asList(jsonb.marshal(Position.getInstance(1, 2)), jsonb.marshal(Position.getInstance(3, 4)));
+    Assert.assertTrue(jsonb.unmarshalAll(small, Position.class, counting).isSuccess());
+    Assert.assertEquals(1, tasks.get());
+    /**
+     * The parallelism parameter sets the split, independent of the executor.
+     */
+    List<Position> large = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      large.add(Position.getInstance(i % 90, -(i % 180)));
+    }
+    tasks.set(0);
+    Assert.assertTrue(jsonb.marshalAll(large, counting, 1).isSuccess());
+    Assert.assertEquals(1, tasks.get());
+    tasks.set(0);
+    JsonbBatchResult<String> split = jsonb.marshalAll(large, counting, 4);
+    Assert.assertTrue(tasks.get() > 1);
+    Assert.assertEquals(jsonb.marshal(large.get(999)), split.get(999));
+  }
+
+  @Test
+  public void testAsync() throws Exception {
+    Position position = Position.getInstance(38.5, -77.25);
+    String json = jsonb.marshalAsync(position).get();
+    Assert.assertEquals(jsonb.marshal(position), json);
+    Assert.assertEquals(position, jsonb.unmarshalAsync(json, Position.class).get());
+    try {
+      jsonb.unmarshalAsync("{not json", Position.class).join();
+      Assert.fail("Expected a failed future");
+    } catch (CompletionException ex) {
+      Assert.assertTrue(ex.getCause() instanceof JsonException);
+    }
+    /**
+     * A direct executor runs the operation on the calling thread.
+     */
+    JsonbUtility direct = JsonbUtility.builder().withExecutor(Runnable::run).build();
+    Assert.assertTrue(direct.marshalAsync(position).isDone());
+  }
+
   @Test
   public void testEventModel() throws Exception {
 
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbWriterTest {
+
+  private static JsonbReader reader;
+  private static List<Position> positions;
+
+  public JsonbWriterTest() {
+  }
+
+  @BeforeClass
+  public static void setUpClass() {
+    reader = new JsonbReader();
+    Random r = new Random(1);
+    positions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      Position p = Position.getInstance(r.nextInt(90) * r.nextDouble(), r.nextInt(180) * r.nextDouble());
+      p.setName("name " + i);
+      positions.add(p);
+    }
+  }
+
+  @Test
+  public void testOpenArray() throws Exception {
+    for (boolean formatted : new boolean[]{false, true}) {
+      ClosingOutputStream outputStream = new ClosingOutputStream();
+      try (JsonbArrayWriter<Position> arrayWriter = new JsonbWriter().withFormatting(formatted).openArray(outputStream)) {
+        for (Position position : positions) {
+          arrayWriter.write(position);
+        }
+        arrayWriter.flush();
+      }
+      Assert.assertFalse(outputStream.closed);
+      List<Position> recovered = reader.stream(new ByteArrayInputStream(outputStream.toByteArray()), Position.class)
+        .collect(Collectors.toList());
+      Assert.assertEquals(positions, recovered);
+    }
+  }
+
+  @Test
+  public void testOpenArrayFormatted() throws Exception {
+    JsonbWriter writer = new JsonbWriter().withFormatting(true);
+    List<Position> two = positions.subList(0, 2);
+    ClosingOutputStream outputStream = new ClosingOutputStream();
+    try (JsonbArrayWriter<Position> arrayWriter = writer.openArray(outputStream)) {
+      two.forEach(arrayWriter::write);
+    }
+    /**
+     * The same layout as a formatted list, without the leading line feed.
+     */
+    Assert.assertEquals(writer.marshal(two).trim(), outputStream.toString("UTF-8"));
+
+    outputStream = new ClosingOutputStream();
+    writer.openArray(outputStream).close();
+    Assert.assertEquals("[]", outputStream.toString("UTF-8"));
+  }
+
+  @Test
+  public void testOpenArrayFailure() throws Exception {
+    ClosingOutputStream outputStream = new ClosingOutputStream();
+    JsonbArrayWriter<Object> arrayWriter = new JsonbWriter().withFormatting(false)
+      .withSerializers(new FailingSerializer())
+      .openArray(outputStream);
+    arrayWriter.write(positions.get(0));
+    try {
+      arrayWriter.write(new FailingElement());
+      Assert.fail("Expected the element to fail");
+    } catch (RuntimeException ex) {
+    }
+    Assert.assertEquals(1, arrayWriter.getCount());
+    try {
+      arrayWriter.write(positions.get(1));
+      Assert.fail("Expected a failed writer to reject writes");
+    } catch (JsonbException ex) {
+    }
+    try {
+      arrayWriter.close();
+      Assert.fail("Expected a failed writer to reject close");
+    } catch (IOException ex) {
+    }
+  }
+
+  @Test
+  public void testOpenLinesFailure() throws Exception {
+    ClosingOutputStream outputStream = new ClosingOutputStream();
+    JsonbLinesWriter<Object> linesWriter = new JsonbWriter()
+      .withSerializers(new FailingSerializer())
+      .openLines(outputStream);
+    linesWriter.write(positions.get(0));
+    try {
+      linesWriter.write(new FailingElement());
+      Assert.fail("Expected the document to fail");
+    } catch (RuntimeException ex) {
+    }
+    Assert.assertEquals(1, linesWriter.getCount());
+    try {
+      linesWriter.write(positions.get(1));
+      Assert.fail("Expected a failed writer to reject writes");
+    } catch (JsonbException ex) {
+    }
+    try {
+      linesWriter.close();
+      Assert.fail("Expected a failed writer to reject close");
+    } catch (IOException ex) {
+    }
+
+    linesWriter = new JsonbWriter().openLines(new ClosingOutputStream());
+    linesWriter.write(positions.get(0));
+    linesWriter.close();
+    linesWriter.close();
+    try {
+      linesWriter.write(positions.get(1));
+      Assert.fail("Expected a closed writer to reject writes");
+    } catch (JsonbException ex) {
+    }
+  }
+
+  @Test
+  public void testCollector() throws Exception {
+    ClosingOutputStream outputStream = new ClosingOutputStream();
+    long count = positions.stream().collect(new JsonbWriter().toArray(outputStream));
+    Assert.assertEquals(positions.size(), count);
+    Assert.assertFalse(outputStream.closed);
+    Position[] recovered = reader.unmarshal(new ByteArrayInputStream(outputStream.toByteArray()), Position[].class);
+    Assert.assertEquals(positions.size(), recovered.length);
+
+    outputStream = new ClosingOutputStream();
+    Assert.assertEquals(0L, (long) new ArrayList<Position>().stream().collect(new JsonbWriter().toArray(outputStream)));
+    Assert.assertEquals("[]", outputStream.toString("UTF-8"));
+  }
+
+  @Test
+  public void testWriteLines() throws Exception {
+    ClosingOutputStream outputStream = new ClosingOutputStream();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      long count = new JsonbWriter().withFormatting(true).writeLines(positions.iterator(), outputStream, executor, 8);
+      Assert.assertEquals(positions.size(), count);
+    } finally {
+      executor.shutdown();
+    }
+    Assert.assertFalse(outputStream.closed);
+    String ndjson = outputStream.toString("UTF-8");
+    Assert.assertEquals(positions.size(), ndjson.split("\n").length);
+    List<Position> recovered = reader.readValues(new ByteArrayInputStream(outputStream.toByteArray()), Position.class)
+      .collect(Collectors.toList());
+    Assert.assertEquals(positions, recovered);
+  }
+
+  @Test
+  public void testChannel() throws Exception {
+    /**
+     * Write well past the gathered buffer capacity with a multi-byte
+     * character in every element.
+     */
+    List<Position> large = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      Position p = Position.getInstance(i / 100.0, -i / 100.0);
+      p.setName("café " + i);
+      large.add(p);
+    }
+    JsonbWriter writer = new JsonbWriter();
+    byte[] expected = writer.marshalToBytes(large);
+    Assert.assertTrue(expected.length > 4 * 65536);
+    Path file = Files.createTempFile("jsonb", ".json");
+    try {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        Assert.assertEquals(expected.length, writer.marshal(large, channel));
+        Assert.assertTrue(channel.isOpen());
+      }
+      Assert.assertArrayEquals(expected, Files.readAllBytes(file));
+
+      try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        Assert.assertEquals(expected.length, (long) writer.marshal(large, channel, 0).get());
+      }
+      Assert.assertArrayEquals(expected, Files.readAllBytes(file));
+      try {
+        writer.encode(large, 2 * 65536);
+        Assert.fail("Buffer limit not enforced");
+      } catch (JsonbException ex) {
+        System.out.println("channel limit " + ex.getMessage());
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testPartialChannel() throws Exception {
+    List<Position> large = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      Position p = Position.getInstance(i / 100.0, -i / 100.0);
+      p.setName("café " + i);
+      large.add(p);
+    }
+    JsonbWriter writer = new JsonbWriter();
+    byte[] expected = writer.marshalToBytes(large);
+    Assert.assertTrue(expected.length > 4 * 65536);
+    PartialChannel channel = new PartialChannel();
+    Assert.assertEquals(expected.length, writer.marshal(large, (WritableByteChannel) channel));
+    Assert.assertArrayEquals(expected, channel.toByteArray());
+  }
+
+  @Test
+  public void testFailingChannel() throws Exception {
+    WritableByteChannel channel = new WritableByteChannel() {
+      @Override
+      public int write(ByteBuffer src) throws IOException {
+        throw new IOException("Connection reset");
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try {
+      new JsonbWriter().marshal(positions, channel);
+      Assert.fail("Expected the channel write error");
+    } catch (JsonbException ex) {
+      System.out.println("channel error " + ex.getMessage());
+    }
+  }
+
+  /**
+   * A non-blocking style channel that alternately accepts up to 1000 bytes and
+   * nothing.
+   */
+  private static class PartialChannel extends ByteArrayOutputStream implements WritableByteChannel {
+
+    private boolean accept;
+
+    @Override
+    public int write(ByteBuffer src) {
+      accept = !accept;
+      if (!accept) {
+        return 0;
+      }
+      int n = Math.min(1000, src.remaining());
+      byte[] bytes = new byte[n];
+      src.get(bytes);
+      write(bytes, 0, n);
+      return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+  }
+
+  public static class FailingElement {
+  }
+
+  /**
+   * A serializer that fails after writing part of its element.
+   */
+  public static class FailingSerializer implements JsonbSerializer<FailingElement> {
+
+    @Override
+    public void serialize(FailingElement obj, JsonGenerator generator, SerializationContext ctx) {
+      generator.writeStartObject();
+      generator.write("a", "a");
+      throw new IllegalStateException("Partial element");
+    }
+  }
+
+  private static class ClosingOutputStream extends ByteArrayOutputStream {
+
+    private boolean closed;
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+    }
+  }
+
+}
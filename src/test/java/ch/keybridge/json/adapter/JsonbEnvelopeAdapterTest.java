@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+import org.locationtech.jts.geom.Envelope;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbEnvelopeAdapterTest {
+
+  public JsonbEnvelopeAdapterTest() {
+  }
+
+  @Test
+  public void testEnvelope() throws Exception {
+    JsonbEnvelopeAdapter adapter = new JsonbEnvelopeAdapter();
+    Envelope envelope = new Envelope(-77.25, -76.5, 38.125, 39.0000004);
+    String text = adapter.adaptToJson(envelope);
+    Assert.assertEquals("ENV(-77.250000, 38.125000, -76.500000, 39.000000)", text);
+    Assert.assertEquals(new Envelope(-77.25, -76.5, 38.125, 39), adapter.adaptFromJson(text));
+    Assert.assertEquals(new Envelope(1, 3, 2, 4), adapter.adaptFromJson(" ENV ( 1,2 ,3e0, 4.0 ) "));
+    Assert.assertNull(adapter.adaptFromJson("ENV(1, 2, 3)"));
+    Assert.assertNull(adapter.adaptFromJson("ENV(1, 2, 3, x)"));
+    Assert.assertNull(adapter.adaptFromJson("POINT (1 2)"));
+  }
+
+  /**
+   * The output is identical to the DecimalFormat it replaces, including
+   * HALF_EVEN rounding of exact ties, when used from many threads.
+   */
+  @Test
+  public void testFormat() throws Exception {
+    JsonbEnvelopeAdapter adapter = new JsonbEnvelopeAdapter();
+    Assert.assertEquals("ENV(0.007812, 0.000000, 123456789.000000, 0.023438)",
+                        adapter.adaptToJson(new Envelope(0.0078125, 123456789, 0.0234375, 0)));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        long seed = t;
+        futures.add(executor.submit(() -> {
+          DecimalFormat decimalFormat = new DecimalFormat("0.000000", DecimalFormatSymbols.getInstance(Locale.ROOT));
+          Random random = new Random(seed);
+          for (int i = 0; i < 5000; i++) {
+            double x = (random.nextDouble() - 0.5) * 360;
+            double y = random.nextInt(1 << 20) / 1024.0;
+            String expected = "ENV(" + decimalFormat.format(x) + ", " + decimalFormat.format(y)
+                              + ", " + decimalFormat.format(x) + ", " + decimalFormat.format(y) + ")";
+            Assert.assertEquals(expected, adapter.adaptToJson(new Envelope(x, x, y, y)));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import ch.keybridge.json.JsonbUtility;
+import javax.json.bind.JsonbException;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.WKTReader;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbGeoJsonSerializerTest {
+
+  private static JsonbUtility jsonbUtility;
+
+  public JsonbGeoJsonSerializerTest() {
+  }
+
+  @BeforeClass
+  public static void setUpClass() {
+    jsonbUtility = JsonbUtility.builder()
+      .withFormatting(false)
+      .withSerializers(new JsonbGeoJsonSerializer(), new JsonbEnvelopeBboxSerializer())
+      .withDeserializers(new JsonbGeoJsonDeserializer(), new JsonbEnvelopeBboxDeserializer())
+      .build();
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    String[] wkts = {"POINT (-77.0364 38.8951)",
+                     "POINT Z (1 2 3)",
+                     "LINESTRING (0 0, 1 1, 2 0.5)",
+                     "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))",
+                     "MULTIPOINT ((0 0), (1 1))",
+                     "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+                     "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+                     "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))",
+                     "POLYGON EMPTY"};
+    for (String wkt : wkts) {
+      Feature feature = new Feature();
+      feature.geometry = new WKTReader().read(wkt);
+      feature.bbox = feature.geometry.getEnvelopeInternal();
+      String json = jsonbUtility.marshal(feature);
+      Feature recovered = jsonbUtility.unmarshal(json, Feature.class);
+      Assert.assertTrue(json, feature.geometry.equalsExact(recovered.geometry));
+      Assert.assertEquals(json, feature.bbox, recovered.bbox);
+    }
+    Feature feature = new Feature();
+    feature.geometry = new WKTReader().read("POINT Z (1 2 3)");
+    feature.bbox = new Envelope(1, 3, 2, 4);
+    Assert.assertEquals("{\"bbox\":[1.0,2.0,3.0,4.0],\"geometry\":{\"type\":\"Point\",\"coordinates\":[1.0,2.0,3.0]}}",
+                        jsonbUtility.marshal(feature));
+  }
+
+  @Test
+  public void testMemberOrder() throws Exception {
+    Feature feature = jsonbUtility.unmarshal("{\"geometry\":{\"crs\":{\"type\":\"name\",\"properties\":{}},"
+      + "\"coordinates\":[[[0,0],[1,0],[1,1],[0,0]]],\"bbox\":[0,0,1,1],\"type\":\"Polygon\"},"
+      + "\"bbox\":[0,0,0,1,1,1]}", Feature.class);
+    Assert.assertEquals(new WKTReader().read("POLYGON ((0 0, 1 0, 1 1, 0 0))"), feature.geometry);
+    Assert.assertEquals(new Envelope(0, 1, 0, 1), feature.bbox);
+  }
+
+  @Test
+  public void testSubtype() throws Exception {
+    Feature feature = new Feature();
+    feature.area = (Polygon) new WKTReader().read("POLYGON ((0 0, 1 0, 1 1, 0 0))");
+    String json = jsonbUtility.marshal(feature);
+    Assert.assertEquals(feature.area, jsonbUtility.unmarshal(json, Feature.class).area);
+  }
+
+  @Test(expected = JsonbException.class)
+  public void testInvalid() throws Exception {
+    jsonbUtility.unmarshal("{\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[[0,0]]]}}", Feature.class);
+  }
+
+  @Test
+  public void testNesting() throws Exception {
+    Feature feature = jsonbUtility.unmarshal("{\"geometry\":{\"type\":\"GeometryCollection\",\"geometries\":"
+      + "[{\"type\":\"GeometryCollection\",\"geometries\":[{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]]]}]}]}}", Feature.class);
+    Assert.assertEquals(new WKTReader().read("GEOMETRYCOLLECTION (GEOMETRYCOLLECTION (MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)))))"), feature.geometry);
+    /**
+     * Deeply nested coordinate arrays and collections are rejected rather
+     * than exhausting the stack.
+     */
+    int depth = 100000;
+    StringBuilder coordinates = new StringBuilder("{\"geometry\":{\"type\":\"LineString\",\"coordinates\":");
+    StringBuilder collection = new StringBuilder("{\"geometry\":");
+    for (int i = 0; i < depth; i++) {
+      coordinates.append('[');
+      collection.append("{\"type\":\"GeometryCollection\",\"geometries\":[");
+    }
+    for (int i = 0; i < depth; i++) {
+      coordinates.append(']');
+      collection.append("]}");
+    }
+    for (StringBuilder json : new StringBuilder[]{coordinates.append("}}"), collection.append("}")}) {
+      try {
+        jsonbUtility.unmarshal(json.toString(), Feature.class);
+        Assert.fail("Expected deep nesting to be rejected");
+      } catch (JsonbException ex) {
+      }
+    }
+  }
+
+  public static class Feature {
+
+    public Envelope bbox;
+    public Geometry geometry;
+    public Polygon area;
+  }
+
+}
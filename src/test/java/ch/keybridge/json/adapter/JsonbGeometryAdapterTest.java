@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.util.Random;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbGeometryAdapterTest {
+
+  public JsonbGeometryAdapterTest() {
+  }
+
+  @Test
+  public void testWkt() throws Exception {
+    JsonbGeometryAdapter adapter = new JsonbGeometryAdapter();
+    String[] wkts = {"POINT (-77.0364 38.8951)",
+                     "POINT Z(1.5 2.25 3.125)",
+                     "LINESTRING (0 0, 1 1, 2 0.5)",
+                     "LINEARRING (0 0, 1 0, 1 1, 0 0)",
+                     "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))",
+                     "MULTIPOINT ((0 0), (1 1))",
+                     "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+                     "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+                     "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))",
+                     "GEOMETRYCOLLECTION Z(POINT Z(1 2 NaN), POINT Z(1 2 3))",
+                     "POLYGON EMPTY",
+                     "GEOMETRYCOLLECTION (POINT EMPTY, POINT (1 2))"};
+    for (String wkt : wkts) {
+      Geometry geometry = new WKTReader().read(wkt);
+      Assert.assertEquals(new WKTWriter(3).write(geometry), adapter.adaptToJson(geometry));
+      Assert.assertEquals(wkt, adapter.adaptToJson(adapter.adaptFromJson(wkt)));
+      Assert.assertTrue(wkt, geometry.equalsExact(adapter.adaptFromJson(wkt)));
+    }
+    /**
+     * Other dialects read the same as JTS.
+     */
+    String[] dialects = {"point(1 2)",
+                         "POINT Z (1 2 3)",
+                         "POINT M (1 2 3)",
+                         "POINT ZM (1 2 3 4)",
+                         "MULTIPOINT (0 0, 1e1 -2.5E-1)",
+                         "MULTIPOINT ((0 0), EMPTY)",
+                         " LINESTRING(+1 .5,\n1.0 0.50) "};
+    for (String wkt : dialects) {
+      Geometry geometry = new WKTReader().read(wkt);
+      Geometry recovered = adapter.adaptFromJson(wkt);
+      Assert.assertTrue(wkt, geometry.equalsExact(recovered));
+      Assert.assertEquals(wkt, geometry.getCoordinate().getZ(), recovered.getCoordinate().getZ(), 0);
+    }
+    Assert.assertEquals(4326, adapter.adaptFromJson("SRID=4326;POINT (1 2)").getSRID());
+    Assert.assertNull(adapter.adaptFromJson("POINT (1 2"));
+    Assert.assertNull(adapter.adaptFromJson("POINT (1 2) x"));
+    Assert.assertNull(adapter.adaptFromJson("CIRCLE (1 2)"));
+  }
+
+  @Test
+  public void testNumbers() throws Exception {
+    Random random = new Random(1);
+    for (int i = 0; i < 10000; i++) {
+      double value = i < 5000 ? (random.nextDouble() - 0.5) * 360 : Double.longBitsToDouble(random.nextLong());
+      if (Double.isNaN(value) || Double.isInfinite(value)) {
+        continue;
+      }
+      StringBuilder sb = new StringBuilder();
+      WktCodec.appendNumber(value, sb);
+      Assert.assertTrue(sb.toString(), sb.length() <= 26);
+      Assert.assertEquals(sb.toString(), value, WktCodec.DEFAULT.read("POINT (" + sb + " 0)").getCoordinate().x, 0);
+    }
+    String[] numbers = {"0.1", "0.30000000000000004", "-77.0364", "0.0000001", "12345678901", "1", "100000000000000000000",
+                        "-0", "2.5E-310", "1E21", "-1.5E300"};
+    for (String number : numbers) {
+      StringBuilder sb = new StringBuilder();
+      WktCodec.appendNumber(Double.parseDouble(number), sb);
+      Assert.assertEquals(number, sb.toString());
+    }
+    Assert.assertEquals("POINT (-0 4.9E-324)", WktCodec.DEFAULT.write(new GeometryFactory().createPoint(new Coordinate(-0.0, Double.MIN_VALUE))));
+  }
+
+  @Test
+  public void testPrecisionModel() throws Exception {
+    GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(1000), 4326);
+    JsonbGeometryAdapter adapter = new JsonbGeometryAdapter(geometryFactory);
+    Geometry geometry = adapter.adaptFromJson("LINESTRING (1.23456 2.34567, 3.0004 4.9996)");
+    Assert.assertEquals("LINESTRING (1.235 2.346, 3 5)", adapter.adaptToJson(geometry));
+    Assert.assertEquals(4326, geometry.getSRID());
+    Assert.assertSame(geometryFactory, geometry.getFactory());
+    /**
+     * WKB input, when enabled, is built with the same factory.
+     */
+    Geometry wkb = new JsonbGeometryAdapter(geometryFactory, true).adaptFromJson(new JsonbGeometryWkbAdapter().adaptToJson(new WKTReader().read("POINT (1.23456 2.34567)")));
+    Assert.assertSame(geometryFactory, wkb.getFactory());
+    Assert.assertEquals("POINT (1.235 2.346)", adapter.adaptToJson(wkb));
+
+    Assert.assertEquals(new JsonbGeometryAdapter(), new JsonbGeometryAdapter(new GeometryFactory()));
+    Assert.assertEquals(adapter, new JsonbGeometryAdapter(new GeometryFactory(new PrecisionModel(1000), 4326)));
+    Assert.assertNotEquals(adapter, new JsonbGeometryAdapter(new GeometryFactory(new PrecisionModel(1000), 0)));
+    Assert.assertNotEquals(adapter, new JsonbGeometryAdapter());
+    Assert.assertNotEquals(adapter, new JsonbGeometryAdapter(geometryFactory, true));
+  }
+
+  @Test(expected = ParseException.class)
+  public void testParseError() throws Exception {
+    WktCodec.DEFAULT.read("LINESTRING (1 2, 3)");
+  }
+
+}
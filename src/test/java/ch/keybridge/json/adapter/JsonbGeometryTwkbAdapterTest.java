@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import ch.keybridge.json.JsonbCache;
+import java.util.Base64;
+import javax.json.bind.JsonbConfig;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.precision.GeometryPrecisionReducer;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbGeometryTwkbAdapterTest {
+
+  public JsonbGeometryTwkbAdapterTest() {
+  }
+
+  @Test
+  public void testTwkb() throws Exception {
+    JsonbGeometryTwkbAdapter adapter = new JsonbGeometryTwkbAdapter();
+    String[] wkts = {"POINT (-77.0364 38.8951)",
+                     "POINT Z (1.5 2.25 3.125)",
+                     "LINESTRING (0 0, 1 1, 2 0.5)",
+                     "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))",
+                     "MULTIPOINT ((0 0), (1 1))",
+                     "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+                     "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+                     "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))",
+                     "POLYGON EMPTY"};
+    for (String wkt : wkts) {
+      Geometry geometry = new WKTReader().read(wkt);
+      Geometry recovered = adapter.adaptFromJson(adapter.adaptToJson(geometry));
+      Assert.assertTrue(wkt, geometry.equalsExact(recovered));
+      Assert.assertEquals(wkt, geometry.getCoordinate() == null ? Double.NaN : geometry.getCoordinate().getZ(),
+                          recovered.getCoordinate() == null ? Double.NaN : recovered.getCoordinate().getZ(), 0);
+    }
+    /**
+     * PostGIS: ST_AsTWKB('LINESTRING(1 1,5 5)'::geometry) = \x02000202020808
+     */
+    Assert.assertEquals(new WKTReader().read("LINESTRING (1 1, 5 5)"), new JsonbGeometryTwkbAdapter(0).adaptFromJson("AgACAgIICA=="));
+    Assert.assertEquals("AgACAgIICA==", new JsonbGeometryTwkbAdapter(0).adaptToJson(new WKTReader().read("LINESTRING (1 1, 5 5)")));
+  }
+
+  @Test
+  public void testNesting() throws Exception {
+    JsonbGeometryTwkbAdapter adapter = new JsonbGeometryTwkbAdapter();
+    Geometry nested = new WKTReader().read("GEOMETRYCOLLECTION (GEOMETRYCOLLECTION (POINT (1 2)), POINT (3 4))");
+    Assert.assertTrue(nested.equalsExact(adapter.adaptFromJson(adapter.adaptToJson(nested))));
+    /**
+     * Each level is a collection header (type 7, no flags) with one member.
+     */
+    byte[] deep = new byte[3 * 100000];
+    for (int i = 0; i < deep.length; i += 3) {
+      deep[i] = 0x07;
+      deep[i + 2] = 0x01;
+    }
+    Assert.assertNull(adapter.adaptFromJson(Base64.getEncoder().encodeToString(deep)));
+  }
+
+  @Test
+  public void testMalformedVarint() throws Exception {
+    JsonbGeometryTwkbAdapter adapter = new JsonbGeometryTwkbAdapter();
+    /**
+     * A line string whose point count has bit 63 set, a varint longer than 64
+     * bits and a varint cut off by the end of the input.
+     */
+    byte[][] inputs = new byte[][]{
+      {0x02, 0x00, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01},
+      {0x02, 0x00, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01},
+      {0x02, 0x00, (byte) 0x80}};
+    for (byte[] input : inputs) {
+      Assert.assertNull(adapter.adaptFromJson(Base64.getEncoder().encodeToString(input)));
+    }
+  }
+
+  @Test
+  public void testMissingZ() throws Exception {
+    JsonbGeometryTwkbAdapter adapter = new JsonbGeometryTwkbAdapter();
+    Geometry recovered = adapter.adaptFromJson(adapter.adaptToJson(new WKTReader().read("LINESTRING Z (0 0 1, 1 1 NaN)")));
+    Assert.assertTrue(new WKTReader().read("LINESTRING (0 0, 1 1)").equalsExact(recovered));
+    Assert.assertTrue(Double.isNaN(recovered.getCoordinates()[1].getZ()));
+    Assert.assertTrue(Double.isNaN(recovered.getCoordinates()[0].getZ()));
+  }
+
+  @Test
+  public void testPolyline() throws Exception {
+    JsonbGeometryPolylineAdapter adapter = new JsonbGeometryPolylineAdapter();
+    Geometry line = new WKTReader().read("LINESTRING (-120.2 38.5, -120.95 40.7, -126.453 43.252)");
+    Assert.assertEquals("_p~iF~ps|U_ulLnnqC_mqNvxq`@", adapter.adaptToJson(line));
+    Assert.assertEquals(line, adapter.adaptFromJson("_p~iF~ps|U_ulLnnqC_mqNvxq`@"));
+    for (String wkt : new String[]{"POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))",
+                                   "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+                                   "POLYGON EMPTY",
+                                   "LINESTRING EMPTY"}) {
+      Geometry geometry = new WKTReader().read(wkt);
+      Assert.assertTrue(wkt, geometry.equalsExact(adapter.adaptFromJson(adapter.adaptToJson(geometry))));
+    }
+    Assert.assertNull(adapter.adaptFromJson("_p~iF~ps|U_"));
+  }
+
+  @Test
+  public void testEquality() {
+    Assert.assertEquals(new JsonbGeometryTwkbAdapter(7), new JsonbGeometryTwkbAdapter(7));
+    Assert.assertNotEquals(new JsonbGeometryTwkbAdapter(1), new JsonbGeometryTwkbAdapter(7));
+    Assert.assertNotEquals(new JsonbGeometryTwkbAdapter(5), new JsonbGeometryTwkb5Adapter());
+    Assert.assertEquals(new JsonbGeometryPolylineAdapter(5), new JsonbGeometryPolylineAdapter());
+    Assert.assertNotEquals(new JsonbGeometryPolylineAdapter(5), new JsonbGeometryPolylineAdapter(6));
+    /**
+     * Differently parameterized adapters get their own Jsonb instance.
+     */
+    Assert.assertNotSame(JsonbCache.get(new JsonbConfig().withAdapters(new JsonbGeometryTwkbAdapter(1))),
+                         JsonbCache.get(new JsonbConfig().withAdapters(new JsonbGeometryTwkbAdapter(7))));
+  }
+
+  @Test
+  public void testSize() throws Exception {
+    Geometry polygon = JsonbGeometryWkbAdapterTest.polygon(1000);
+    String wkt = new JsonbGeometryAdapter().adaptToJson(polygon);
+    String twkb = new JsonbGeometryTwkbAdapter().adaptToJson(polygon);
+    String polyline = new JsonbGeometryPolylineAdapter().adaptToJson(polygon);
+    System.out.println("testSize polygon(1000) WKT " + wkt.length() + " TWKB " + twkb.length() + " polyline " + polyline.length());
+    Assert.assertTrue(twkb.length() * 5 < wkt.length());
+    Assert.assertTrue(polyline.length() * 5 < wkt.length());
+    /**
+     * The decoded geometry equals the input reduced to the same precision.
+     */
+    Geometry reduced = GeometryPrecisionReducer.reducePointwise(polygon, new PrecisionModel(1e6));
+    Assert.assertTrue(reduced.equalsExact(new JsonbGeometryTwkbAdapter().adaptFromJson(twkb), 1e-9));
+    reduced = GeometryPrecisionReducer.reducePointwise(polygon, new PrecisionModel(1e5));
+    Assert.assertTrue(reduced.equalsExact(new JsonbGeometryPolylineAdapter().adaptFromJson(polyline), 1e-9));
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.util.GeometricShapeFactory;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbGeometryWkbAdapterTest {
+
+  public JsonbGeometryWkbAdapterTest() {
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Geometry polygon = polygon(1000);
+    Geometry point = new WKTReader().read("POINT Z (-77.123456 38.654321 12.5)");
+    point.setSRID(4326);
+    for (JsonbGeometryWkbAdapter adapter : new JsonbGeometryWkbAdapter[]{new JsonbGeometryWkbAdapter(), new JsonbGeometryCompressedWkbAdapter()}) {
+      Geometry recovered = adapter.adaptFromJson(adapter.adaptToJson(polygon));
+      Assert.assertTrue(polygon.equalsExact(recovered));
+      Assert.assertTrue(Double.isNaN(recovered.getCoordinate().getZ()));
+
+      recovered = adapter.adaptFromJson(adapter.adaptToJson(point));
+      Assert.assertTrue(point.equalsExact(recovered));
+      Assert.assertEquals(12.5, recovered.getCoordinate().getZ(), 0);
+      Assert.assertEquals(4326, recovered.getSRID());
+    }
+  }
+
+  @Test
+  public void testDetect() throws Exception {
+    Geometry polygon = polygon(100);
+    JsonbGeometryAdapter wktAdapter = new JsonbGeometryAdapter(new GeometryFactory(), true);
+    String wkt = wktAdapter.adaptToJson(polygon);
+    String wkb = new JsonbGeometryWkbAdapter().adaptToJson(polygon);
+    String compressed = new JsonbGeometryCompressedWkbAdapter().adaptToJson(polygon);
+    for (String text : new String[]{wkt, wkb, compressed, "0101000000000000000000F03F0000000000000040"}) {
+      Assert.assertNotNull(text, wktAdapter.adaptFromJson(text));
+      Assert.assertNotNull(text, new JsonbGeometryWkbAdapter().adaptFromJson(text));
+    }
+    Assert.assertTrue(polygon.equalsExact(wktAdapter.adaptFromJson(compressed)));
+    Assert.assertNull(new JsonbGeometryAdapter().adaptFromJson(wkb));
+    Assert.assertNull(new JsonbGeometryWkbAdapter().adaptFromJson("AAAA"));
+    /**
+     * A small compressed payload that inflates past the size limit.
+     */
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    deflater.setInput(new byte[JsonbGeometryWkbAdapter.MAX_INFLATED_SIZE + 1]);
+    deflater.finish();
+    byte[] bomb = new byte[64 * 1024];
+    int length = deflater.deflate(bomb);
+    deflater.end();
+    Assert.assertNull(wktAdapter.adaptFromJson(Base64.getEncoder().encodeToString(Arrays.copyOf(bomb, length))));
+
+    Assert.assertEquals(new JsonbGeometryWkbAdapter(true), new JsonbGeometryWkbAdapter(true));
+    Assert.assertNotEquals(new JsonbGeometryWkbAdapter(true), new JsonbGeometryWkbAdapter(false));
+    System.out.println("testDetect polygon(100) WKT " + wkt.length() + " WKB " + wkb.length() + " compressed " + compressed.length());
+  }
+
+  @Test
+  public void testMalformed() throws Exception {
+    /**
+     * A polygon claiming 58 rings in a 10 byte payload, and a line string
+     * whose point count overflows to a negative array size.
+     */
+    JsonbGeometryAdapter wktAdapter = new JsonbGeometryAdapter(new GeometryFactory(), true);
+    for (String text : new String[]{"AQMAAAAAAAA6AA==", "AAAAAAKAAA=="}) {
+      Assert.assertNull(text, new JsonbGeometryWkbAdapter().adaptFromJson(text));
+      Assert.assertNull(text, wktAdapter.adaptFromJson(text));
+      Assert.assertNull(text, new JsonbGeometryAdapter().adaptFromJson(text));
+    }
+    /**
+     * Collections nested past the limit.
+     */
+    StringBuilder hex = new StringBuilder();
+    for (int i = 0; i <= JsonbGeometryWkbAdapter.MAX_NESTING + 1; i++) {
+      hex.append("010700000001000000");
+    }
+    hex.append("0101000000000000000000F03F0000000000000040");
+    Assert.assertNull(new JsonbGeometryWkbAdapter().adaptFromJson(hex.toString()));
+  }
+
+  /**
+   * A circular polygon with full precision geographic coordinates.
+   */
+  static Geometry polygon(int points) {
+    GeometricShapeFactory shapeFactory = new GeometricShapeFactory(new GeometryFactory());
+    shapeFactory.setCentre(new Coordinate(-77.0364, 38.8951));
+    shapeFactory.setSize(0.25);
+    shapeFactory.setNumPoints(points);
+    return shapeFactory.createCircle();
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import ch.keybridge.json.JsonbReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import javax.json.bind.JsonbException;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class FastNumberParserTest {
+
+  public FastNumberParserTest() {
+  }
+
+  @Test
+  public void testParseDouble() {
+    /**
+     * Shortest representations of random doubles, random decimal strings
+     * across the exponent range, and known difficult cases.
+     */
+    Random r = new Random(1);
+    for (int i = 0; i < 200000; i++) {
+      double value = Double.longBitsToDouble(r.nextLong());
+      if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+        assertParse(Double.toString(value));
+      }
+      StringBuilder digits = new StringBuilder();
+      int count = 1 + r.nextInt(19);
+      for (int j = 0; j < count; j++) {
+        digits.append((char) ('0' + r.nextInt(10)));
+      }
+      assertParse(digits + "e" + (r.nextInt(700) - 350));
+      assertParse("-" + digits.insert(r.nextInt(count) + 1, '.'));
+      assertParse((r.nextDouble() - 0.5) * Math.pow(10, r.nextInt(20)) + "");
+    }
+    String[] cases = {"0", "-0", "0.0", "1", "-1", "1e23", "9007199254740993", "2.2250738585072011e-308",
+                      "4.9e-324", "1.7976931348623157e308", "1.8e308", "1e-400", "0.1", "123456789012345678901234",
+                      "0.000000000000000000000000000000123", "7.4e-6", "38.123456", "-77.000001",
+                      "9223372036854775807", "18446744073709551615", "1.00000000000000011102230246251565404236316680908203125",
+                      "NaN", "Infinity", "-Infinity", "1E5", "1e+5", "+1", "00012.5", "89255.0e-22", "2.4703282292062328e-324"};
+    for (String text : cases) {
+      assertParse(text);
+    }
+  }
+
+  @Test
+  public void testParseLong() {
+    Random r = new Random(1);
+    for (int i = 0; i < 200000; i++) {
+      long value = r.nextLong() >> r.nextInt(64);
+      Assert.assertEquals(value, FastNumberParser.parseLong(Long.toString(value)));
+    }
+    Assert.assertEquals(Long.MAX_VALUE, FastNumberParser.parseLong("9223372036854775807"));
+    Assert.assertEquals(Long.MIN_VALUE, FastNumberParser.parseLong("-9223372036854775808"));
+    for (String text : new String[]{"9223372036854775808", "1.5", "1e3", "", "-", "12345678x"}) {
+      try {
+        FastNumberParser.parseLong(text);
+        Assert.fail(text);
+      } catch (NumberFormatException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void testEightDigits() {
+    byte[] bytes = "12345678".getBytes(StandardCharsets.US_ASCII);
+    long word = 0;
+    for (int i = 7; i >= 0; i--) {
+      word = word << 8 | bytes[i];
+    }
+    Assert.assertTrue(FastNumberParser.isEightDigits(word));
+    Assert.assertEquals(12345678, FastNumberParser.parseEightDigits(word));
+    Assert.assertFalse(FastNumberParser.isEightDigits(word + 0x0A));
+    Assert.assertFalse(FastNumberParser.isEightDigits(word - 2));
+  }
+
+  @Test
+  public void testDeserialize() {
+    JsonbReader reader = new JsonbReader().withDeserializers(new JsonbDoubleDeserializer(), new JsonbLongDeserializer(),
+                                                             new JsonbDoubleArrayDeserializer(), new JsonbLongArrayDeserializer());
+    Sample sample = reader.unmarshal("{\"boxed\":38.123456,\"primitive\":-7.5e-3,\"count\":\"42\",\"total\":9007199254740993,"
+      + "\"values\":[1,2.5,-3e2,\"4\"],\"ids\":[1,-2,123456789012],\"empty\":[],\"missing\":null}", Sample.class);
+    Assert.assertEquals(38.123456, sample.boxed, 0);
+    Assert.assertEquals(-7.5e-3, sample.primitive, 0);
+    Assert.assertEquals(42L, (long) sample.count);
+    Assert.assertEquals(9007199254740993L, sample.total);
+    Assert.assertArrayEquals(new double[]{1, 2.5, -300, 4}, sample.values, 0);
+    Assert.assertArrayEquals(new long[]{1, -2, 123456789012L}, sample.ids);
+    Assert.assertEquals(0, sample.empty.length);
+    Assert.assertNull(sample.missing);
+  }
+
+  @Test(expected = JsonbException.class)
+  public void testDeserializeInvalid() {
+    new JsonbReader().withDeserializers(new JsonbLongDeserializer()).unmarshal("{\"count\":1.5}", Sample.class);
+  }
+
+  private static void assertParse(String text) {
+    double expected = Double.parseDouble(text);
+    Assert.assertEquals(text, Double.doubleToLongBits(expected), Double.doubleToLongBits(FastNumberParser.parseDouble(text)));
+  }
+
+  public static class Sample {
+
+    public Double boxed;
+    public double primitive;
+    public Long count;
+    public long total;
+    public double[] values;
+    public long[] ids;
+    public double[] empty;
+    public Double missing;
+  }
+
+}
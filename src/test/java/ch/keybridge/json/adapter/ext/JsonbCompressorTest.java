@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPOutputStream;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbCompressorTest {
+
+  public JsonbCompressorTest() {
+  }
+
+  @Test
+  public void testCompress() throws Exception {
+    JsonbCompressor compressor = JsonbCompressor.DEFAULT;
+    /**
+     * Small input is stored: marker, length and the bytes.
+     */
+    byte[] small = {1, 2, 3};
+    Assert.assertArrayEquals(new byte[]{0, 3, 1, 2, 3}, compressor.compress(small));
+    Assert.assertArrayEquals(small, compressor.decompress(compressor.compress(small)));
+    Assert.assertArrayEquals(new byte[0], compressor.decode(compressor.encode(new byte[0])));
+    /**
+     * Compressible input is deflated; random input is stored.
+     */
+    byte[] text = repeat("The quick brown fox jumps over the lazy dog. ", 200);
+    byte[] compressed = compressor.compress(text);
+    Assert.assertEquals(JsonbCompressor.DEFLATED, compressed[0]);
+    Assert.assertTrue(compressed.length < text.length / 10);
+    Assert.assertArrayEquals(text, compressor.decompress(compressed));
+    byte[] random = new byte[5000];
+    new Random(1).nextBytes(random);
+    Assert.assertEquals(JsonbCompressor.STORED, compressor.compress(random)[0]);
+    Assert.assertArrayEquals(random, compressor.decode(compressor.encode(random)));
+    /**
+     * Base64 without line separators, or URL-safe.
+     */
+    String encoded = compressor.encode(random);
+    Assert.assertTrue(encoded.indexOf('\n') < 0 && encoded.indexOf('\r') < 0);
+    JsonbCompressor urlSafe = JsonbCompressor.builder().withUrlSafe(true).withLevel(9).withThreshold(0).build();
+    String urlEncoded = urlSafe.encode(random);
+    Assert.assertTrue(urlEncoded.indexOf('+') < 0 && urlEncoded.indexOf('/') < 0 && urlEncoded.indexOf('=') < 0);
+    Assert.assertArrayEquals(random, compressor.decode(urlEncoded));
+    Assert.assertEquals(JsonbCompressor.DEFLATED, urlSafe.compress(repeat("ab", 10))[0]);
+    Assert.assertEquals(urlSafe, JsonbCompressor.builder().withUrlSafe(true).withLevel(9).withThreshold(0).build());
+    Assert.assertNotEquals(urlSafe, compressor);
+  }
+
+  @Test
+  public void testLegacyGzip() throws Exception {
+    byte[] text = repeat("legacy ", 100);
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(byteStream)) {
+      gzipStream.write(text);
+    }
+    String mime = Base64.getMimeEncoder().encodeToString(byteStream.toByteArray());
+    JsonbBase64CompressedAdapter adapter = new JsonbBase64CompressedAdapter();
+    Assert.assertArrayEquals(text, adapter.adaptFromJson(mime));
+    Assert.assertArrayEquals(text, adapter.adaptFromJson(adapter.adaptToJson(text)));
+    Assert.assertNull(adapter.adaptFromJson("AQoA"));
+  }
+
+  @Test
+  public void testString() throws Exception {
+    JsonbStringCompressedAdapter adapter = new JsonbStringCompressedAdapter();
+    String text = new String(repeat("Grüße, 世界! ", 50), "UTF-8");
+    String encoded = adapter.adaptToJson(text);
+    Assert.assertTrue(encoded.length() < text.length());
+    Assert.assertEquals(text, adapter.adaptFromJson(encoded));
+    Assert.assertEquals(new JsonbStringCompressedAdapter(), adapter);
+  }
+
+  @Test
+  public void testDecode() throws Exception {
+    JsonbCompressor compressor = JsonbCompressor.builder().withMaxSize(10000).build();
+    byte[] text = repeat("The quick brown fox jumps over the lazy dog. ", 200);
+    String encoded = compressor.encode(text);
+    Assert.assertEquals(text.length, compressor.decodedLength(encoded));
+    byte[] buffer = new byte[text.length + 10];
+    Assert.assertEquals(text.length, compressor.decode(encoded, buffer, 10));
+    Assert.assertArrayEquals(text, Arrays.copyOfRange(buffer, 10, buffer.length));
+    /**
+     * Line breaks, as in MIME base64, are skipped.
+     */
+    String mime = Base64.getMimeEncoder().encodeToString(Base64.getDecoder().decode(encoded));
+    Assert.assertTrue(mime.contains("\r\n"));
+    Assert.assertArrayEquals(text, compressor.decode(mime));
+    byte[] random = new byte[3000];
+    new Random(1).nextBytes(random);
+    Assert.assertArrayEquals(random, compressor.decode(JsonbCompressor.builder().withUrlSafe(true).build().encode(random)));
+    try {
+      compressor.decode(encoded, new byte[text.length - 1], 0);
+      Assert.fail("buffer overflow");
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      compressor.decode("AQ#A");
+      Assert.fail("illegal character");
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  /**
+   * A payload declaring, or inflating to, more than the maximum size is
+   * rejected.
+   */
+  @Test
+  public void testMaxSize() throws Exception {
+    JsonbCompressor compressor = JsonbCompressor.builder().withMaxSize(1000).build();
+    String bomb = JsonbCompressor.DEFAULT.encode(new byte[1_000_000]);
+    Assert.assertTrue(bomb.length() < 2000);
+    try {
+      compressor.decode(bomb);
+      Assert.fail("maximum size");
+    } catch (DataFormatException expected) {
+    }
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(byteStream)) {
+      gzipStream.write(new byte[1_000_000]);
+    }
+    try {
+      compressor.decode(Base64.getMimeEncoder().encodeToString(byteStream.toByteArray()));
+      Assert.fail("maximum size");
+    } catch (DataFormatException expected) {
+    }
+    Assert.assertNull(new JsonbBase64CompressedAdapter(compressor).adaptFromJson(bomb));
+  }
+
+  @Test
+  public void testDictionary() throws Exception {
+    Random random = new Random(1);
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      samples.add(record(random));
+    }
+    JsonbDictionary dictionary = JsonbDictionary.train(9001, samples, 4096);
+    Assert.assertTrue(dictionary.getContent().length <= 4096);
+    JsonbCompressor compressor = JsonbCompressor.builder().withDictionary(dictionary).withThreshold(0).build();
+    int plain = 0;
+    int trained = 0;
+    for (int i = 0; i < 100; i++) {
+      byte[] record = record(random);
+      byte[] compressed = compressor.compress(record);
+      Assert.assertEquals(JsonbCompressor.DICTIONARY, compressed[0]);
+      Assert.assertArrayEquals(record, compressor.decompress(compressed));
+      Assert.assertArrayEquals(record, compressor.decode(compressor.encode(record)));
+      plain += JsonbCompressor.builder().withThreshold(0).build().compress(record).length;
+      trained += compressed.length;
+    }
+    Assert.assertTrue(plain + " / " + trained, trained * 2 < plain);
+    /**
+     * Other compressors decode once the dictionary is registered.
+     */
+    String encoded = compressor.encode(samples.get(0));
+    try {
+      JsonbCompressor.DEFAULT.decode(encoded);
+      Assert.fail("unknown dictionary");
+    } catch (DataFormatException expected) {
+    }
+    JsonbDictionaryRegistry.register(dictionary);
+    try {
+      Assert.assertArrayEquals(samples.get(0), JsonbCompressor.DEFAULT.decode(encoded));
+      JsonbDictionaryRegistry.register(new JsonbDictionary(9001, dictionary.getContent()));
+      try {
+        JsonbDictionaryRegistry.register(new JsonbDictionary(9001, new byte[]{1}));
+        Assert.fail("duplicate id");
+      } catch (IllegalStateException expected) {
+      }
+    } finally {
+      JsonbDictionaryRegistry.unregister(9001);
+    }
+  }
+
+  /**
+   * A small JSON record typical of a telemetry message.
+   */
+  private static byte[] record(Random random) throws Exception {
+    String[] status = {"ACTIVE", "INACTIVE", "MAINTENANCE"};
+    return ("{\"deviceId\":\"sensor-" + random.nextInt(10000) + "\",\"latitude\":" + (38 + random.nextDouble())
+            + ",\"longitude\":" + (-77 - random.nextDouble()) + ",\"status\":\"" + status[random.nextInt(3)]
+            + "\",\"temperature\":" + random.nextInt(40) + ",\"updated\":\"2026-10-" + (10 + random.nextInt(20))
+            + "T12:" + (10 + random.nextInt(50)) + ":00Z\",\"firmware\":\"v2.4." + random.nextInt(9) + "\"}").getBytes("UTF-8");
+  }
+
+  @Test(expected = DataFormatException.class)
+  public void testTruncated() throws Exception {
+    byte[] compressed = JsonbCompressor.DEFAULT.compress(repeat("truncated ", 100));
+    JsonbCompressor.DEFAULT.decompress(Arrays.copyOf(compressed, compressed.length - 4));
+  }
+
+  @Test(expected = DataFormatException.class)
+  public void testTruncatedText() throws Exception {
+    String encoded = JsonbCompressor.DEFAULT.encode(repeat("truncated ", 100));
+    JsonbCompressor.DEFAULT.decode(encoded.substring(0, encoded.length() - 8));
+  }
+
+  @Test
+  public void testTamperedLength() throws Exception {
+    byte[] compressed = JsonbCompressor.DEFAULT.compress(repeat("tampered ", 100));
+    Assert.assertEquals(JsonbCompressor.DEFLATED, compressed[0]);
+    /**
+     * Declare one byte less than the deflate stream holds; 900 is a two-byte
+     * varint, so the header size is unchanged.
+     */
+    compressed[1]--;
+    try {
+      JsonbCompressor.DEFAULT.decompress(compressed);
+      Assert.fail("Tampered length not detected");
+    } catch (DataFormatException ex) {
+      System.out.println("tampered length " + ex.getMessage());
+    }
+    try {
+      JsonbCompressor.DEFAULT.decode(Base64.getEncoder().encodeToString(compressed));
+      Assert.fail("Tampered length not detected in text");
+    } catch (DataFormatException ex) {
+      System.out.println("tampered length text " + ex.getMessage());
+    }
+    /**
+     * Trailing bytes after the deflate stream are rejected too.
+     */
+    byte[] trailing = Arrays.copyOf(JsonbCompressor.DEFAULT.compress(repeat("tampered ", 100)), compressed.length + 1);
+    try {
+      JsonbCompressor.DEFAULT.decompress(trailing);
+      Assert.fail("Trailing data not detected");
+    } catch (DataFormatException ex) {
+      System.out.println("trailing " + ex.getMessage());
+    }
+  }
+
+  private static byte[] repeat(String text, int count) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      sb.append(text);
+    }
+    return sb.toString().getBytes("UTF-8");
+  }
+
+}
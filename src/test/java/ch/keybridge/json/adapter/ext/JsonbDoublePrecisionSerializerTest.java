@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.adapter.ext;
+
+import ch.keybridge.json.JsonbWriter;
+import java.math.BigDecimal;
+import java.util.Random;
+import javax.json.bind.annotation.JsonbTypeSerializer;
+import org.junit.*;
+
+/**
+ *
+ * @author Key Bridge
+ */
+public class JsonbDoublePrecisionSerializerTest {
+
+  public JsonbDoublePrecisionSerializerTest() {
+  }
+
+  @Test
+  public void testRound() {
+    /**
+     * Compare against the BigDecimal reference, including exact ties and
+     * values just beside them.
+     */
+    Random r = new Random(1);
+    for (int i = 0; i < 200000; i++) {
+      int decimals = r.nextInt(FixedPrecision.MAX_DECIMALS + 1);
+      double value;
+      switch (i % 4) {
+        case 0:
+          value = (r.nextDouble() - 0.5) * Math.pow(10, r.nextInt(12));
+          break;
+        case 1:
+          value = (r.nextInt(2000000) - 1000000 + 0.5) / Math.pow(10, decimals);
+          break;
+        case 2:
+          value = Math.nextUp((r.nextInt(2000) + 0.5) / Math.pow(10, decimals));
+          break;
+        default:
+          value = r.nextDouble() * 1e16;
+      }
+      double expected = new BigDecimal(value).setScale(decimals, BigDecimal.ROUND_HALF_UP).doubleValue();
+      Assert.assertEquals(value + " " + decimals, expected, FixedPrecision.round(value, decimals), 0);
+    }
+  }
+
+  @Test
+  public void testFormat() {
+    Assert.assertEquals("1.23", FixedPrecision.format(1230, 3));
+    Assert.assertEquals("-0.0001", FixedPrecision.format(-1, 4));
+    Assert.assertEquals("5.0", FixedPrecision.format(5, 0));
+    Assert.assertEquals("12.0", FixedPrecision.format(1200, 2));
+    Assert.assertEquals("0.0", FixedPrecision.format(0, 6));
+  }
+
+  @Test
+  public void testSerialize() {
+    Measurement m = new Measurement();
+    m.latitude = 38.123456789;
+    m.longitude = 0.00012;
+    m.elevation = Double.NaN;
+    m.level = 0.1;
+    m.value = 1.005;
+    Assert.assertEquals("{\"elevation\":null,\"latitude\":38.123457,\"level\":0.1,\"longitude\":0.0001,\"value\":1.0}",
+                        new JsonbWriter().marshal(m));
+  }
+
+  @Test
+  public void testFloat32Overflow() {
+    Measurement m = new Measurement();
+    m.level = 1e300;
+    Assert.assertEquals("{\"level\":null}", new JsonbWriter().marshal(m));
+    m.level = -1e300;
+    Assert.assertEquals("{\"level\":null}", new JsonbWriter().marshal(m));
+  }
+
+  public static class Measurement {
+
+    @JsonbTypeSerializer(JsonbDouble06PrecisionSerializer.class)
+    public Double latitude;
+    @JsonbTypeSerializer(JsonbDouble04PrecisionSerializer.class)
+    public Double longitude;
+    @JsonbTypeSerializer(JsonbDouble02PrecisionSerializer.class)
+    public Double elevation;
+    @JsonbTypeSerializer(JsonbFloat32PrecisionSerializer.class)
+    public Double level;
+    @JsonbTypeSerializer(JsonbDouble02PrecisionSerializer.class)
+    public Double value;
+  }
+
+}
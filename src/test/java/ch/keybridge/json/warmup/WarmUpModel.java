@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.json.warmup;
+
+/**
+ * Warm-up test model with a nested and a self-referencing property.
+ *
+ * @author Key Bridge
+ */
+public class WarmUpModel {
+
+  private String name;
+  private int count;
+  private WarmUpItem item;
+  private WarmUpModel parent;
+
+  public WarmUpModel() {
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public void setCount(int count) {
+    this.count = count;
+  }
+
+  public WarmUpItem getItem() {
+    return item;
+  }
+
+  public void setItem(WarmUpItem item) {
+    this.item = item;
+  }
+
+  public WarmUpModel getParent() {
+    return parent;
+  }
+
+  public void setParent(WarmUpModel parent) {
+    this.parent = parent;
+  }
+
+}